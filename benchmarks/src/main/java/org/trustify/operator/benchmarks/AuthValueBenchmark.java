@@ -0,0 +1,56 @@
+package org.trustify.operator.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.configmap.ServerConfigMap;
+import org.trustify.operator.controllers.setup.TestContext;
+import org.trustify.operator.controllers.setup.TestFixtures;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of deriving the auth.yaml of the server ConfigMap, compared by match() on every reconciliation and rendered
+ * again by desired() unless the desired state cache of the reconciliation already holds it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthValueBenchmark {
+
+    /**
+     * EXTERNAL is left out: its OIDC TLS secret is read with the Kubernetes client.
+     */
+    @Param({"MINIMAL", "EMBEDDED"})
+    public Fixtures.Complexity complexity;
+
+    private Trustify cr;
+    private TestContext cachedContext;
+    private TestContext uncachedContext;
+    private ServerConfigMap serverConfigMap;
+
+    @Setup
+    public void setup() {
+        cr = Fixtures.trustify(complexity);
+        cachedContext = Fixtures.context(cr);
+        uncachedContext = Fixtures.context(cr);
+        // Putting null removes the cache, so every call renders the template
+        uncachedContext.managedDependentResourceContext().put(Constants.CONTEXT_DESIRED_STATE_CACHE_KEY, null);
+
+        serverConfigMap = new ServerConfigMap();
+        TestFixtures.inject(serverConfigMap, "auth", Fixtures.authTemplate());
+    }
+
+    @Benchmark
+    public String render() {
+        return serverConfigMap.getAuthValue(cr, uncachedContext);
+    }
+
+    @Benchmark
+    public String cached() {
+        return serverConfigMap.getAuthValue(cr, cachedContext);
+    }
+}
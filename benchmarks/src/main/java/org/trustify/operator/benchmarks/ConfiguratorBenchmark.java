@@ -0,0 +1,73 @@
+package org.trustify.operator.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.importer.statefulset.ImporterStatefulSetConfigurator;
+import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeploymentConfigurator;
+import org.trustify.operator.cdrs.v2alpha1.server.service.ServerService;
+import org.trustify.operator.cdrs.v2alpha1.ui.deployment.UIDeploymentConfigurator;
+import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.controllers.setup.TestContext;
+import org.trustify.operator.controllers.setup.TestFixtures;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of computing the container configuration of the workloads, done for every reconciliation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfiguratorBenchmark {
+
+    @Param({"MINIMAL", "EXTERNAL", "EMBEDDED"})
+    public Fixtures.Complexity complexity;
+
+    private Trustify cr;
+    private TestContext context;
+
+    private ServerDeploymentConfigurator serverConfigurator;
+    private ImporterStatefulSetConfigurator importerConfigurator;
+    private UIDeploymentConfigurator uiConfigurator;
+
+    @Setup
+    public void setup() {
+        cr = Fixtures.trustify(complexity);
+        context = Fixtures.context(cr);
+
+        serverConfigurator = new ServerDeploymentConfigurator();
+        TestFixtures.inject(serverConfigurator, "trustifyConfig", TestFixtures.trustifyConfig());
+        TestFixtures.inject(serverConfigurator, "trustifyImagesConfig", TestFixtures.trustifyImagesConfig());
+        TestFixtures.inject(serverConfigurator, "serverUtils", TestFixtures.serverUtils());
+
+        importerConfigurator = new ImporterStatefulSetConfigurator();
+        TestFixtures.inject(importerConfigurator, "trustifyConfig", TestFixtures.trustifyConfig());
+        TestFixtures.inject(importerConfigurator, "trustifyImagesConfig", TestFixtures.trustifyImagesConfig());
+
+        ServerService serverService = new ServerService();
+        TestFixtures.inject(serverService, "serverUtils", TestFixtures.serverUtils());
+
+        uiConfigurator = new UIDeploymentConfigurator();
+        TestFixtures.inject(uiConfigurator, "trustifyConfig", TestFixtures.trustifyConfig());
+        TestFixtures.inject(uiConfigurator, "trustifyImagesConfig", TestFixtures.trustifyImagesConfig());
+        TestFixtures.inject(uiConfigurator, "serverService", serverService);
+    }
+
+    @Benchmark
+    public ResourceConfigurator.Config serverDeployment() {
+        return serverConfigurator.configureDeployment(cr, context);
+    }
+
+    @Benchmark
+    public ResourceConfigurator.Config importerStatefulSet() {
+        return importerConfigurator.configureDeployment(cr, context);
+    }
+
+    @Benchmark
+    public ResourceConfigurator.Config uiDeployment() {
+        return uiConfigurator.configureDeployment(cr, context);
+    }
+}
@@ -0,0 +1,182 @@
+package org.trustify.operator.benchmarks;
+
+import io.fabric8.kubernetes.api.model.LocalObjectReference;
+import io.fabric8.kubernetes.api.model.SecretKeySelector;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+import org.keycloak.k8s.v2alpha1.Keycloak;
+import org.keycloak.k8s.v2alpha1.KeycloakSpec;
+import org.keycloak.k8s.v2alpha1.keycloakspec.Http;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.controllers.setup.TestContext;
+import org.trustify.operator.controllers.setup.TestFixtures;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Synthetic inputs for the benchmarks, the beans are hand-wired with {@link TestFixtures}, no CDI container is started.
+ */
+public class Fixtures {
+
+    public enum Complexity {
+        /**
+         * Empty spec, every value comes from the operator defaults.
+         */
+        MINIMAL,
+        /**
+         * External database, external OIDC server with TLS, S3 storage, TLS, pull secrets and resource limits.
+         */
+        EXTERNAL,
+        /**
+         * Embedded database, embedded Keycloak and filesystem storage.
+         */
+        EMBEDDED
+    }
+
+    public static Trustify trustify(Complexity complexity) {
+        return TestFixtures.trustify("benchmark", "benchmark", switch (complexity) {
+            case MINIMAL -> new TrustifySpec();
+            case EXTERNAL -> externalSpec();
+            case EMBEDDED -> embeddedSpec();
+        });
+    }
+
+    private static TrustifySpec externalSpec() {
+        TrustifySpec.ResourcesLimitSpec resourcesLimitSpec = new TrustifySpec.ResourcesLimitSpec("500m", "2", "1Gi", "4Gi");
+        return new TrustifySpec(
+                "quay.io/trustification/ui:benchmark",
+                "quay.io/trustification/server:benchmark",
+                "quay.io/trustification/db:benchmark",
+                "IfNotPresent",
+                List.of(new LocalObjectReference("pull-secret-1"), new LocalObjectReference("pull-secret-2")),
+                3,
+                3,
+                2,
+                "50Gi",
+                null,
+                new TrustifySpec.HttpSpec("server-tls", false, null),
+                new TrustifySpec.DatabaseSpec(
+                        true,
+                        new TrustifySpec.ExternalDatabaseSpec(
+                                new SecretKeySelector("username", "postgresql", false),
+                                new SecretKeySelector("password", "postgresql", false),
+                                "postgresql.benchmark.svc",
+                                "5432",
+                                "trustify",
+                                10,
+                                50,
+                                "require"
+                        ),
+                        null,
+                        null
+                ),
+                new TrustifySpec.HostnameSpec("trustify.example.com"),
+                new TrustifySpec.OidcSpec(
+                        true,
+                        true,
+                        new TrustifySpec.ExternalOidcSpec("https://sso.example.com/realms/trustify", "frontend", "oidc-tls"),
+                        null
+                ),
+                new TrustifySpec.StorageSpec(
+                        TrustifySpec.StorageCompressionType.ZSTD,
+                        TrustifySpec.StorageStrategyType.S3,
+                        null,
+                        new TrustifySpec.S3StorageSpec("eu-west-1", "trustify", "access-key", "secret-key")
+                ),
+                resourcesLimitSpec,
+                resourcesLimitSpec,
+                resourcesLimitSpec,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+
+    private static TrustifySpec embeddedSpec() {
+        return new TrustifySpec(
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                new TrustifySpec.DatabaseSpec(
+                        false,
+                        null,
+                        new TrustifySpec.EmbeddedDatabaseSpec("20Gi", null, null, null, null, null),
+                        null
+                ),
+                null,
+                new TrustifySpec.OidcSpec(true, false, null, new TrustifySpec.EmbeddedOidcSpec(null, null, null)),
+                new TrustifySpec.StorageSpec(
+                        TrustifySpec.StorageCompressionType.NONE,
+                        TrustifySpec.StorageStrategyType.FILESYSTEM,
+                        new TrustifySpec.FilesystemStorageSpec("20Gi", null, null),
+                        null
+                ),
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+    }
+
+    /**
+     * A context as prepared by TrustifyReconciler#initContext, with a ready embedded Keycloak. The informer caches
+     * are empty, as in the first reconciliation of the CR, so every cache lookup misses.
+     */
+    public static TestContext context(Trustify cr) {
+        Keycloak keycloak = new Keycloak();
+        keycloak.setSpec(new KeycloakSpec());
+        keycloak.getSpec().setHttp(new Http());
+        keycloak.getSpec().getHttp().setHttpEnabled(true);
+
+        TestContext context = new TestContext(cr);
+        context.managedDependentResourceContext().put(Constants.KEYCLOAK, new AtomicReference<>(keycloak));
+        return context;
+    }
+
+    /**
+     * The auth.yaml template parsed by a standalone Qute engine, in place of the one injected by Quarkus.
+     */
+    public static Template authTemplate() {
+        try (InputStream template = Fixtures.class.getResourceAsStream("/templates/auth.yaml")) {
+            Engine engine = Engine.builder()
+                    .addDefaults()
+                    .addValueResolver(new ReflectionValueResolver())
+                    .build();
+            return engine.parse(new String(template.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.trustify.operator.benchmarks;
+
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.PodTemplateSpec;
+import io.fabric8.kubernetes.api.model.PodTemplateSpecBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.SSABasedGenericKubernetesResourceMatcher;
+import org.openjdk.jmh.annotations.*;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeploymentConfigurator;
+import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.controllers.setup.TestContext;
+import org.trustify.operator.controllers.setup.TestFixtures;
+import org.trustify.operator.utils.CRDUtils;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of drift detection: hashing the desired pod template and comparing it with the actual workload.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PodTemplateHashBenchmark {
+
+    @Param({"MINIMAL", "EXTERNAL", "EMBEDDED"})
+    public Fixtures.Complexity complexity;
+
+    private PodTemplateSpec podTemplateSpec;
+    private Deployment actual;
+    private Deployment desired;
+    private TestContext context;
+
+    @Setup
+    public void setup() {
+        Trustify cr = Fixtures.trustify(complexity);
+        context = Fixtures.context(cr);
+
+        ServerDeploymentConfigurator serverConfigurator = new ServerDeploymentConfigurator();
+        TestFixtures.inject(serverConfigurator, "trustifyConfig", TestFixtures.trustifyConfig());
+        TestFixtures.inject(serverConfigurator, "trustifyImagesConfig", TestFixtures.trustifyImagesConfig());
+        TestFixtures.inject(serverConfigurator, "serverUtils", TestFixtures.serverUtils());
+        ResourceConfigurator.Config config = serverConfigurator.configureDeployment(cr, context);
+
+        podTemplateSpec = new PodTemplateSpecBuilder()
+                .withNewMetadata()
+                .withLabels(Map.of("trustify-operator/group", "server"))
+                .endMetadata()
+                .withNewSpec()
+                .withImagePullSecrets(config.imagePullSecrets())
+                .withContainers(new ContainerBuilder()
+                        .withName("server")
+                        .withImage(config.image())
+                        .withImagePullPolicy(config.imagePullPolicy())
+                        .withEnv(config.allEnvVars())
+                        .withVolumeMounts(config.allVolumeMounts())
+                        .withResources(config.resourceRequirements())
+                        .build()
+                )
+                .withVolumes(config.allVolumes())
+                .endSpec()
+                .build();
+
+        desired = CRDUtils.addPodTemplateHash(new DeploymentBuilder()
+                .withNewMetadata()
+                .withName("benchmark")
+                .endMetadata()
+                .withNewSpec()
+                .withTemplate(podTemplateSpec)
+                .endSpec()
+                .build(), podTemplateSpec);
+        actual = TestFixtures.appliedFrom(new DeploymentBuilder(desired).build(), desired);
+    }
+
+    @Benchmark
+    public String hash() {
+        return CRDUtils.getPodTemplateHash(podTemplateSpec);
+    }
+
+    /**
+     * Steady state: the hashes agree and the live generation was already compared.
+     */
+    @Benchmark
+    public boolean match() {
+        return CRDUtils.matchPodTemplate(actual, desired, context);
+    }
+
+    /**
+     * The comparison done once per generation of the live workload.
+     */
+    @Benchmark
+    public boolean ssaMatch() {
+        return SSABasedGenericKubernetesResourceMatcher.<Deployment>getInstance().matches(actual, desired, context);
+    }
+}
@@ -0,0 +1,38 @@
+package org.trustify.operator.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.keycloak.k8s.v2alpha1.KeycloakRealmImport;
+import org.openjdk.jmh.annotations.*;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.controllers.setup.TestFixtures;
+import org.trustify.operator.services.KeycloakRealmService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building the KeycloakRealmImport, which binds a copy of the realm.json parsed on first use.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RealmImportBenchmark {
+
+    private Trustify cr;
+    private KeycloakRealmService keycloakRealmService;
+
+    @Setup
+    public void setup() {
+        cr = Fixtures.trustify(Fixtures.Complexity.EMBEDDED);
+
+        keycloakRealmService = new KeycloakRealmService();
+        TestFixtures.inject(keycloakRealmService, "objectMapper", new ObjectMapper());
+    }
+
+    @Benchmark
+    public KeycloakRealmImport newInstance() {
+        return keycloakRealmService.newInstance(cr);
+    }
+}
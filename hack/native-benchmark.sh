@@ -0,0 +1,69 @@
+#!/bin/bash
+set -e
+
+# Compares the startup-to-first-reconcile time and the steady-state RSS of the JVM and native builds of the operator.
+# Both builds are run locally, one after the other, against the cluster of the current kubectl context:
+#
+#   mvn package -DskipTests && mvn package -DskipTests -Dnative
+#   kubectl apply -f scripts/rbac.yaml && kubectl apply -f scripts/trustify.yaml
+#   hack/native-benchmark.sh
+
+# Inputs via environment variables
+JVM_COMMAND="${JVM_COMMAND:-java -jar target/quarkus-app/quarkus-run.jar}"
+NATIVE_COMMAND="${NATIVE_COMMAND:-$(ls target/*-runner 2>/dev/null | head -1)}"
+METRICS_URL="${METRICS_URL:-http://localhost:8080/q/metrics}"
+STARTUP_TIMEOUT="${STARTUP_TIMEOUT:-120}"
+STEADY_STATE_SECONDS="${STEADY_STATE_SECONDS:-60}"
+RUNS="${RUNS:-3}"
+
+# Check pre-reqs
+for command in kubectl curl; do
+  if ! command -v ${command} >/dev/null 2>&1; then
+    echo "Please install ${command}"
+    exit 1
+  fi
+done
+if [ -z "$(kubectl get trustifies.org.trustify -o name 2>/dev/null)" ]; then
+  echo "No Trustify instance found in the current namespace, create one with: kubectl apply -f scripts/trustify.yaml"
+  exit 1
+fi
+
+# Prints "<seconds to first reconcile> <RSS in MiB>" of a single run of the given command
+measure() {
+  ${1} >/dev/null 2>&1 &
+  local pid=$!
+
+  local first_reconcile=""
+  for _ in $(seq "${STARTUP_TIMEOUT}"); do
+    first_reconcile=$(curl -s "${METRICS_URL}" | awk '/^trustify_time_to_first_reconcile_seconds_sum/ {print $2}')
+    [ -n "${first_reconcile}" ] && break
+    sleep 1
+  done
+  if [ -n "${first_reconcile}" ]; then
+    sleep "${STEADY_STATE_SECONDS}"
+    local rss_kb
+    rss_kb=$(ps -o rss= -p "${pid}")
+    echo "${first_reconcile} $((rss_kb / 1024))"
+  else
+    echo "timeout timeout"
+  fi
+
+  kill "${pid}"
+  wait "${pid}" 2>/dev/null || true
+}
+
+benchmark() {
+  local name=${1}
+  local command=${2}
+  if [ -z "${command}" ]; then
+    echo "${name}: skipped, build not found"
+    return
+  fi
+  for run in $(seq "${RUNS}"); do
+    read -r first_reconcile rss <<< "$(measure "${command}")"
+    echo "${name} run ${run}: first reconcile after ${first_reconcile}s, RSS ${rss}MiB"
+  done
+}
+
+benchmark "jvm" "${JVM_COMMAND}"
+benchmark "native" "${NATIVE_COMMAND}"
@@ -15,6 +15,18 @@ public class Constants {
     public static final String CLUSTER_SERVICE = "kubernetesCluster";
     public static final String CONTEXT_KEYCLOAK_SERVER_SERVICE_KEY = "keycloakServerService";
     public static final String CONTEXT_KEYCLOAK_REALM_SERVICE_KEY = "keycloakRealmService";
+    public static final String CONTEXT_DESIRED_STATE_CACHE_KEY = "desiredStateCache";
+    public static final String CONTEXT_NAMESPACE_PERMIT_KEY = "namespacePermit";
+
+    public static final String POD_TEMPLATE_HASH_ANNOTATION = "trustify-operator/pod-template-hash";
+    public static final String MIGRATION_IMAGE_ANNOTATION = "trustify-operator/migration-image";
+    public static final String MIGRATION_HASH_ANNOTATION = "trustify-operator/migration-hash";
+    public static final String CONFIG_HASH_ANNOTATION = "trustify-operator/config-hash";
+    public static final String MANAGED_ANNOTATIONS_ANNOTATION = "trustify-operator/managed-annotations";
+
+    public static final String MANAGED_BY_LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator";
+    // Name of the Trustify CR, on pods that must be told apart from the ones of other CRs of the namespace
+    public static final String INSTANCE_LABEL = "app.kubernetes.io/instance";
 
     public static final String KEYCLOAK = "keycloak";
     public static final String KEYCLOAK_REALM_IMPORT = "keycloakRealmImport";
@@ -56,17 +68,29 @@ public class Constants {
     public static final String DB_PVC_SUFFIX = "-" + TRUSTI_DB_NAME + "-pvc";
     public static final String DB_SECRET_SUFFIX = "-" + TRUSTI_DB_NAME + "-secret";
     public static final String DB_DEPLOYMENT_SUFFIX = "-" + TRUSTI_DB_NAME + "-deployment";
+    public static final String DB_STATEFUL_SET_SUFFIX = "-" + TRUSTI_DB_NAME + "-statefulset";
     public static final String DB_SERVICE_SUFFIX = "-" + TRUSTI_DB_NAME + "-service";
+    public static final String DB_CONFIG_MAP_SUFFIX = "-" + TRUSTI_DB_NAME + "-configmap";
+    public static final String DB_REPLICATION_SECRET_SUFFIX = "-" + TRUSTI_DB_NAME + "-replication-secret";
+    public static final String DB_REPLICA_STATEFUL_SET_SUFFIX = "-" + TRUSTI_DB_NAME + "-replica-statefulset";
+    public static final String DB_READ_SERVICE_SUFFIX = "-" + TRUSTI_DB_NAME + "-read-service";
+    public static final String DB_POOLER_DEPLOYMENT_SUFFIX = "-" + TRUSTI_DB_NAME + "-pooler-deployment";
+    public static final String DB_POOLER_SERVICE_SUFFIX = "-" + TRUSTI_DB_NAME + "-pooler-service";
 
     public static final String UI_DEPLOYMENT_SUFFIX = "-" + TRUSTI_UI_NAME + "-deployment";
     public static final String UI_SERVICE_SUFFIX = "-" + TRUSTI_UI_NAME + "-service";
+    public static final String UI_HPA_SUFFIX = "-" + TRUSTI_UI_NAME + "-hpa";
 
     public static final String SERVER_CONFIG_MAP_SUFFIX = "-" + TRUSTI_SERVER_NAME + "-configmap";
     public static final String SERVER_PVC_SUFFIX = "-" + TRUSTI_SERVER_NAME + "-pvc";
     public static final String SERVER_DEPLOYMENT_SUFFIX = "-" + TRUSTI_SERVER_NAME + "-deployment";
     public static final String SERVER_SERVICE_SUFFIX = "-" + TRUSTI_SERVER_NAME + "-service";
+    public static final String SERVER_HPA_SUFFIX = "-" + TRUSTI_SERVER_NAME + "-hpa";
+    public static final String SERVER_PDB_SUFFIX = "-" + TRUSTI_SERVER_NAME + "-pdb";
+    public static final String SERVER_MIGRATION_JOB_SUFFIX = "-" + TRUSTI_SERVER_NAME + "-migration";
 
     public static final String IMPORTER_STATEFUL_SET_SUFFIX = "-" + TRUSTI_IMPORTER_NAME + "-statefulset";
+    public static final String IMPORTER_HPA_SUFFIX = "-" + TRUSTI_IMPORTER_NAME + "-hpa";
 
     public static final String OIDC_DB_PVC_SUFFIX = "-" + KEYCLOAK_DB_NAME + "-pvc";
     public static final String OIDC_DB_SECRET_SUFFIX = "-" + KEYCLOAK_DB_NAME + "-secret";
@@ -74,10 +98,12 @@ public class Constants {
     public static final String OIDC_DB_SERVICE_SUFFIX = "-" + KEYCLOAK_DB_NAME + "-service";
 
     public static final String INGRESS_SUFFIX = "-" + TRUSTI_NAME + "-ingress";
+    public static final String API_INGRESS_SUFFIX = "-" + TRUSTI_NAME + "-api-ingress";
 
     //
     public static final String DB_SECRET_USERNAME = "username";
     public static final String DB_SECRET_PASSWORD = "password";
     public static final String DB_NAME = "trustify";
     public static final Integer DB_PORT = 5432;
+    public static final Integer DB_POOLER_PORT = 6432;
 }
@@ -0,0 +1,28 @@
+package org.trustify.operator;
+
+import io.fabric8.openshift.api.model.operatorhub.v1.OperatorGroup;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersion;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.Subscription;
+import io.quarkus.runtime.annotations.RegisterForReflection;
+import org.keycloak.k8s.v2alpha1.Keycloak;
+import org.keycloak.k8s.v2alpha1.KeycloakRealmImport;
+import org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.Realm;
+
+/**
+ * Model classes (de)serialized by Jackson that are not registered for reflection by the Kubernetes client or the
+ * operator SDK extensions in the native build: the classes generated from the Keycloak CRDs, including the
+ * {@link Realm} read from realm.json, and the OLM resources used to install the Keycloak Operator.
+ */
+@RegisterForReflection(
+        targets = {
+                Keycloak.class,
+                KeycloakRealmImport.class,
+                Realm.class,
+                Subscription.class,
+                ClusterServiceVersion.class,
+                OperatorGroup.class
+        },
+        registerFullHierarchy = true
+)
+public class NativeReflectionConfiguration {
+}
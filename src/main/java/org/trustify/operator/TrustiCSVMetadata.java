@@ -41,6 +41,21 @@ import io.quarkiverse.operatorsdk.annotations.SharedCSVMetadata;
                         resources = {"statefulsets"},
                         verbs = {"*"}
                 ),
+                @CSVMetadata.PermissionRule(
+                        apiGroups = {"autoscaling"},
+                        resources = {"horizontalpodautoscalers"},
+                        verbs = {"*"}
+                ),
+                @CSVMetadata.PermissionRule(
+                        apiGroups = {"policy"},
+                        resources = {"poddisruptionbudgets"},
+                        verbs = {"*"}
+                ),
+                @CSVMetadata.PermissionRule(
+                        apiGroups = {"batch"},
+                        resources = {"jobs"},
+                        verbs = {"*"}
+                ),
                 @CSVMetadata.PermissionRule(
                         apiGroups = {"config.openshift.io"},
                         resources = {"ingresses"},
@@ -49,9 +64,9 @@ import io.quarkiverse.operatorsdk.annotations.SharedCSVMetadata;
         },
         installModes = {
                 @CSVMetadata.InstallMode(type = "OwnNamespace", supported = true),
-                @CSVMetadata.InstallMode(type = "SingleNamespace", supported = false),
-                @CSVMetadata.InstallMode(type = "MultiNamespace", supported = false),
-                @CSVMetadata.InstallMode(type = "AllNamespaces", supported = false)
+                @CSVMetadata.InstallMode(type = "SingleNamespace", supported = true),
+                @CSVMetadata.InstallMode(type = "MultiNamespace", supported = true),
+                @CSVMetadata.InstallMode(type = "AllNamespaces", supported = true)
         },
         icon = @CSVMetadata.Icon(fileName = "icon.png", mediatype = "image/png"),
         description = """
@@ -23,6 +23,15 @@ public interface TrustifyConfig {
     @WithName("default-limit-memory")
     String defaultLimitMemory();
 
+    @WithName("reconcile.max-concurrent-per-namespace")
+    int maxConcurrentReconciliationsPerNamespace();
+
+    @WithName("informers.trim-metadata")
+    boolean informersTrimMetadata();
+
+    @WithName("server.max-startup-seconds")
+    int maxServerStartupSeconds();
+
     @WithName("keycloak-operator.subscription")
     Optional<KeycloakSubscriptionConfig> keycloakSubscriptionConfig();
 
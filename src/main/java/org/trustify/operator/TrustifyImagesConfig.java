@@ -18,6 +18,9 @@ public interface TrustifyImagesConfig {
     @WithName("keycloak")
     String keycloak();
 
+    @WithName("pgbouncer")
+    String pgbouncerImage();
+
     @WithName("pull-policy")
     String imagePullPolicy();
 }
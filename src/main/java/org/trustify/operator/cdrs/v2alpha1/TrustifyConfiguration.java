@@ -1,10 +1,12 @@
 package org.trustify.operator.cdrs.v2alpha1;
 
 import io.fabric8.kubernetes.api.model.*;
-import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeployment;
+import org.trustify.operator.cdrs.v2alpha1.server.db.statefulset.DBStatefulSet;
 import org.trustify.operator.cdrs.v2alpha1.server.db.secret.DBSecret;
 import org.trustify.operator.cdrs.v2alpha1.server.db.service.DBService;
+import org.trustify.operator.cdrs.v2alpha1.server.db.pooler.service.DBPoolerService;
 import org.trustify.operator.cdrs.v2alpha1.server.pvc.ServerStoragePersistentVolumeClaim;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
 import org.trustify.operator.controllers.ResourceConfigurator;
 import org.trustify.operator.utils.OptionMapper;
 
@@ -12,11 +14,38 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class TrustifyConfiguration {
 
+    /**
+     * Env vars that point to the database and are replaced by the connection pooler when it is enabled.
+     */
+    protected static final List<String> DB_CONNECTION_ENV_VARS = List.of("TRUSTD_DB_HOST", "TRUSTD_DB_PORT", "TRUSTD_DB_SSLMODE");
+
     protected void configureDatabase(ResourceConfigurator.Config config, Trustify cr) {
-        List<EnvVar> envVars = Optional.ofNullable(cr.getSpec().databaseSpec())
+        List<EnvVar> envVars = getDatabaseEnvVars(cr);
+
+        // Connections go through the pooler, which holds the TLS settings of the connections to the database
+        if (ServerUtils.isDBPoolerEnabled(cr)) {
+            envVars = envVars.stream()
+                    .filter(envVar -> !DB_CONNECTION_ENV_VARS.contains(envVar.getName()))
+                    .collect(Collectors.toList());
+            envVars.addAll(new OptionMapper<>(cr.getSpec())
+                    .mapOption("TRUSTD_DB_HOST", spec -> DBPoolerService.getServiceHost(cr))
+                    .mapOption("TRUSTD_DB_PORT", spec -> DBPoolerService.getServicePort(cr))
+                    .getEnvVars()
+            );
+        }
+
+        config.allEnvVars().addAll(envVars);
+    }
+
+    /**
+     * Env vars to connect to the database directly, to the external one or to the one created by the operator.
+     */
+    protected List<EnvVar> getDatabaseEnvVars(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().databaseSpec())
                 .flatMap(databaseSpec -> {
                     if (databaseSpec.externalDatabase()) {
                         List<EnvVar> envs = new OptionMapper<>(databaseSpec.externalDatabaseSpec())
@@ -37,13 +66,11 @@ public class TrustifyConfiguration {
                 .orElseGet(() -> new OptionMapper<>(cr.getSpec())
                         .mapOption("TRUSTD_DB_USER", spec -> DBSecret.getUsernameSecretKeySelector(cr))
                         .mapOption("TRUSTD_DB_PASSWORD", spec -> DBSecret.getPasswordSecretKeySelector(cr))
-                        .mapOption("TRUSTD_DB_NAME", spec -> DBDeployment.getDatabaseName(cr))
+                        .mapOption("TRUSTD_DB_NAME", spec -> DBStatefulSet.getDatabaseName(cr))
                         .mapOption("TRUSTD_DB_HOST", spec -> DBService.getServiceHost(cr))
-                        .mapOption("TRUSTD_DB_PORT", spec -> DBDeployment.getDatabasePort(cr))
+                        .mapOption("TRUSTD_DB_PORT", spec -> DBStatefulSet.getDatabasePort(cr))
                         .getEnvVars()
                 );
-
-        config.allEnvVars().addAll(envVars);
     }
 
     protected void configureStorage(ResourceConfigurator.Config config, Trustify cr) {
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.SecretKeySelector;
+import io.fabric8.kubernetes.api.model.autoscaling.v2.MetricSpec;
 
 import java.util.List;
 import java.util.Map;
@@ -36,6 +37,9 @@ public record TrustifySpec(
         @JsonPropertyDescription("Size of the PVC for each importer to use")
         String importerWorkdirPvcSize,
 
+        @JsonPropertyDescription("Storage class of the PVC for each importer to use. The default storage class of the cluster is used if not set.")
+        String importerWorkdirPvcStorageClassName,
+
         @JsonProperty("http")
         @JsonPropertyDescription("In this section you can configure features related to HTTP and HTTPS")
         HttpSpec httpSpec,
@@ -66,7 +70,47 @@ public record TrustifySpec(
 
         @JsonProperty("importerResources")
         @JsonPropertyDescription("In this section you can configure resource limits settings for the Importer.")
-        ResourcesLimitSpec importerResourceLimitSpec
+        ResourcesLimitSpec importerResourceLimitSpec,
+
+        @JsonProperty("uiAutoscaling")
+        @JsonPropertyDescription("In this section you can configure horizontal autoscaling of the UI. If enabled, uiInstances is ignored.")
+        AutoscalingSpec uiAutoscalingSpec,
+
+        @JsonProperty("serverAutoscaling")
+        @JsonPropertyDescription("In this section you can configure horizontal autoscaling of the Server. If enabled, serverInstances is ignored.")
+        AutoscalingSpec serverAutoscalingSpec,
+
+        @JsonProperty("importerAutoscaling")
+        @JsonPropertyDescription("In this section you can configure horizontal autoscaling of the Importer, e.g. on an ingestion backlog metric. If enabled, importerInstances is ignored.")
+        AutoscalingSpec importerAutoscalingSpec,
+
+        @JsonProperty("serverUpdateStrategy")
+        @JsonPropertyDescription("In this section you can configure how the Server instances are replaced when its configuration changes.")
+        UpdateStrategySpec serverUpdateStrategySpec,
+
+        @JsonProperty("serverDisruptionBudget")
+        @JsonPropertyDescription("In this section you can configure the PodDisruptionBudget of the Server.")
+        DisruptionBudgetSpec serverDisruptionBudgetSpec,
+
+        @JsonProperty("ingress")
+        @JsonPropertyDescription("In this section you can configure the Ingress objects.")
+        IngressSpec ingressSpec,
+
+        @JsonProperty("uiProbes")
+        @JsonPropertyDescription("In this section you can configure the liveness and readiness probes of the UI.")
+        ProbesSpec uiProbesSpec,
+
+        @JsonProperty("serverProbes")
+        @JsonPropertyDescription("In this section you can configure the liveness, readiness and startup probes of the Server.")
+        ProbesSpec serverProbesSpec,
+
+        @JsonProperty("importerProbes")
+        @JsonPropertyDescription("In this section you can configure the liveness, readiness and startup probes of the Importer.")
+        ProbesSpec importerProbesSpec,
+
+        @JsonProperty("serverMigrationResources")
+        @JsonPropertyDescription("In this section you can configure resource limits settings for the Job migrating the database schema. The operator defaults are used if not set, not the serverResources.")
+        ResourcesLimitSpec serverMigrationResourceLimitSpec
 ) {
 
     public TrustifySpec() {
@@ -87,6 +131,17 @@ public record TrustifySpec(
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
         );
     }
@@ -119,12 +174,78 @@ public record TrustifySpec(
     }
 
     public record EmbeddedDatabaseSpec(
-            @JsonPropertyDescription("Size of the PVC to create. Valid only if externalDatabase=false")
+            @JsonPropertyDescription("Size of the PVC to create, also used by each read replica. Valid only if externalDatabase=false")
             String pvcSize,
 
+            @JsonPropertyDescription("Storage class of the PVC to create, also used by each read replica, e.g. a local NVMe class. The default storage class of the cluster is used if not set. Valid only if externalDatabase=false")
+            String pvcStorageClassName,
+
             @JsonProperty("resources")
             @JsonPropertyDescription("In this section you can configure resource limits settings. Valid only if externalDatabase=false")
-            ResourcesLimitSpec resourceLimits
+            ResourcesLimitSpec resourceLimits,
+
+            @JsonProperty("tuning")
+            @JsonPropertyDescription("In this section you can configure the PostgreSQL performance settings. Valid only if externalDatabase=false")
+            DatabaseTuningSpec tuningSpec,
+
+            @JsonProperty("readReplicas")
+            @JsonPropertyDescription("In this section you can configure streaming replication read replicas, served by the <name>-trustify-db-read-service Service. The Server does not send read-only queries to the replicas yet, they are meant for other read-only clients such as reporting tools. Valid only if externalDatabase=false")
+            ReadReplicasSpec readReplicasSpec,
+
+            @JsonProperty("probes")
+            @JsonPropertyDescription("In this section you can configure the liveness and readiness probes of the database. Valid only if externalDatabase=false")
+            ProbesSpec probesSpec
+    ) {
+    }
+
+    public record ReadReplicasSpec(
+            @JsonPropertyDescription("Enable the read replicas.")
+            boolean enabled,
+
+            @JsonPropertyDescription("Number of read replicas. Default is 1. Replicas use the same resources as the primary database.")
+            Integer instances
+    ) {
+    }
+
+    public enum DatabaseTuningProfile {
+        SMALL("small"),
+        MEDIUM("medium"),
+        LARGE("large");
+        private final String value;
+
+        DatabaseTuningProfile(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    public record DatabaseTuningSpec(
+            @JsonPropertyDescription("Workload profile, it defines the number of connections and the WAL size. Memory settings are derived from the memory limit of the database. Default is SMALL.")
+            DatabaseTuningProfile profile,
+
+            @JsonPropertyDescription("Overrides max_connections.")
+            Integer maxConnections,
+
+            @JsonPropertyDescription("Overrides shared_buffers. E.g. 4GB")
+            String sharedBuffers,
+
+            @JsonPropertyDescription("Overrides effective_cache_size. E.g. 12GB")
+            String effectiveCacheSize,
+
+            @JsonPropertyDescription("Overrides work_mem. E.g. 16MB")
+            String workMem,
+
+            @JsonPropertyDescription("Overrides maintenance_work_mem. E.g. 1GB")
+            String maintenanceWorkMem,
+
+            @JsonPropertyDescription("Overrides max_wal_size. E.g. 4GB")
+            String maxWalSize,
+
+            @JsonPropertyDescription("Additional postgresql.conf parameters.")
+            Map<String, String> parameters
     ) {
     }
 
@@ -136,7 +257,47 @@ public record TrustifySpec(
             ExternalDatabaseSpec externalDatabaseSpec,
 
             @JsonProperty("embedded")
-            EmbeddedDatabaseSpec embeddedDatabaseSpec
+            EmbeddedDatabaseSpec embeddedDatabaseSpec,
+
+            @JsonProperty("pooler")
+            @JsonPropertyDescription("In this section you can configure a PgBouncer connection pooler placed between Trustify and the database.")
+            ConnectionPoolerSpec connectionPoolerSpec
+    ) {
+    }
+
+    public enum PoolMode {
+        SESSION("session"),
+        TRANSACTION("transaction");
+        private final String value;
+
+        PoolMode(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    public record ConnectionPoolerSpec(
+            @JsonPropertyDescription("Enable the connection pooler.")
+            boolean enabled,
+
+            @JsonPropertyDescription("Pool mode. Default is TRANSACTION.")
+            PoolMode poolMode,
+
+            @JsonPropertyDescription("Number of connection pooler instances. Default is 1.")
+            Integer instances,
+
+            @JsonPropertyDescription("Number of database connections opened by each connection pooler instance. Default is 20.")
+            Integer poolSize,
+
+            @JsonPropertyDescription("Maximum number of client connections accepted by each connection pooler instance. Default is 1000.")
+            Integer maxClientConnections,
+
+            @JsonProperty("resources")
+            @JsonPropertyDescription("In this section you can configure resource limits settings for the connection pooler.")
+            ResourcesLimitSpec resourceLimits
     ) {
     }
 
@@ -148,20 +309,43 @@ public record TrustifySpec(
 
     public record HttpSpec(
             @JsonPropertyDescription("A secret containing the TLS configuration for HTTPS. Reference: https://kubernetes.io/docs/concepts/configuration/secret/#tls-secrets.")
-            String tlsSecret
+            String tlsSecret,
+
+            @JsonPropertyDescription("Route the API paths of the Ingress straight to the server instead of through the UI, so uploads and API clients skip the UI proxy.")
+            boolean directApiRouting,
+
+            @JsonPropertyDescription("Maximum size of a request body, e.g. an uploaded SBOM or advisory, accepted by the Ingress and the UI proxy. Defaults to '50m'.")
+            String maxBodySize
     ) {
     }
 
     public record IngressSpec(
-            @JsonProperty("enabled")
-            boolean ingressEnabled,
-
             @JsonProperty("className")
+            @JsonPropertyDescription("IngressClass of the Ingress objects. The default IngressClass of the cluster is used if not set.")
             String ingressClassName,
 
             @JsonProperty("annotations")
             @JsonPropertyDescription("Additional annotations to be appended to the Ingress object")
-            Map<String, String> annotations
+            Map<String, String> annotations,
+
+            @JsonProperty("performance")
+            @JsonPropertyDescription("In this section you can tune the timeouts and buffering of the ingress controller, mapped to nginx annotations or to OpenShift Route annotations.")
+            IngressPerformanceSpec performanceSpec
+    ) {
+    }
+
+    public record IngressPerformanceSpec(
+            @JsonPropertyDescription("Seconds to wait for the response of the upstream, e.g. while a large upload is being ingested. The ingress controller default is used if not set, 60s for nginx and 30s for OpenShift.")
+            Integer readTimeoutSeconds,
+
+            @JsonPropertyDescription("Seconds to wait between two writes of the request to the upstream. The ingress controller default is used if not set. OpenShift uses the greater of both timeouts.")
+            Integer sendTimeoutSeconds,
+
+            @JsonPropertyDescription("Buffer the whole request before sending it to the upstream. Disable to stream large uploads. nginx only.")
+            Boolean requestBuffering,
+
+            @JsonPropertyDescription("Buffer the responses of the upstream. nginx only.")
+            Boolean responseBuffering
     ) {
     }
 
@@ -192,7 +376,59 @@ public record TrustifySpec(
 
             @JsonProperty("db")
             @JsonPropertyDescription("In this section you can find all properties related to connect to a database.")
-            EmbeddedOidcDatabaseSpec databaseSpec
+            EmbeddedOidcDatabaseSpec databaseSpec,
+
+            @JsonProperty("realm")
+            @JsonPropertyDescription("In this section you can customize the roles, client scopes and clients of the realm imported into the OIDC Server. The realm is imported once, later changes are not applied.")
+            OidcRealmSpec realmSpec
+    ) {
+    }
+
+    public record OidcRealmSpec(
+            @JsonPropertyDescription("Realm roles. Defaults to 'user' and 'admin'. The 'admin' role, given to the admin user, is always created.")
+            List<OidcRealmRoleSpec> roles,
+
+            @JsonPropertyDescription("Client scopes and the realm roles mapped to them. Defaults to the read, create, update and delete document scopes used by Trustify.")
+            List<OidcRealmClientScopeSpec> clientScopes,
+
+            @JsonPropertyDescription("Clients created in addition to the one of the UI.")
+            List<OidcRealmClientSpec> clients
+    ) {
+    }
+
+    public record OidcRealmRoleSpec(
+            @JsonPropertyDescription("Name of the role.")
+            String name,
+
+            @JsonPropertyDescription("Description of the role.")
+            String description
+    ) {
+    }
+
+    public record OidcRealmClientScopeSpec(
+            @JsonPropertyDescription("Name of the client scope, e.g. 'read:document'.")
+            String name,
+
+            @JsonPropertyDescription("Realm roles granted the client scope.")
+            List<String> roles
+    ) {
+    }
+
+    public record OidcRealmClientSpec(
+            @JsonPropertyDescription("Client id.")
+            String clientId,
+
+            @JsonPropertyDescription("Whether or not the client is public. Confidential clients get their secret generated by the OIDC Server.")
+            boolean publicClient,
+
+            @JsonPropertyDescription("Valid redirect URIs. Defaults to '*'.")
+            List<String> redirectUris,
+
+            @JsonPropertyDescription("Allowed web origins. Defaults to '*'.")
+            List<String> webOrigins,
+
+            @JsonPropertyDescription("Default client scopes. Defaults to the ones of the UI client.")
+            List<String> defaultClientScopes
     ) {
     }
 
@@ -247,6 +483,20 @@ public record TrustifySpec(
         }
     }
 
+    public enum PersistentVolumeAccessMode {
+        READ_WRITE_ONCE("ReadWriteOnce"),
+        READ_WRITE_MANY("ReadWriteMany");
+        private final String value;
+
+        PersistentVolumeAccessMode(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
     public enum StorageCompressionType {
         NONE("none"),
         ZSTD("zstd");
@@ -275,7 +525,13 @@ public record TrustifySpec(
 
     public record FilesystemStorageSpec(
             @JsonPropertyDescription("Size of the PVC to create.")
-            String pvcSize
+            String pvcSize,
+
+            @JsonPropertyDescription("Storage class of the PVC to create. The default storage class of the cluster is used if not set.")
+            String pvcStorageClassName,
+
+            @JsonPropertyDescription("Access mode of the PVC to create. Default is READ_WRITE_ONCE, which limits the Server to 1 instance. READ_WRITE_MANY, with a storage class supporting it, lets Server instances run on different nodes. It cannot be changed once the PVC is created.")
+            PersistentVolumeAccessMode pvcAccessMode
     ) {
     }
 
@@ -291,6 +547,44 @@ public record TrustifySpec(
     ) {
     }
 
+    public enum UpdateStrategyType {
+        RECREATE("Recreate"),
+        ROLLING_UPDATE("RollingUpdate");
+        private final String value;
+
+        UpdateStrategyType(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    public record UpdateStrategySpec(
+            @JsonPropertyDescription("Update strategy type. Default is RollingUpdate, or Recreate if the storage type is filesystem since its volume can be mounted by a single node.")
+            UpdateStrategyType type,
+
+            @JsonPropertyDescription("Maximum number of instances created above the desired number during a RollingUpdate. A number or a percentage, default is 25%.")
+            String maxSurge,
+
+            @JsonPropertyDescription("Maximum number of unavailable instances during a RollingUpdate. A number or a percentage, default is 0.")
+            String maxUnavailable
+    ) {
+    }
+
+    public record DisruptionBudgetSpec(
+            @JsonPropertyDescription("Create a PodDisruptionBudget.")
+            boolean enabled,
+
+            @JsonPropertyDescription("Minimum number of available instances during a voluntary disruption. A number or a percentage.")
+            String minAvailable,
+
+            @JsonPropertyDescription("Maximum number of unavailable instances during a voluntary disruption. A number or a percentage, default is 1 if minAvailable is not set.")
+            String maxUnavailable
+    ) {
+    }
+
     public record ResourcesLimitSpec(
             @JsonPropertyDescription("Requested CPU.")
             String cpuRequest,
@@ -306,4 +600,61 @@ public record TrustifySpec(
     ) {
     }
 
-}
\ No newline at end of file
+    public record ProbesSpec(
+            @JsonPropertyDescription("Liveness probe, the container is restarted when it fails.")
+            ProbeSpec liveness,
+
+            @JsonPropertyDescription("Readiness probe, the instance stops receiving traffic while it fails.")
+            ProbeSpec readiness,
+
+            @JsonPropertyDescription("Startup probe, the container is restarted if it does not succeed within failureThreshold * periodSeconds. Only used by the components that have one.")
+            ProbeSpec startup,
+
+            @JsonPropertyDescription("Grow the failureThreshold of the startup probe to twice the longest first startup observed by the operator, recorded in the status, up to the maximum startup configured in the operator. Only used by the Server.")
+            boolean adaptiveStartup
+    ) {
+    }
+
+    public record ProbeSpec(
+            @JsonPropertyDescription("Seconds after the container has started before the probe is run.")
+            Integer initialDelaySeconds,
+
+            @JsonPropertyDescription("How often, in seconds, to run the probe.")
+            Integer periodSeconds,
+
+            @JsonPropertyDescription("Seconds after which the probe times out.")
+            Integer timeoutSeconds,
+
+            @JsonPropertyDescription("Consecutive failures for the probe to be considered failed.")
+            Integer failureThreshold
+    ) {
+    }
+
+    public record AutoscalingSpec(
+            @JsonPropertyDescription("Enable horizontal autoscaling.")
+            boolean enabled,
+
+            @JsonPropertyDescription("Minimum number of instances. Default is 1.")
+            Integer minReplicas,
+
+            @JsonPropertyDescription("Maximum number of instances. Default is 3.")
+            Integer maxReplicas,
+
+            @JsonPropertyDescription("Target average CPU utilization, as a percentage of the requested CPU. Default is 80 if no other metric is set.")
+            Integer targetCpuUtilizationPercentage,
+
+            @JsonPropertyDescription("Target average memory utilization, as a percentage of the requested memory.")
+            Integer targetMemoryUtilizationPercentage,
+
+            @JsonPropertyDescription("Additional metrics, e.g. Pods or External metrics, used to compute the number of instances.")
+            List<MetricSpec> metrics,
+
+            @JsonPropertyDescription("Number of seconds the lowest recommendation is considered before scaling up. Default is 0.")
+            Integer scaleUpStabilizationWindowSeconds,
+
+            @JsonPropertyDescription("Number of seconds the highest recommendation is considered before scaling down. Default is 300.")
+            Integer scaleDownStabilizationWindowSeconds
+    ) {
+    }
+
+}
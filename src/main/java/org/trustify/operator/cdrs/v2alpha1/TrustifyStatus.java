@@ -1,6 +1,7 @@
 package org.trustify.operator.cdrs.v2alpha1;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,6 +11,12 @@ import java.util.stream.Collectors;
 public class TrustifyStatus {
     private List<TrustifyStatusCondition> conditions;
 
+    @JsonPropertyDescription("Server image the database schema was last migrated with.")
+    private String migratedVersion;
+
+    @JsonPropertyDescription("Longest startup of the Server observed by the operator, in seconds. Recorded if serverProbes.adaptiveStartup is enabled.")
+    private Integer serverStartupSeconds;
+
     public TrustifyStatus() {
         conditions = new ArrayList<>();
     }
@@ -22,6 +29,22 @@ public class TrustifyStatus {
         this.conditions = conditions;
     }
 
+    public String getMigratedVersion() {
+        return migratedVersion;
+    }
+
+    public void setMigratedVersion(String migratedVersion) {
+        this.migratedVersion = migratedVersion;
+    }
+
+    public Integer getServerStartupSeconds() {
+        return serverStartupSeconds;
+    }
+
+    public void setServerStartupSeconds(Integer serverStartupSeconds) {
+        this.serverStartupSeconds = serverStartupSeconds;
+    }
+
     @JsonIgnore
     public void setCondition(TrustifyStatusCondition condition) {
         List<TrustifyStatusCondition> conditions = this.conditions.stream()
@@ -42,11 +65,13 @@ public class TrustifyStatus {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         TrustifyStatus status = (TrustifyStatus) o;
-        return Objects.equals(getConditions(), status.getConditions());
+        return Objects.equals(getConditions(), status.getConditions()) &&
+                Objects.equals(getMigratedVersion(), status.getMigratedVersion()) &&
+                Objects.equals(getServerStartupSeconds(), status.getServerStartupSeconds());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getConditions());
+        return Objects.hash(getConditions(), getMigratedVersion(), getServerStartupSeconds());
     }
 }
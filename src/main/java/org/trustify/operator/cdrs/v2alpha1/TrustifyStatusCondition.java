@@ -10,6 +10,8 @@ public class TrustifyStatusCondition {
     public static final String SUCCESSFUL = "Successful";
     public static final String PROCESSING = "Processing";
     public static final String DEGRADED = "Degraded";
+    public static final String SERVER_SCALE_OUT = "ServerScaleOut";
+    public static final String IMPORTER_AUTOSCALING = "ImporterAutoscaling";
 
     public enum Status {
         True,
@@ -19,6 +21,8 @@ public class TrustifyStatusCondition {
 
     private String type;
     private String status = Status.Unknown.name();
+    private String reason;
+    private String message;
 
     @JsonProperty("type")
     public String getType() {
@@ -57,17 +61,40 @@ public class TrustifyStatusCondition {
         }
     }
 
+    @JsonProperty("reason")
+    public String getReason() {
+        return reason;
+    }
+
+    @JsonProperty("reason")
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    @JsonProperty("message")
+    public String getMessage() {
+        return message;
+    }
+
+    @JsonProperty("message")
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         TrustifyStatusCondition that = (TrustifyStatusCondition) o;
-        return Objects.equals(getType(), that.getType()) && Objects.equals(getStatus(), that.getStatus());
+        return Objects.equals(getType(), that.getType()) &&
+                Objects.equals(getStatus(), that.getStatus()) &&
+                Objects.equals(getReason(), that.getReason()) &&
+                Objects.equals(getMessage(), that.getMessage());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(getType(), getStatus());
+        return Objects.hash(getType(), getStatus(), getReason(), getMessage());
     }
 
     @Override
@@ -75,6 +102,7 @@ public class TrustifyStatusCondition {
         return getClass().getSimpleName() + "{" +
                 "type='" + type + '\'' +
                 ", status=" + status +
+                ", reason='" + reason + '\'' +
                 '}';
     }
 }
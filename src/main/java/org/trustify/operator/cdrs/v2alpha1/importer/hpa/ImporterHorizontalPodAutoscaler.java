@@ -0,0 +1,46 @@
+package org.trustify.operator.cdrs.v2alpha1.importer.hpa;
+
+import io.fabric8.kubernetes.api.model.autoscaling.v2.HorizontalPodAutoscaler;
+import io.fabric8.kubernetes.api.model.autoscaling.v2.HorizontalPodAutoscalerBuilder;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.importer.statefulset.ImporterStatefulSet;
+import org.trustify.operator.services.MetricsService;
+import org.trustify.operator.utils.CRDUtils;
+
+@KubernetesDependent(labelSelector = ImporterHorizontalPodAutoscaler.LABEL_SELECTOR, resourceDiscriminator = ImporterHorizontalPodAutoscalerDiscriminator.class)
+@ApplicationScoped
+public class ImporterHorizontalPodAutoscaler extends CRUDKubernetesDependentResource<HorizontalPodAutoscaler, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=importer";
+
+    public ImporterHorizontalPodAutoscaler() {
+        super(HorizontalPodAutoscaler.class);
+    }
+
+    @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
+    protected HorizontalPodAutoscaler desired(Trustify cr, Context<Trustify> context) {
+        return newHorizontalPodAutoscaler(cr);
+    }
+
+    private HorizontalPodAutoscaler newHorizontalPodAutoscaler(Trustify cr) {
+        return new HorizontalPodAutoscalerBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getHorizontalPodAutoscalerName(cr), LABEL_SELECTOR, cr))
+                        .build()
+                )
+                .withSpec(CRDUtils.getHorizontalPodAutoscalerSpec(cr.getSpec().importerAutoscalingSpec(), "StatefulSet", ImporterStatefulSet.getStatefulSetName(cr)))
+                .build();
+    }
+
+    public static String getHorizontalPodAutoscalerName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.IMPORTER_HPA_SUFFIX;
+    }
+
+}
@@ -0,0 +1,21 @@
+package org.trustify.operator.cdrs.v2alpha1.importer.hpa;
+
+import io.fabric8.kubernetes.api.model.autoscaling.v2.HorizontalPodAutoscaler;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.ResourceDiscriminator;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.controllers.TrustifyReconciler;
+
+import java.util.Optional;
+
+public class ImporterHorizontalPodAutoscalerDiscriminator implements ResourceDiscriminator<HorizontalPodAutoscaler, Trustify> {
+    @Override
+    public Optional<HorizontalPodAutoscaler> distinguish(Class<HorizontalPodAutoscaler> resource, Trustify cr, Context<Trustify> context) {
+        String horizontalPodAutoscalerName = ImporterHorizontalPodAutoscaler.getHorizontalPodAutoscalerName(cr);
+        ResourceID resourceID = new ResourceID(horizontalPodAutoscalerName, cr.getMetadata().getNamespace());
+        var informerEventSource = (InformerEventSource<HorizontalPodAutoscaler, Trustify>) context.eventSourceRetriever().getResourceEventSourceFor(HorizontalPodAutoscaler.class, TrustifyReconciler.HORIZONTAL_POD_AUTOSCALER_EVENT_SOURCE);
+        return informerEventSource.get(resourceID);
+    }
+}
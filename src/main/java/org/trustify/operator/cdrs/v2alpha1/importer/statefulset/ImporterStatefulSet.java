@@ -6,16 +6,23 @@ import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.processing.dependent.Matcher;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.trustify.operator.Constants;
 import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
-import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeployment;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.TrustifyStatusCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.db.statefulset.DBStatefulSet;
 import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeploymentConfigurator;
-import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.controllers.DesiredStateCache;
+import org.trustify.operator.services.MetricsService;
+import org.trustify.operator.utils.CRDUtils;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @KubernetesDependent(labelSelector = ImporterStatefulSet.LABEL_SELECTOR, resourceDiscriminator = ImporterStatefulSetDiscriminator.class)
@@ -36,34 +43,61 @@ public class ImporterStatefulSet extends CRUDKubernetesDependentResource<Statefu
     }
 
     @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
     protected StatefulSet desired(Trustify cr, Context<Trustify> context) {
-        return newStatefulSet(cr, context);
+        return DesiredStateCache.computeIfAbsent(context, cr, getClass().getName(), () -> {
+            StatefulSet statefulSet = newStatefulSet(cr, context);
+            return CRDUtils.addPodTemplateHash(statefulSet, statefulSet.getSpec().getTemplate());
+        });
     }
 
     @Override
     public Result<StatefulSet> match(StatefulSet actual, Trustify cr, Context<Trustify> context) {
-        boolean matchDesiredInstances = getDesiredInstances(cr) == actual.getSpec().getReplicas();
+        // Replicas are owned by the HorizontalPodAutoscaler when autoscaling is enabled
+        boolean matchDesiredInstances = isAutoscalingEnabled(cr) || Objects.equals(getDesiredInstances(cr), actual.getSpec().getReplicas());
         if (!matchDesiredInstances) {
             return Result.nonComputed(false);
         }
 
-        ResourceConfigurator.Config config = importerConfigurator.configureDeployment(cr, context);
-        boolean match = config.match(actual.getSpec().getTemplate().getSpec());
+        boolean match = CRDUtils.matchPodTemplate(actual, desired(cr, context), context);
         return Result.nonComputed(match);
     }
 
-    private int getDesiredInstances(Trustify cr) {
+    public static Integer getDesiredInstances(Trustify cr) {
+        if (isAutoscalingEnabled(cr)) {
+            // Not applied, so server-side apply leaves the replicas to the HorizontalPodAutoscaler
+            return null;
+        }
         return Optional.ofNullable(cr.getSpec().importerInstances())
                 .orElse(1);
     }
 
+    public static boolean isAutoscalingEnabled(Trustify cr) {
+        return CRDUtils.isAutoscalingEnabled(cr.getSpec().importerAutoscalingSpec());
+    }
+
+    public static TrustifyStatusCondition getAutoscalingCondition(Trustify cr) {
+        TrustifyStatusCondition condition = new TrustifyStatusCondition();
+        condition.setType(TrustifyStatusCondition.IMPORTER_AUTOSCALING);
+        if (isAutoscalingEnabled(cr)) {
+            condition.setStatus(true);
+            condition.setReason("Enabled");
+            condition.setMessage("The number of Importer instances is chosen by the HorizontalPodAutoscaler.");
+        } else {
+            condition.setStatus(false);
+            condition.setReason("Disabled");
+            condition.setMessage("importerAutoscaling is not enabled.");
+        }
+        return condition;
+    }
+
     private StatefulSet newStatefulSet(Trustify cr, Context<Trustify> context) {
         return new StatefulSetBuilder()
                 .withMetadata(Constants.metadataBuilder
                         .apply(new Constants.Resource(getStatefulSetName(cr), LABEL_SELECTOR, cr))
                         .withAnnotations(Map.of("app.openshift.io/connects-to", """
                                 [{"apiVersion": "apps/v1", "kind":"StatefulSet", "name": "%s"}]
-                                """.formatted(DBDeployment.getDeploymentName(cr))
+                                """.formatted(DBStatefulSet.getStatefulSetName(cr))
                         ))
                         .build()
                 )
@@ -72,7 +106,7 @@ public class ImporterStatefulSet extends CRUDKubernetesDependentResource<Statefu
     }
 
     private StatefulSetSpec getStatefulSetSpec(Trustify cr, Context<Trustify> context) {
-        ServerDeploymentConfigurator.Config config = importerConfigurator.configureDeployment(cr, context);
+        ServerDeploymentConfigurator.Config config = importerConfigurator.getDeploymentConfig(cr, context);
 
         String pvcStorageSize = Optional.ofNullable(cr.getSpec().importerWorkdirPvcSize())
                 .orElse(trustifyConfig.defaultPvcSize());
@@ -84,6 +118,22 @@ public class ImporterStatefulSet extends CRUDKubernetesDependentResource<Statefu
                 .withMountPath("/data/workdir")
                 .build();
 
+        PersistentVolumeClaim volumeClaimTemplate = new PersistentVolumeClaimBuilder()
+                .withMetadata(new ObjectMetaBuilder()
+                        .withName(persistentVolumeClaimName)
+                        .build()
+                )
+                .withSpec(new PersistentVolumeClaimSpecBuilder()
+                        .withAccessModes("ReadWriteOnce")
+                        .withStorageClassName(cr.getSpec().importerWorkdirPvcStorageClassName())
+                        .withResources(new VolumeResourceRequirementsBuilder()
+                                .withRequests(Map.of("storage", new Quantity(pvcStorageSize)))
+                                .build()
+                        )
+                        .build()
+                )
+                .build();
+
         return new StatefulSetSpecBuilder()
                 .withUpdateStrategy(new StatefulSetUpdateStrategyBuilder()
                         .withType("RollingUpdate")
@@ -94,21 +144,7 @@ public class ImporterStatefulSet extends CRUDKubernetesDependentResource<Statefu
                         .withMatchLabels(getPodSelectorLabels(cr))
                         .build()
                 )
-                .withVolumeClaimTemplates(new PersistentVolumeClaimBuilder()
-                        .withMetadata(new ObjectMetaBuilder()
-                                .withName(persistentVolumeClaimName)
-                                .build()
-                        )
-                        .withSpec(new PersistentVolumeClaimSpecBuilder()
-                                .withAccessModes("ReadWriteOnce")
-                                .withResources(new VolumeResourceRequirementsBuilder()
-                                        .withRequests(Map.of("storage", new Quantity(pvcStorageSize)))
-                                        .build()
-                                )
-                                .build()
-                        )
-                        .build()
-                )
+                .withVolumeClaimTemplates(CRDUtils.getVolumeClaimTemplates(context, getStatefulSetName(cr), cr.getMetadata().getNamespace(), List.of(volumeClaimTemplate)))
                 .withTemplate(new PodTemplateSpecBuilder()
                         .withNewMetadata()
                         .addToLabels(getPodSelectorLabels(cr))
@@ -135,48 +171,51 @@ public class ImporterStatefulSet extends CRUDKubernetesDependentResource<Statefu
                                                         .withContainerPort(getStatefulSetInfrastructurePort(cr))
                                                         .build()
                                         )
-                                        .withLivenessProbe(new ProbeBuilder()
-                                                .withHttpGet(new HTTPGetActionBuilder()
-                                                        .withPath("/health/live")
-                                                        .withNewPort(getStatefulSetInfrastructurePort(cr))
-                                                        .withScheme("HTTP")
-                                                        .build()
-                                                )
-                                                .withInitialDelaySeconds(5)
-                                                .withTimeoutSeconds(10)
-                                                .withPeriodSeconds(10)
-                                                .withSuccessThreshold(1)
-                                                .withFailureThreshold(3)
-                                                .build()
-                                        )
-                                        .withReadinessProbe(new ProbeBuilder()
-                                                .withHttpGet(new HTTPGetActionBuilder()
-                                                        .withPath("health/ready")
-                                                        .withNewPort(getStatefulSetInfrastructurePort(cr))
-                                                        .withScheme("HTTP")
-                                                        .build()
-                                                )
-                                                .withInitialDelaySeconds(5)
-                                                .withTimeoutSeconds(1)
-                                                .withPeriodSeconds(10)
-                                                .withSuccessThreshold(1)
-                                                .withFailureThreshold(3)
-                                                .build()
-                                        )
-                                        .withStartupProbe(new ProbeBuilder()
-                                                .withHttpGet(new HTTPGetActionBuilder()
-                                                        .withPath("/health/startup")
-                                                        .withNewPort(getStatefulSetInfrastructurePort(cr))
-                                                        .withScheme("HTTP")
-                                                        .build()
-                                                )
-                                                .withInitialDelaySeconds(5)
-                                                .withTimeoutSeconds(1)
-                                                .withPeriodSeconds(10)
-                                                .withSuccessThreshold(1)
-                                                .withFailureThreshold(3)
-                                                .build()
-                                        )
+                                        .withLivenessProbe(CRDUtils.getProbe(new ProbeBuilder()
+                                                        .withHttpGet(new HTTPGetActionBuilder()
+                                                                .withPath("/health/live")
+                                                                .withNewPort(getStatefulSetInfrastructurePort(cr))
+                                                                .withScheme("HTTP")
+                                                                .build()
+                                                        )
+                                                        .withInitialDelaySeconds(5)
+                                                        .withTimeoutSeconds(10)
+                                                        .withPeriodSeconds(10)
+                                                        .withSuccessThreshold(1)
+                                                        .withFailureThreshold(3)
+                                                        .build(),
+                                                CRDUtils.getValueFromSubSpec(cr.getSpec().importerProbesSpec(), TrustifySpec.ProbesSpec::liveness).orElse(null)
+                                        ))
+                                        .withReadinessProbe(CRDUtils.getProbe(new ProbeBuilder()
+                                                        .withHttpGet(new HTTPGetActionBuilder()
+                                                                .withPath("health/ready")
+                                                                .withNewPort(getStatefulSetInfrastructurePort(cr))
+                                                                .withScheme("HTTP")
+                                                                .build()
+                                                        )
+                                                        .withInitialDelaySeconds(5)
+                                                        .withTimeoutSeconds(1)
+                                                        .withPeriodSeconds(10)
+                                                        .withSuccessThreshold(1)
+                                                        .withFailureThreshold(3)
+                                                        .build(),
+                                                CRDUtils.getValueFromSubSpec(cr.getSpec().importerProbesSpec(), TrustifySpec.ProbesSpec::readiness).orElse(null)
+                                        ))
+                                        .withStartupProbe(CRDUtils.getProbe(new ProbeBuilder()
+                                                        .withHttpGet(new HTTPGetActionBuilder()
+                                                                .withPath("/health/startup")
+                                                                .withNewPort(getStatefulSetInfrastructurePort(cr))
+                                                                .withScheme("HTTP")
+                                                                .build()
+                                                        )
+                                                        .withInitialDelaySeconds(5)
+                                                        .withTimeoutSeconds(1)
+                                                        .withPeriodSeconds(10)
+                                                        .withSuccessThreshold(1)
+                                                        .withFailureThreshold(3)
+                                                        .build(),
+                                                CRDUtils.getValueFromSubSpec(cr.getSpec().importerProbesSpec(), TrustifySpec.ProbesSpec::startup).orElse(null)
+                                        ))
                                         .withVolumeMounts(config.allVolumeMounts())
                                         .addToVolumeMounts(volumeMount)
                                         .withResources(config.resourceRequirements())
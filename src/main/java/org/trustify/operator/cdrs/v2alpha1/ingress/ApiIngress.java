@@ -0,0 +1,121 @@
+package org.trustify.operator.cdrs.v2alpha1.ingress;
+
+import io.fabric8.kubernetes.api.model.networking.v1.*;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.service.ServerService;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
+import org.trustify.operator.services.MetricsService;
+
+import java.util.*;
+
+/**
+ * Routes the API paths straight to the server, next to the {@link AppIngress} that sends everything else to the UI.
+ * On OpenShift, the Ingress is turned into one Route per path by the router.
+ */
+@KubernetesDependent(labelSelector = ApiIngress.LABEL_SELECTOR, resourceDiscriminator = ApiIngressDiscriminator.class)
+@ApplicationScoped
+public class ApiIngress extends CRUDKubernetesDependentResource<Ingress, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=server,component-variant=https";
+
+    public static final List<String> API_PATHS = List.of("/api");
+
+    public static final String NGINX_BACKEND_PROTOCOL_ANNOTATION = "nginx.ingress.kubernetes.io/backend-protocol";
+    public static final String OPENSHIFT_TERMINATION_ANNOTATION = "route.openshift.io/termination";
+
+    @Inject
+    ServerUtils serverUtils;
+
+    public ApiIngress() {
+        super(Ingress.class);
+    }
+
+    @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
+    protected Ingress desired(Trustify cr, Context<Trustify> context) {
+        return newIngress(cr, context);
+    }
+
+    @Override
+    public Result<Ingress> match(Ingress ingress, Trustify cr, Context<Trustify> context) {
+        Ingress desired = desired(cr, context);
+
+        boolean specMatch = Objects.equals(desired.getSpec().getRules(), ingress.getSpec().getRules()) &&
+                Objects.equals(new HashSet<>(desired.getSpec().getTls()), new HashSet<>(ingress.getSpec().getTls())) &&
+                Objects.equals(desired.getSpec().getIngressClassName(), ingress.getSpec().getIngressClassName());
+        if (!specMatch) {
+            return Result.nonComputed(false);
+        }
+
+        boolean annotationsMatch = AppIngress.containsAnnotations(ingress, desired.getMetadata().getAnnotations());
+        if (!annotationsMatch) {
+            return Result.nonComputed(false);
+        }
+
+        return Result.nonComputed(true);
+    }
+
+    protected Ingress newIngress(Trustify cr, Context<Trustify> context) {
+        var port = ServerService.getServicePort(cr);
+
+        Map<String, String> annotations = new HashMap<>();
+        if (serverUtils.tlsSecretName(cr).isPresent()) {
+            // The server only serves HTTPS when it has a certificate
+            annotations.put(NGINX_BACKEND_PROTOCOL_ANNOTATION, "HTTPS");
+            annotations.put(OPENSHIFT_TERMINATION_ANNOTATION, "reencrypt");
+        }
+        annotations.putAll(AppIngress.getIngressAnnotations(cr, context));
+
+        List<HTTPIngressPath> paths = API_PATHS.stream()
+                .map(path -> new HTTPIngressPathBuilder()
+                        .withPath(path)
+                        .withPathType("Prefix")
+                        .withBackend(new IngressBackendBuilder()
+                                .withService(new IngressServiceBackendBuilder()
+                                        .withName(ServerService.getServiceName(cr))
+                                        .withPort(new ServiceBackendPortBuilder()
+                                                .withNumber(port)
+                                                .build()
+                                        )
+                                        .build()
+                                )
+                                .build()
+                        )
+                        .build()
+                )
+                .toList();
+
+        return new IngressBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getIngressName(cr), LABEL_SELECTOR, cr))
+                        .addToAnnotations(AppIngress.withManagedAnnotations(annotations))
+                        .build()
+                )
+                .withSpec(new IngressSpecBuilder()
+                        .withIngressClassName(AppIngress.getIngressClassName(cr))
+                        .withTls(AppIngress.getIngressTLS(cr))
+                        .withRules(List.of(new IngressRuleBuilder()
+                                .withHost(AppIngress.getHostname(cr, context))
+                                .withHttp(new HTTPIngressRuleValueBuilder()
+                                        .withPaths(paths)
+                                        .build()
+                                )
+                                .build()
+                        ))
+                        .build()
+                )
+                .build();
+    }
+
+    public static String getIngressName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.API_INGRESS_SUFFIX;
+    }
+
+}
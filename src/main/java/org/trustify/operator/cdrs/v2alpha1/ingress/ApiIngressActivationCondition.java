@@ -0,0 +1,16 @@
+package org.trustify.operator.cdrs.v2alpha1.ingress;
+
+import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+
+public class ApiIngressActivationCondition implements Condition<Ingress, Trustify> {
+
+    @Override
+    public boolean isMet(DependentResource<Ingress, Trustify> resource, Trustify cr, Context<Trustify> context) {
+        return AppIngress.isDirectApiRoutingEnabled(cr);
+    }
+
+}
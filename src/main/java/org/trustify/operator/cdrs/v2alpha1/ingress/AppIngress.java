@@ -4,14 +4,17 @@ import io.fabric8.kubernetes.api.model.networking.v1.*;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.trustify.operator.Constants;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
 import org.trustify.operator.cdrs.v2alpha1.ui.service.UIService;
 import org.trustify.operator.services.ClusterService;
+import org.trustify.operator.services.MetricsService;
 
 import java.util.*;
+import java.util.stream.Collectors;
 
 @KubernetesDependent(labelSelector = AppIngress.LABEL_SELECTOR, resourceDiscriminator = AppIngressDiscriminator.class)
 @ApplicationScoped
@@ -19,11 +22,15 @@ public class AppIngress extends CRUDKubernetesDependentResource<Ingress, Trustif
 
     public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=ui,component-variant=https";
 
+    public static final String NGINX_PROXY_BODY_SIZE_ANNOTATION = "nginx.ingress.kubernetes.io/proxy-body-size";
+    public static final String DEFAULT_MAX_BODY_SIZE = "50m";
+
     public AppIngress() {
         super(Ingress.class);
     }
 
     @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
     protected Ingress desired(Trustify cr, Context<Trustify> context) {
         return newIngress(cr, context);
     }
@@ -49,10 +56,20 @@ public class AppIngress extends CRUDKubernetesDependentResource<Ingress, Trustif
             return Result.nonComputed(false);
         }
 
+        boolean ingressClassMatch = Objects.equals(getIngressClassName(cr), ingress.getSpec().getIngressClassName());
+        if (!ingressClassMatch) {
+            return Result.nonComputed(false);
+        }
+
+        boolean annotationsMatch = containsAnnotations(ingress, withManagedAnnotations(getIngressAnnotations(cr, context)));
+        if (!annotationsMatch) {
+            return Result.nonComputed(false);
+        }
+
         return Result.nonComputed(true);
     }
 
-    private String getHostname(Trustify cr, Context<Trustify> context) {
+    public static String getHostname(Trustify cr, Context<Trustify> context) {
         return Optional.ofNullable(cr.getSpec().hostnameSpec())
                 .flatMap(hostnameSpec -> Optional.ofNullable(hostnameSpec.hostname()))
                 .or(() -> {
@@ -68,9 +85,11 @@ public class AppIngress extends CRUDKubernetesDependentResource<Ingress, Trustif
         return new IngressBuilder()
                 .withMetadata(Constants.metadataBuilder
                         .apply(new Constants.Resource(getIngressName(cr), LABEL_SELECTOR, cr))
+                        .addToAnnotations(withManagedAnnotations(getIngressAnnotations(cr, context)))
                         .build()
                 )
                 .withSpec(new IngressSpecBuilder()
+                        .withIngressClassName(getIngressClassName(cr))
                         .withTls(getIngressTLS(cr))
                         .withRules(List.of(new IngressRuleBuilder()
                                 .withHost(getHostname(cr, context))
@@ -100,7 +119,7 @@ public class AppIngress extends CRUDKubernetesDependentResource<Ingress, Trustif
                 .build();
     }
 
-    protected List<IngressTLS> getIngressTLS(Trustify cr) {
+    public static List<IngressTLS> getIngressTLS(Trustify cr) {
         String tlsSecretName = Optional.ofNullable(cr.getSpec().httpSpec())
                 .map(TrustifySpec.HttpSpec::tlsSecret)
                 .orElse(null);
@@ -111,6 +130,61 @@ public class AppIngress extends CRUDKubernetesDependentResource<Ingress, Trustif
         return Collections.singletonList(ingressTLS);
     }
 
+    /**
+     * Annotations shared by the Ingress objects: the body size, the performance settings mapped to the ingress
+     * controller of the cluster and, last so they take precedence, the ones set by the user.
+     */
+    public static Map<String, String> getIngressAnnotations(Trustify cr, Context<Trustify> context) {
+        Map<String, String> annotations = new HashMap<>();
+        annotations.put(NGINX_PROXY_BODY_SIZE_ANNOTATION, getMaxBodySize(cr));
+
+        Optional<TrustifySpec.IngressSpec> ingressSpec = Optional.ofNullable(cr.getSpec().ingressSpec());
+        ingressSpec.map(TrustifySpec.IngressSpec::performanceSpec).ifPresent(performanceSpec -> {
+            final var clusterService = context.managedDependentResourceContext().getMandatory(Constants.CLUSTER_SERVICE, ClusterService.class);
+            annotations.putAll(clusterService.getCluster().getIngressPerformanceAnnotations(performanceSpec));
+        });
+        ingressSpec.map(TrustifySpec.IngressSpec::annotations).ifPresent(annotations::putAll);
+
+        return annotations;
+    }
+
+    /**
+     * Adds the list of the annotations set by the operator. A key removed from the spec changes the list, so the
+     * Ingress no longer matches and is applied again, which removes the key. Annotations set by others are kept.
+     */
+    public static Map<String, String> withManagedAnnotations(Map<String, String> annotations) {
+        Map<String, String> result = new HashMap<>(annotations);
+        result.put(Constants.MANAGED_ANNOTATIONS_ANNOTATION, annotations.keySet().stream()
+                .sorted()
+                .collect(Collectors.joining(","))
+        );
+        return result;
+    }
+
+    public static boolean containsAnnotations(Ingress ingress, Map<String, String> desiredAnnotations) {
+        Map<String, String> annotations = Optional.ofNullable(ingress.getMetadata().getAnnotations()).orElse(Collections.emptyMap());
+        return desiredAnnotations.entrySet().stream()
+                .allMatch(entry -> Objects.equals(entry.getValue(), annotations.get(entry.getKey())));
+    }
+
+    public static String getIngressClassName(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().ingressSpec())
+                .map(TrustifySpec.IngressSpec::ingressClassName)
+                .orElse(null);
+    }
+
+    public static boolean isDirectApiRoutingEnabled(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().httpSpec())
+                .map(TrustifySpec.HttpSpec::directApiRouting)
+                .orElse(false);
+    }
+
+    public static String getMaxBodySize(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().httpSpec())
+                .map(TrustifySpec.HttpSpec::maxBodySize)
+                .orElse(DEFAULT_MAX_BODY_SIZE);
+    }
+
     public static String getIngressName(Trustify cr) {
         return cr.getMetadata().getName() + Constants.INGRESS_SUFFIX;
     }
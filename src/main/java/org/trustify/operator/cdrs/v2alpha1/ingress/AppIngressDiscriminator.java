@@ -6,6 +6,7 @@ import io.javaoperatorsdk.operator.api.reconciler.ResourceDiscriminator;
 import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.controllers.TrustifyReconciler;
 
 import java.util.Optional;
 
@@ -14,7 +15,7 @@ public class AppIngressDiscriminator implements ResourceDiscriminator<Ingress, T
     public Optional<Ingress> distinguish(Class<Ingress> resource, Trustify cr, Context<Trustify> context) {
         String ingressName = AppIngress.getIngressName(cr);
         ResourceID resourceID = new ResourceID(ingressName, cr.getMetadata().getNamespace());
-        var informerEventSource = (InformerEventSource<Ingress, Trustify>) context.eventSourceRetriever().getResourceEventSourceFor(Ingress.class);
+        var informerEventSource = (InformerEventSource<Ingress, Trustify>) context.eventSourceRetriever().getResourceEventSourceFor(Ingress.class, TrustifyReconciler.INGRESS_EVENT_SOURCE);
         return informerEventSource.get(resourceID);
     }
 }
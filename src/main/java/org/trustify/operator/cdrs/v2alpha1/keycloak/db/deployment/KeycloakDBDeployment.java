@@ -5,14 +5,20 @@ import io.fabric8.kubernetes.api.model.apps.*;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.trustify.operator.Constants;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
 import org.trustify.operator.controllers.ResourceConfigurator;
 import org.trustify.operator.services.KeycloakServerService;
+import org.trustify.operator.controllers.DesiredStateCache;
+import org.trustify.operator.services.MetricsService;
+import org.trustify.operator.utils.CRDUtils;
 
 import java.util.Map;
+import java.util.Optional;
 
 @KubernetesDependent(labelSelector = KeycloakDBDeployment.LABEL_SELECTOR, resourceDiscriminator = KeycloakDBDeploymentDiscriminator.class)
 @ApplicationScoped
@@ -28,14 +34,17 @@ public class KeycloakDBDeployment extends CRUDKubernetesDependentResource<Deploy
     }
 
     @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
     protected Deployment desired(Trustify cr, Context<Trustify> context) {
-        return newDeployment(cr, context);
+        return DesiredStateCache.computeIfAbsent(context, cr, getClass().getName(), () -> {
+            Deployment deployment = newDeployment(cr, context);
+            return CRDUtils.addPodTemplateHash(deployment, deployment.getSpec().getTemplate());
+        });
     }
 
     @Override
     public Result<Deployment> match(Deployment actual, Trustify cr, Context<Trustify> context) {
-        ResourceConfigurator.Config config = keycloakDBDeploymentConfigurator.configureDeployment(cr, context);
-        boolean match = config.match(actual.getSpec().getTemplate().getSpec());
+        boolean match = CRDUtils.matchPodTemplate(actual, desired(cr, context), context);
         return Result.nonComputed(match);
     }
 
@@ -55,7 +64,7 @@ public class KeycloakDBDeployment extends CRUDKubernetesDependentResource<Deploy
     }
 
     private DeploymentSpec getDeploymentSpec(Trustify cr, Context<Trustify> context) {
-        ResourceConfigurator.Config config = keycloakDBDeploymentConfigurator.configureDeployment(cr, context);
+        ResourceConfigurator.Config config = keycloakDBDeploymentConfigurator.getDeploymentConfig(cr, context);
 
         return new DeploymentSpecBuilder()
                 .withStrategy(new DeploymentStrategyBuilder()
@@ -86,30 +95,32 @@ public class KeycloakDBDeployment extends CRUDKubernetesDependentResource<Deploy
                                                 .withContainerPort(getDatabasePort(cr))
                                                 .build()
                                         )
-                                        .withLivenessProbe(new ProbeBuilder()
-                                                .withExec(new ExecActionBuilder()
-                                                        .withCommand("/bin/sh", "-c", "psql -U $POSTGRESQL_USER -d $POSTGRESQL_DATABASE -c 'SELECT 1'")
-                                                        .build()
-                                                )
-                                                .withInitialDelaySeconds(10)
-                                                .withTimeoutSeconds(10)
-                                                .withPeriodSeconds(10)
-                                                .withSuccessThreshold(1)
-                                                .withFailureThreshold(3)
-                                                .build()
-                                        )
-                                        .withReadinessProbe(new ProbeBuilder()
-                                                .withExec(new ExecActionBuilder()
-                                                        .withCommand("/bin/sh", "-c", "psql -U $POSTGRESQL_USER -d $POSTGRESQL_DATABASE -c 'SELECT 1'")
-                                                        .build()
-                                                )
-                                                .withInitialDelaySeconds(5)
-                                                .withTimeoutSeconds(1)
-                                                .withPeriodSeconds(10)
-                                                .withSuccessThreshold(1)
-                                                .withFailureThreshold(3)
-                                                .build()
-                                        )
+                                        .withLivenessProbe(CRDUtils.getProbe(new ProbeBuilder()
+                                                        .withTcpSocket(new TCPSocketActionBuilder()
+                                                                .withPort(new IntOrString(getDatabasePort(cr)))
+                                                                .build()
+                                                        )
+                                                        .withInitialDelaySeconds(10)
+                                                        .withTimeoutSeconds(10)
+                                                        .withPeriodSeconds(10)
+                                                        .withSuccessThreshold(1)
+                                                        .withFailureThreshold(3)
+                                                        .build(),
+                                                CRDUtils.getValueFromSubSpec(getProbesSpec(cr), TrustifySpec.ProbesSpec::liveness).orElse(null)
+                                        ))
+                                        .withReadinessProbe(CRDUtils.getProbe(new ProbeBuilder()
+                                                        .withExec(new ExecActionBuilder()
+                                                                .withCommand("pg_isready", "-h", "127.0.0.1", "-p", getDatabasePort(cr).toString())
+                                                                .build()
+                                                        )
+                                                        .withInitialDelaySeconds(5)
+                                                        .withTimeoutSeconds(1)
+                                                        .withPeriodSeconds(10)
+                                                        .withSuccessThreshold(1)
+                                                        .withFailureThreshold(3)
+                                                        .build(),
+                                                CRDUtils.getValueFromSubSpec(getProbesSpec(cr), TrustifySpec.ProbesSpec::readiness).orElse(null)
+                                        ))
                                         .withVolumeMounts(config.allVolumeMounts())
                                         .withResources(config.resourceRequirements())
                                         .build()
@@ -122,6 +133,15 @@ public class KeycloakDBDeployment extends CRUDKubernetesDependentResource<Deploy
                 .build();
     }
 
+    private static TrustifySpec.ProbesSpec getProbesSpec(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().oidcSpec())
+                .flatMap(oidcSpec -> Optional.ofNullable(oidcSpec.embeddedOidcSpec()))
+                .flatMap(embeddedOidcSpec -> Optional.ofNullable(embeddedOidcSpec.databaseSpec()))
+                .flatMap(databaseSpec -> Optional.ofNullable(databaseSpec.embeddedDatabaseSpec()))
+                .map(TrustifySpec.EmbeddedDatabaseSpec::probesSpec)
+                .orElse(null);
+    }
+
     public static String getDeploymentName(Trustify cr) {
         return cr.getMetadata().getName() + Constants.OIDC_DB_DEPLOYMENT_SUFFIX;
     }
@@ -5,12 +5,14 @@ import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.processing.dependent.Creator;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.trustify.operator.Constants;
 import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.services.MetricsService;
 
 import java.util.Map;
 import java.util.Optional;
@@ -30,6 +32,7 @@ public class KeycloakDBPersistentVolumeClaim extends CRUDKubernetesDependentReso
     }
 
     @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
     protected PersistentVolumeClaim desired(Trustify cr, Context<Trustify> context) {
         return newPersistentVolumeClaim(cr, context);
     }
@@ -41,6 +44,12 @@ public class KeycloakDBPersistentVolumeClaim extends CRUDKubernetesDependentReso
                 .flatMap(databaseSpec -> Optional.ofNullable(databaseSpec.embeddedDatabaseSpec()))
                 .map(TrustifySpec.EmbeddedDatabaseSpec::pvcSize)
                 .orElse(trustifyConfig.defaultPvcSize());
+        String pvcStorageClassName = Optional.ofNullable(cr.getSpec().oidcSpec())
+                .flatMap(oidcSpec -> Optional.ofNullable(oidcSpec.embeddedOidcSpec()))
+                .flatMap(embeddedOidcSpec -> Optional.ofNullable(embeddedOidcSpec.databaseSpec()))
+                .flatMap(databaseSpec -> Optional.ofNullable(databaseSpec.embeddedDatabaseSpec()))
+                .map(TrustifySpec.EmbeddedDatabaseSpec::pvcStorageClassName)
+                .orElse(null);
 
         return new PersistentVolumeClaimBuilder()
                 .withMetadata(Constants.metadataBuilder
@@ -49,6 +58,7 @@ public class KeycloakDBPersistentVolumeClaim extends CRUDKubernetesDependentReso
                 )
                 .withSpec(new PersistentVolumeClaimSpecBuilder()
                         .withAccessModes("ReadWriteOnce")
+                        .withStorageClassName(pvcStorageClassName)
                         .withResources(new VolumeResourceRequirementsBuilder()
                                 .withRequests(Map.of("storage", new Quantity(pvcStorageSize)))
                                 .build()
@@ -7,9 +7,11 @@ import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.processing.dependent.Creator;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.trustify.operator.Constants;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.services.MetricsService;
 import org.trustify.operator.utils.CRDUtils;
 
 @KubernetesDependent(labelSelector = KeycloakDBSecret.LABEL_SELECTOR, resourceDiscriminator = KeycloakDBSecretDiscriminator.class)
@@ -23,6 +25,7 @@ public class KeycloakDBSecret extends CRUDKubernetesDependentResource<Secret, Tr
     }
 
     @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
     protected Secret desired(Trustify cr, Context<Trustify> context) {
         return newSecret(cr, context);
     }
@@ -22,14 +22,14 @@ public abstract class ServerReconcilePreCondition {
                 return false;
             }
 
-            Boolean isKeycloakReady = keycloakServerService.get().getCurrentInstance(cr)
+            Boolean isKeycloakReady = keycloakServerService.get().getCurrentInstance(cr, context)
                     .map(KeycloakUtils::isKeycloakServerReady)
                     .orElse(false);
             if (!isKeycloakReady) {
                 return false;
             }
 
-            Boolean isKeycloakImportReady = keycloakRealmService.get().getCurrentInstance(cr)
+            Boolean isKeycloakImportReady = keycloakRealmService.get().getCurrentInstance(cr, context)
                     .map(KeycloakUtils::isKeycloakRealmImportReady)
                     .orElse(false);
             if (!isKeycloakImportReady) {
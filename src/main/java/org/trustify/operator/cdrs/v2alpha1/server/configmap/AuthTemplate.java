@@ -1,11 +1,11 @@
 package org.trustify.operator.cdrs.v2alpha1.server.configmap;
 
-import io.quarkus.qute.CheckedTemplate;
-import io.quarkus.qute.TemplateInstance;
-
 import java.util.List;
 
-@CheckedTemplate
+/**
+ * Data of the "resources/templates/auth.yaml" template. The template declares its parameter, so its expressions are
+ * still validated by the Quarkus build.
+ */
 public class AuthTemplate {
 
     public record Client(String serverUrl, String clientId, List<String> tlsCaCertificates) {
@@ -14,12 +14,4 @@ public class AuthTemplate {
     public record Data(List<Client> clients) {
     }
 
-    /**
-     * Searches for a file with the name of the method of this function into "resources/templates
-     *
-     * @param data Should Match the fields in the template file
-     * @return a Template instance
-     */
-    public static native TemplateInstance auth(Data data);
-
 }
\ No newline at end of file
@@ -9,6 +9,8 @@ import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.processing.dependent.Creator;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
+import io.quarkus.qute.Template;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.jboss.logging.Logger;
@@ -16,8 +18,10 @@ import org.keycloak.k8s.v2alpha1.Keycloak;
 import org.trustify.operator.Constants;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.controllers.DesiredStateCache;
 import org.trustify.operator.services.KeycloakRealmService;
 import org.trustify.operator.services.KeycloakServerService;
+import org.trustify.operator.services.MetricsService;
 
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
@@ -34,11 +38,15 @@ public class ServerConfigMap extends CRUDKubernetesDependentResource<ConfigMap,
     @Inject
     KubernetesClient k8sClient;
 
+    @Inject
+    Template auth;
+
     public ServerConfigMap() {
         super(ConfigMap.class);
     }
 
     @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
     protected ConfigMap desired(Trustify cr, Context<Trustify> context) {
         return newConfigMap(cr, context);
     }
@@ -54,6 +62,10 @@ public class ServerConfigMap extends CRUDKubernetesDependentResource<ConfigMap,
     }
 
     public String getAuthValue(Trustify cr, Context<Trustify> context) {
+        return DesiredStateCache.computeIfAbsent(context, cr, getAuthKey(cr), () -> renderAuthValue(cr, context));
+    }
+
+    private String renderAuthValue(Trustify cr, Context<Trustify> context) {
         Optional<String> yamlFile = Optional.ofNullable(cr.getSpec().oidcSpec())
                 .flatMap(oidcSpec -> {
                     if (oidcSpec.enabled()) {
@@ -80,7 +92,7 @@ public class ServerConfigMap extends CRUDKubernetesDependentResource<ConfigMap,
                                         oidcSpec.externalOidcSpec().uiClientId(),
                                         oidcSecret.isPresent() ? List.of(getAuthTlsCaCertificatePath(cr)) : Collections.emptyList()
                                 )));
-                                return Optional.of(AuthTemplate.auth(data).render());
+                                return Optional.of(auth.data("data", data).render());
                             } else {
                                 logger.error("Oidc provider type is EXTERNAL but no config for external oidc was provided");
                                 return Optional.empty();
@@ -96,7 +108,7 @@ public class ServerConfigMap extends CRUDKubernetesDependentResource<ConfigMap,
                                     KeycloakRealmService.getUIClientName(cr),
                                     oidcSecret.isPresent() ? List.of(getAuthTlsCaCertificatePath(cr)) : Collections.emptyList()
                             )));
-                            return Optional.of(AuthTemplate.auth(data).render());
+                            return Optional.of(auth.data("data", data).render());
                         }
                     }
                     return Optional.empty();
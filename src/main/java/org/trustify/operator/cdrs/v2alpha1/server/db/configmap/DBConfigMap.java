@@ -0,0 +1,162 @@
+package org.trustify.operator.cdrs.v2alpha1.server.db.configmap;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.ConfigMapBuilder;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.server.db.statefulset.DBStatefulSetConfigurator;
+import org.trustify.operator.services.MetricsService;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+@KubernetesDependent(labelSelector = DBConfigMap.LABEL_SELECTOR, resourceDiscriminator = DBConfigMapDiscriminator.class)
+@ApplicationScoped
+public class DBConfigMap extends CRUDKubernetesDependentResource<ConfigMap, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=db";
+
+    private static final long KB = 1024;
+    private static final long MB = 1024 * KB;
+    private static final long GB = 1024 * MB;
+
+    // The image creates the replication user only when the database is initialized, so it is created here
+    // if read replicas are enabled on an existing database. Runs before the image's own set_passwords.sh
+    private static final String REPLICATION_USER_SCRIPT = """
+            if [ -v POSTGRESQL_MASTER_USER ]; then
+              psql -v ON_ERROR_STOP=1 --set=user="$POSTGRESQL_MASTER_USER" --set=password="$POSTGRESQL_MASTER_PASSWORD" <<'EOF'
+            SELECT format('CREATE ROLE %I WITH REPLICATION LOGIN PASSWORD %L', :'user', :'password')
+            WHERE NOT EXISTS (SELECT FROM pg_roles WHERE rolname = :'user')\\gexec
+            EOF
+            fi
+            """;
+
+    @Inject
+    DBStatefulSetConfigurator dbStatefulSetConfigurator;
+
+    public DBConfigMap() {
+        super(ConfigMap.class);
+    }
+
+    @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
+    protected ConfigMap desired(Trustify cr, Context<Trustify> context) {
+        return newConfigMap(cr, context);
+    }
+
+    @Override
+    public Result<ConfigMap> match(ConfigMap actual, Trustify cr, Context<Trustify> context) {
+        boolean match = Objects.equals(desired(cr, context).getData(), actual.getData());
+        return Result.nonComputed(match);
+    }
+
+    private ConfigMap newConfigMap(Trustify cr, Context<Trustify> context) {
+        ResourceRequirements resourceRequirements = dbStatefulSetConfigurator.getDeploymentConfig(cr, context).resourceRequirements();
+
+        return new ConfigMapBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getConfigMapName(cr), LABEL_SELECTOR, cr))
+                        .build()
+                )
+                .withData(Map.of(
+                        getPostgresqlConfKey(cr), getPostgresqlConf(cr, resourceRequirements),
+                        getReplicationUserScriptKey(cr), REPLICATION_USER_SCRIPT)
+                )
+                .build();
+    }
+
+    public static String getConfigMapName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.DB_CONFIG_MAP_SUFFIX;
+    }
+
+    public static String getPostgresqlConfKey(Trustify cr) {
+        return "tuning.conf";
+    }
+
+    /**
+     * Directory whose *.conf files are appended to the postgresql.conf of the database image.
+     */
+    public static String getPostgresqlConfDirectory(Trustify cr) {
+        return "/opt/app-root/src/postgresql-cfg";
+    }
+
+    public static String getReplicationUserScriptKey(Trustify cr) {
+        return "create_replication_user.sh";
+    }
+
+    /**
+     * Directory whose *.sh files are sourced by the database image each time the server starts.
+     */
+    public static String getStartScriptsDirectory(Trustify cr) {
+        return "/opt/app-root/src/postgresql-start";
+    }
+
+    /**
+     * Renders the postgresql.conf settings. Memory settings are derived from the memory limit of the database
+     * container, the profile sizes the number of connections and the WAL, and explicit values take precedence.
+     */
+    public static String getPostgresqlConf(Trustify cr, ResourceRequirements resourceRequirements) {
+        Optional<TrustifySpec.DatabaseTuningSpec> tuningSpec = Optional.ofNullable(cr.getSpec().databaseSpec())
+                .map(TrustifySpec.DatabaseSpec::embeddedDatabaseSpec)
+                .map(TrustifySpec.EmbeddedDatabaseSpec::tuningSpec);
+        TrustifySpec.DatabaseTuningProfile profile = tuningSpec
+                .map(TrustifySpec.DatabaseTuningSpec::profile)
+                .orElse(TrustifySpec.DatabaseTuningProfile.SMALL);
+
+        long memory = Optional.ofNullable(resourceRequirements.getLimits())
+                .map(limits -> limits.get("memory"))
+                .map(quantity -> Quantity.getAmountInBytes(quantity).longValue())
+                .orElse(512 * MB);
+        int maxConnections = tuningSpec
+                .map(TrustifySpec.DatabaseTuningSpec::maxConnections)
+                .orElse(switch (profile) {
+                    case SMALL -> 100;
+                    case MEDIUM -> 200;
+                    case LARGE -> 400;
+                });
+        long sharedBuffers = memory / 4;
+        long workMem = Math.max((memory - sharedBuffers) / (maxConnections * 3L), 4 * MB);
+        long maintenanceWorkMem = Math.min(memory / 16, 2 * GB);
+        long walBuffers = Math.max(Math.min(sharedBuffers / 32, 16 * MB), 64 * KB);
+        long minWalSize = switch (profile) {
+            case SMALL -> 512 * MB;
+            case MEDIUM -> GB;
+            case LARGE -> 2 * GB;
+        };
+
+        Map<String, String> parameters = new LinkedHashMap<>();
+        parameters.put("max_connections", String.valueOf(maxConnections));
+        parameters.put("shared_buffers", tuningSpec.map(TrustifySpec.DatabaseTuningSpec::sharedBuffers).orElse(toKilobytes(sharedBuffers)));
+        parameters.put("effective_cache_size", tuningSpec.map(TrustifySpec.DatabaseTuningSpec::effectiveCacheSize).orElse(toKilobytes(memory * 3 / 4)));
+        parameters.put("work_mem", tuningSpec.map(TrustifySpec.DatabaseTuningSpec::workMem).orElse(toKilobytes(workMem)));
+        parameters.put("maintenance_work_mem", tuningSpec.map(TrustifySpec.DatabaseTuningSpec::maintenanceWorkMem).orElse(toKilobytes(maintenanceWorkMem)));
+        parameters.put("wal_buffers", toKilobytes(walBuffers));
+        parameters.put("min_wal_size", toKilobytes(minWalSize));
+        parameters.put("max_wal_size", tuningSpec.map(TrustifySpec.DatabaseTuningSpec::maxWalSize).orElse(toKilobytes(minWalSize * 4)));
+        parameters.put("checkpoint_completion_target", "0.9");
+        tuningSpec.map(TrustifySpec.DatabaseTuningSpec::parameters)
+                .map(TreeMap::new)
+                .ifPresent(parameters::putAll);
+
+        return parameters.entrySet().stream()
+                .map(entry -> entry.getKey() + " = " + entry.getValue())
+                .collect(Collectors.joining("\n", "", "\n"));
+    }
+
+    private static String toKilobytes(long bytes) {
+        return (bytes / KB) + "kB";
+    }
+}
@@ -0,0 +1,12 @@
+package org.trustify.operator.cdrs.v2alpha1.server.db.pooler;
+
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
+
+public abstract class DBPoolerActivationCondition {
+
+    protected boolean isMet(Trustify cr) {
+        return ServerUtils.isDBPoolerEnabled(cr);
+    }
+
+}
@@ -1,40 +1,55 @@
-package org.trustify.operator.cdrs.v2alpha1.server.db.deployment;
+package org.trustify.operator.cdrs.v2alpha1.server.db.pooler.deployment;
 
 import io.fabric8.kubernetes.api.model.*;
-import io.fabric8.kubernetes.api.model.apps.*;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.DeploymentSpec;
+import io.fabric8.kubernetes.api.model.apps.DeploymentSpecBuilder;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.trustify.operator.Constants;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.controllers.DesiredStateCache;
 import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.services.MetricsService;
+import org.trustify.operator.utils.CRDUtils;
 
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
-@KubernetesDependent(labelSelector = DBDeployment.LABEL_SELECTOR, resourceDiscriminator = DBDeploymentDiscriminator.class)
+@KubernetesDependent(labelSelector = DBPoolerDeployment.LABEL_SELECTOR, resourceDiscriminator = DBPoolerDeploymentDiscriminator.class)
 @ApplicationScoped
-public class DBDeployment extends CRUDKubernetesDependentResource<Deployment, Trustify> {
+public class DBPoolerDeployment extends CRUDKubernetesDependentResource<Deployment, Trustify> {
 
-    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=db";
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=db-pooler";
 
     @Inject
-    DBDeploymentConfigurator dbDeploymentConfigurator;
+    DBPoolerDeploymentConfigurator dbPoolerDeploymentConfigurator;
 
-    public DBDeployment() {
+    public DBPoolerDeployment() {
         super(Deployment.class);
     }
 
     @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
     protected Deployment desired(Trustify cr, Context<Trustify> context) {
-        return newDeployment(cr, context);
+        return DesiredStateCache.computeIfAbsent(context, cr, getClass().getName(), () -> {
+            Deployment deployment = newDeployment(cr, context);
+            return CRDUtils.addPodTemplateHash(deployment, deployment.getSpec().getTemplate());
+        });
     }
 
     @Override
     public Result<Deployment> match(Deployment actual, Trustify cr, Context<Trustify> context) {
-        ResourceConfigurator.Config config = dbDeploymentConfigurator.configureDeployment(cr, context);
-        boolean match = config.match(actual.getSpec().getTemplate().getSpec());
+        Deployment desired = desired(cr, context);
+        boolean match = Objects.equals(actual.getSpec().getReplicas(), desired.getSpec().getReplicas())
+                && CRDUtils.matchPodTemplate(actual, desired, context);
         return Result.nonComputed(match);
     }
 
@@ -42,7 +57,6 @@ public class DBDeployment extends CRUDKubernetesDependentResource<Deployment, Tr
         return new DeploymentBuilder()
                 .withMetadata(Constants.metadataBuilder
                         .apply(new Constants.Resource(getDeploymentName(cr), LABEL_SELECTOR, cr))
-                        .addToLabels("app.openshift.io/runtime", "postgresql")
                         .build()
                 )
                 .withSpec(getDeploymentSpec(cr, context))
@@ -50,14 +64,10 @@ public class DBDeployment extends CRUDKubernetesDependentResource<Deployment, Tr
     }
 
     private DeploymentSpec getDeploymentSpec(Trustify cr, Context<Trustify> context) {
-        ResourceConfigurator.Config config = dbDeploymentConfigurator.configureDeployment(cr, context);
+        ResourceConfigurator.Config config = dbPoolerDeploymentConfigurator.getDeploymentConfig(cr, context);
 
         return new DeploymentSpecBuilder()
-                .withStrategy(new DeploymentStrategyBuilder()
-                        .withType("Recreate")
-                        .build()
-                )
-                .withReplicas(1)
+                .withReplicas(getDesiredInstances(cr))
                 .withSelector(new LabelSelectorBuilder()
                         .withMatchLabels(getPodSelectorLabels(cr))
                         .build()
@@ -68,34 +78,34 @@ public class DBDeployment extends CRUDKubernetesDependentResource<Deployment, Tr
                         .endMetadata()
                         .withSpec(new PodSpecBuilder()
                                 .withRestartPolicy("Always")
-                                .withTerminationGracePeriodSeconds(60L)
-                                .withImagePullSecrets(cr.getSpec().imagePullSecrets())
+                                .withTerminationGracePeriodSeconds(30L)
+                                .withImagePullSecrets(config.imagePullSecrets())
                                 .withContainers(new ContainerBuilder()
-                                        .withName(Constants.TRUSTI_DB_NAME)
+                                        .withName("pgbouncer")
                                         .withImage(config.image())
                                         .withImagePullPolicy(config.imagePullPolicy())
                                         .withEnv(config.allEnvVars())
                                         .withPorts(new ContainerPortBuilder()
                                                 .withName("tcp")
                                                 .withProtocol(Constants.SERVICE_PROTOCOL)
-                                                .withContainerPort(getDatabasePort(cr))
+                                                .withContainerPort(getDeploymentPort(cr))
                                                 .build()
                                         )
                                         .withLivenessProbe(new ProbeBuilder()
-                                                .withExec(new ExecActionBuilder()
-                                                        .withCommand("/bin/sh", "-c", "psql -U $POSTGRESQL_USER -d $POSTGRESQL_DATABASE -c 'SELECT 1'")
+                                                .withTcpSocket(new TCPSocketActionBuilder()
+                                                        .withPort(new IntOrString(getDeploymentPort(cr)))
                                                         .build()
                                                 )
                                                 .withInitialDelaySeconds(10)
-                                                .withTimeoutSeconds(10)
+                                                .withTimeoutSeconds(5)
                                                 .withPeriodSeconds(10)
                                                 .withSuccessThreshold(1)
                                                 .withFailureThreshold(3)
                                                 .build()
                                         )
                                         .withReadinessProbe(new ProbeBuilder()
-                                                .withExec(new ExecActionBuilder()
-                                                        .withCommand("/bin/sh", "-c", "psql -U $POSTGRESQL_USER -d $POSTGRESQL_DATABASE -c 'SELECT 1'")
+                                                .withTcpSocket(new TCPSocketActionBuilder()
+                                                        .withPort(new IntOrString(getDeploymentPort(cr)))
                                                         .build()
                                                 )
                                                 .withInitialDelaySeconds(5)
@@ -105,11 +115,9 @@ public class DBDeployment extends CRUDKubernetesDependentResource<Deployment, Tr
                                                 .withFailureThreshold(3)
                                                 .build()
                                         )
-                                        .withVolumeMounts(config.allVolumeMounts())
                                         .withResources(config.resourceRequirements())
                                         .build()
                                 )
-                                .withVolumes(config.allVolumes())
                                 .build()
                         )
                         .build()
@@ -118,20 +126,50 @@ public class DBDeployment extends CRUDKubernetesDependentResource<Deployment, Tr
     }
 
     public static String getDeploymentName(Trustify cr) {
-        return cr.getMetadata().getName() + Constants.DB_DEPLOYMENT_SUFFIX;
+        return cr.getMetadata().getName() + Constants.DB_POOLER_DEPLOYMENT_SUFFIX;
     }
 
+    /**
+     * Includes the instance, so neither the Deployment nor the Service match the pooler pods of other CRs of the
+     * namespace.
+     */
     public static Map<String, String> getPodSelectorLabels(Trustify cr) {
         return Map.of(
-                "trustify-operator/group", "db"
+                "trustify-operator/group", "db-pooler",
+                Constants.INSTANCE_LABEL, cr.getMetadata().getName()
         );
     }
 
-    public static String getDatabaseName(Trustify cr) {
-        return Constants.DB_NAME;
+    public static Integer getDeploymentPort(Trustify cr) {
+        return Constants.DB_POOLER_PORT;
+    }
+
+    public static Optional<TrustifySpec.ConnectionPoolerSpec> getConnectionPoolerSpec(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().databaseSpec())
+                .map(TrustifySpec.DatabaseSpec::connectionPoolerSpec);
+    }
+
+    public static Integer getDesiredInstances(Trustify cr) {
+        return getConnectionPoolerSpec(cr)
+                .map(TrustifySpec.ConnectionPoolerSpec::instances)
+                .orElse(1);
+    }
+
+    public static TrustifySpec.PoolMode getPoolMode(Trustify cr) {
+        return getConnectionPoolerSpec(cr)
+                .map(TrustifySpec.ConnectionPoolerSpec::poolMode)
+                .orElse(TrustifySpec.PoolMode.TRANSACTION);
+    }
+
+    public static Integer getPoolSize(Trustify cr) {
+        return getConnectionPoolerSpec(cr)
+                .map(TrustifySpec.ConnectionPoolerSpec::poolSize)
+                .orElse(20);
     }
 
-    public static Integer getDatabasePort(Trustify cr) {
-        return Constants.DB_PORT;
+    public static Integer getMaxClientConnections(Trustify cr) {
+        return getConnectionPoolerSpec(cr)
+                .map(TrustifySpec.ConnectionPoolerSpec::maxClientConnections)
+                .orElse(1000);
     }
 }
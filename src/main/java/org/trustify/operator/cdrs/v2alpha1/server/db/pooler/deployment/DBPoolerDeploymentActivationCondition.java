@@ -1,13 +1,13 @@
-package org.trustify.operator.cdrs.v2alpha1.server.db.deployment;
+package org.trustify.operator.cdrs.v2alpha1.server.db.pooler.deployment;
 
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
 import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
-import org.trustify.operator.cdrs.v2alpha1.server.db.DBActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.db.pooler.DBPoolerActivationCondition;
 
-public class DBDeploymentActivationCondition extends DBActivationCondition implements Condition<Deployment, Trustify> {
+public class DBPoolerDeploymentActivationCondition extends DBPoolerActivationCondition implements Condition<Deployment, Trustify> {
 
     @Override
     public boolean isMet(DependentResource<Deployment, Trustify> resource, Trustify cr, Context<Trustify> context) {
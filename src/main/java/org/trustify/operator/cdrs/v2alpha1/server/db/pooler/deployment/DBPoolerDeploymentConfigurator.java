@@ -0,0 +1,93 @@
+package org.trustify.operator.cdrs.v2alpha1.server.db.pooler.deployment;
+
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.EnvVarBuilder;
+import io.fabric8.kubernetes.api.model.LocalObjectReference;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.trustify.operator.TrustifyConfig;
+import org.trustify.operator.TrustifyImagesConfig;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifyConfiguration;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.utils.CRDUtils;
+import org.trustify.operator.utils.OptionMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@ApplicationScoped
+public class DBPoolerDeploymentConfigurator extends TrustifyConfiguration implements ResourceConfigurator {
+
+    // Env vars of the Trustify database settings and their equivalent in the PgBouncer image
+    private static final Map<String, List<String>> DB_ENV_VARS = Map.of(
+            "TRUSTD_DB_USER", List.of("POSTGRESQL_USERNAME"),
+            "TRUSTD_DB_PASSWORD", List.of("POSTGRESQL_PASSWORD"),
+            "TRUSTD_DB_NAME", List.of("POSTGRESQL_DATABASE", "PGBOUNCER_DATABASE"),
+            "TRUSTD_DB_HOST", List.of("POSTGRESQL_HOST"),
+            "TRUSTD_DB_PORT", List.of("POSTGRESQL_PORT"),
+            "TRUSTD_DB_SSLMODE", List.of("PGBOUNCER_SERVER_TLS_SSLMODE")
+    );
+
+    @Inject
+    TrustifyConfig trustifyConfig;
+
+    @Inject
+    TrustifyImagesConfig trustifyImagesConfig;
+
+    @Override
+    public Config configureDeployment(Trustify cr, Context<Trustify> context) {
+        String image = trustifyImagesConfig.pgbouncerImage();
+        String imagePullPolicy = Optional.ofNullable(cr.getSpec().imagePullPolicy()).orElse(trustifyImagesConfig.imagePullPolicy());
+
+        List<LocalObjectReference> imagePullSecrets = Optional.ofNullable(cr.getSpec().imagePullSecrets()).orElse(new ArrayList<>());
+
+        TrustifySpec.ResourcesLimitSpec resourcesLimitSpec = DBPoolerDeployment.getConnectionPoolerSpec(cr)
+                .map(TrustifySpec.ConnectionPoolerSpec::resourceLimits)
+                .orElse(null);
+        ResourceRequirements resourceRequirements = CRDUtils.getResourceRequirements(resourcesLimitSpec, trustifyConfig);
+
+        Config config = new Config(
+                image,
+                imagePullPolicy,
+                imagePullSecrets,
+                resourceRequirements,
+                new ArrayList<>(),
+                new ArrayList<>(),
+                new ArrayList<>()
+        );
+
+        configureUpstream(config, cr);
+        configurePool(config, cr);
+
+        return config;
+    }
+
+    private void configureUpstream(Config config, Trustify cr) {
+        getDatabaseEnvVars(cr).forEach(envVar -> DB_ENV_VARS.getOrDefault(envVar.getName(), List.of())
+                .forEach(name -> config.allEnvVars().add(new EnvVarBuilder(envVar)
+                        .withName(name)
+                        .build()
+                ))
+        );
+    }
+
+    private void configurePool(Config config, Trustify cr) {
+        List<EnvVar> envVars = new OptionMapper<>(cr.getSpec())
+                .mapOption("PGBOUNCER_PORT", spec -> DBPoolerDeployment.getDeploymentPort(cr))
+                .mapOption("PGBOUNCER_POOL_MODE", spec -> DBPoolerDeployment.getPoolMode(cr).getValue())
+                .mapOption("PGBOUNCER_DEFAULT_POOL_SIZE", spec -> DBPoolerDeployment.getPoolSize(cr))
+                .mapOption("PGBOUNCER_MAX_CLIENT_CONN", spec -> DBPoolerDeployment.getMaxClientConnections(cr))
+                // Lets the server keep using prepared statements when connections are shared per transaction
+                .mapOption("PGBOUNCER_MAX_PREPARED_STATEMENTS", spec -> 100)
+                .mapOption("PGBOUNCER_IGNORE_STARTUP_PARAMETERS", spec -> "extra_float_digits")
+                .getEnvVars();
+        config.allEnvVars().addAll(envVars);
+    }
+
+}
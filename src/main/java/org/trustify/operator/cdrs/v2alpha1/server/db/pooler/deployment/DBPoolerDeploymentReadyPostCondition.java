@@ -1,4 +1,4 @@
-package org.trustify.operator.cdrs.v2alpha1.server.db.deployment;
+package org.trustify.operator.cdrs.v2alpha1.server.db.pooler.deployment;
 
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
@@ -6,11 +6,11 @@ import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
 import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 
-public class DBDeploymentReadyPostCondition implements Condition<Deployment, Trustify> {
+public class DBPoolerDeploymentReadyPostCondition implements Condition<Deployment, Trustify> {
 
     @Override
     public boolean isMet(DependentResource<Deployment, Trustify> dependentResource, Trustify cr, Context<Trustify> context) {
-        return context.getSecondaryResource(Deployment.class, new DBDeploymentDiscriminator())
+        return context.getSecondaryResource(Deployment.class, new DBPoolerDeploymentDiscriminator())
                 .map(deployment -> {
                     final var status = deployment.getStatus();
                     if (status != null) {
@@ -0,0 +1,12 @@
+package org.trustify.operator.cdrs.v2alpha1.server.db.replica;
+
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
+
+public abstract class DBReplicaActivationCondition {
+
+    protected boolean isMet(Trustify cr) {
+        return ServerUtils.isDBReadReplicasEnabled(cr);
+    }
+
+}
@@ -0,0 +1,63 @@
+package org.trustify.operator.cdrs.v2alpha1.server.db.replica.service;
+
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.ServiceBuilder;
+import io.fabric8.kubernetes.api.model.ServiceSpec;
+import io.fabric8.kubernetes.api.model.ServiceSpecBuilder;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.db.statefulset.DBStatefulSet;
+import org.trustify.operator.cdrs.v2alpha1.server.db.replica.statefulset.DBReplicaStatefulSet;
+import org.trustify.operator.services.MetricsService;
+
+@KubernetesDependent(labelSelector = DBReadService.LABEL_SELECTOR, resourceDiscriminator = DBReadServiceDiscriminator.class)
+@ApplicationScoped
+public class DBReadService extends CRUDKubernetesDependentResource<Service, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=db-replica";
+
+    public DBReadService() {
+        super(Service.class);
+    }
+
+    @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
+    public Service desired(Trustify cr, Context<Trustify> context) {
+        return newService(cr, context);
+    }
+
+    private Service newService(Trustify cr, Context<Trustify> context) {
+        return new ServiceBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getServiceName(cr), LABEL_SELECTOR, cr))
+                        .build()
+                )
+                .withSpec(getServiceSpec(cr))
+                .build();
+    }
+
+    private ServiceSpec getServiceSpec(Trustify cr) {
+        return new ServiceSpecBuilder()
+                .addNewPort()
+                .withPort(DBStatefulSet.getDatabasePort(cr))
+                .withProtocol(Constants.SERVICE_PROTOCOL)
+                .endPort()
+                .withSelector(DBReplicaStatefulSet.getPodSelectorLabels(cr))
+                .withType("ClusterIP")
+                .build();
+    }
+
+    public static String getServiceName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.DB_READ_SERVICE_SUFFIX;
+    }
+
+    public static String getServiceHost(Trustify cr) {
+        return String.format("%s.%s.svc", getServiceName(cr), cr.getMetadata().getNamespace());
+    }
+
+}
@@ -0,0 +1,17 @@
+package org.trustify.operator.cdrs.v2alpha1.server.db.replica.service;
+
+import io.fabric8.kubernetes.api.model.Service;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.db.replica.DBReplicaActivationCondition;
+
+public class DBReadServiceActivationCondition extends DBReplicaActivationCondition implements Condition<Service, Trustify> {
+
+    @Override
+    public boolean isMet(DependentResource<Service, Trustify> resource, Trustify cr, Context<Trustify> context) {
+        return super.isMet(cr);
+    }
+
+}
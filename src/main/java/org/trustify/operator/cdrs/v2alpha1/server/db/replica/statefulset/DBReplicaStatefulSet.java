@@ -0,0 +1,181 @@
+package org.trustify.operator.cdrs.v2alpha1.server.db.replica.statefulset;
+
+import io.fabric8.kubernetes.api.model.*;
+import io.fabric8.kubernetes.api.model.apps.*;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.trustify.operator.Constants;
+import org.trustify.operator.TrustifyConfig;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.server.db.configmap.DBConfigMap;
+import org.trustify.operator.cdrs.v2alpha1.server.db.statefulset.DBStatefulSet;
+import org.trustify.operator.cdrs.v2alpha1.server.db.statefulset.DBStatefulSetConfigurator;
+import org.trustify.operator.cdrs.v2alpha1.server.db.service.DBService;
+import org.trustify.operator.controllers.DesiredStateCache;
+import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.services.MetricsService;
+import org.trustify.operator.utils.CRDUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+@KubernetesDependent(labelSelector = DBReplicaStatefulSet.LABEL_SELECTOR, resourceDiscriminator = DBReplicaStatefulSetDiscriminator.class)
+@ApplicationScoped
+public class DBReplicaStatefulSet extends CRUDKubernetesDependentResource<StatefulSet, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=db-replica";
+
+    @Inject
+    TrustifyConfig trustifyConfig;
+
+    @Inject
+    DBStatefulSetConfigurator dbStatefulSetConfigurator;
+
+    public DBReplicaStatefulSet() {
+        super(StatefulSet.class);
+    }
+
+    @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
+    protected StatefulSet desired(Trustify cr, Context<Trustify> context) {
+        return DesiredStateCache.computeIfAbsent(context, cr, getClass().getName(), () -> {
+            StatefulSet statefulSet = newStatefulSet(cr, context);
+            return CRDUtils.addPodTemplateHash(statefulSet, statefulSet.getSpec().getTemplate());
+        });
+    }
+
+    @Override
+    public Result<StatefulSet> match(StatefulSet actual, Trustify cr, Context<Trustify> context) {
+        StatefulSet desired = desired(cr, context);
+        boolean match = Objects.equals(actual.getSpec().getReplicas(), desired.getSpec().getReplicas())
+                && CRDUtils.matchPodTemplate(actual, desired, context);
+        return Result.nonComputed(match);
+    }
+
+    private StatefulSet newStatefulSet(Trustify cr, Context<Trustify> context) {
+        return new StatefulSetBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getStatefulSetName(cr), LABEL_SELECTOR, cr))
+                        .addToLabels("app.openshift.io/runtime", "postgresql")
+                        .build()
+                )
+                .withSpec(getStatefulSetSpec(cr, context))
+                .build();
+    }
+
+    private StatefulSetSpec getStatefulSetSpec(Trustify cr, Context<Trustify> context) {
+        ResourceConfigurator.Config config = dbStatefulSetConfigurator.getDeploymentConfig(cr, context);
+
+        // Each replica holds a full copy of the database, in its own claim with the storage class and size of the
+        // primary rather than in the ephemeral storage of the node. The start scripts of the primary are not used
+        // by replicas
+        List<Volume> volumes = config.allVolumes().stream()
+                .filter(volume -> !Objects.equals(volume.getName(), DBStatefulSetConfigurator.DATA_VOLUME))
+                .filter(volume -> !Objects.equals(volume.getName(), DBStatefulSetConfigurator.START_SCRIPTS_VOLUME))
+                .toList();
+        List<VolumeMount> volumeMounts = config.allVolumeMounts().stream()
+                .filter(volumeMount -> !Objects.equals(volumeMount.getName(), DBStatefulSetConfigurator.START_SCRIPTS_VOLUME))
+                .toList();
+
+        List<EnvVar> envVars = new ArrayList<>(config.allEnvVars());
+        envVars.add(new EnvVarBuilder()
+                .withName("POSTGRESQL_MASTER_SERVICE_NAME")
+                .withValue(DBService.getServiceName(cr))
+                .build()
+        );
+
+        return new StatefulSetSpecBuilder()
+                // Replicas are started one at a time so the primary serves a single base backup at once
+                .withPodManagementPolicy("OrderedReady")
+                .withUpdateStrategy(new StatefulSetUpdateStrategyBuilder()
+                        .withType("RollingUpdate")
+                        .build()
+                )
+                .withReplicas(getDesiredInstances(cr))
+                // A replica removed by scaling down is cloned again from the primary when scaling up, its claim is
+                // not worth keeping
+                .withPersistentVolumeClaimRetentionPolicy(new StatefulSetPersistentVolumeClaimRetentionPolicyBuilder()
+                        .withWhenDeleted("Delete")
+                        .withWhenScaled("Delete")
+                        .build()
+                )
+                .withSelector(new LabelSelectorBuilder()
+                        .withMatchLabels(getPodSelectorLabels(cr))
+                        .build()
+                )
+                .withVolumeClaimTemplates(CRDUtils.getVolumeClaimTemplates(context, getStatefulSetName(cr), cr.getMetadata().getNamespace(), List.of(DBStatefulSet.getDataVolumeClaimTemplate(cr, trustifyConfig))))
+                .withTemplate(new PodTemplateSpecBuilder()
+                        .withNewMetadata()
+                        .withLabels(getPodSelectorLabels(cr))
+                        .addToAnnotations(Constants.CONFIG_HASH_ANNOTATION, CRDUtils.getHash(DBConfigMap.getPostgresqlConf(cr, config.resourceRequirements())))
+                        .endMetadata()
+                        .withSpec(new PodSpecBuilder()
+                                .withRestartPolicy("Always")
+                                .withTerminationGracePeriodSeconds(60L)
+                                .withImagePullSecrets(cr.getSpec().imagePullSecrets())
+                                .withContainers(new ContainerBuilder()
+                                        .withName(Constants.TRUSTI_DB_NAME)
+                                        .withImage(config.image())
+                                        .withImagePullPolicy(config.imagePullPolicy())
+                                        .withCommand("run-postgresql-slave")
+                                        .withEnv(envVars)
+                                        .withPorts(new ContainerPortBuilder()
+                                                .withName("tcp")
+                                                .withProtocol(Constants.SERVICE_PROTOCOL)
+                                                .withContainerPort(DBStatefulSet.getDatabasePort(cr))
+                                                .build()
+                                        )
+                                        .withLivenessProbe(DBStatefulSet.getLivenessProbe(cr))
+                                        .withReadinessProbe(DBStatefulSet.getReadinessProbe(cr))
+                                        // Cloning a large database takes time
+                                        .withStartupProbe(CRDUtils.getProbe(new ProbeBuilder()
+                                                        .withExec(DBStatefulSet.getPgIsReadyAction(cr))
+                                                        .withPeriodSeconds(10)
+                                                        .withTimeoutSeconds(1)
+                                                        .withFailureThreshold(360)
+                                                        .build(),
+                                                CRDUtils.getValueFromSubSpec(DBStatefulSet.getProbesSpec(cr), TrustifySpec.ProbesSpec::startup).orElse(null)
+                                        ))
+                                        .withVolumeMounts(volumeMounts)
+                                        .withResources(config.resourceRequirements())
+                                        .build()
+                                )
+                                .withVolumes(volumes)
+                                .build()
+                        )
+                        .build()
+                )
+                .build();
+    }
+
+    public static String getStatefulSetName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.DB_REPLICA_STATEFUL_SET_SUFFIX;
+    }
+
+    /**
+     * Includes the instance, so neither the StatefulSet nor the read Service match the replicas of other CRs of
+     * the namespace.
+     */
+    public static Map<String, String> getPodSelectorLabels(Trustify cr) {
+        return Map.of(
+                "trustify-operator/group", "db-replica",
+                Constants.INSTANCE_LABEL, cr.getMetadata().getName()
+        );
+    }
+
+    public static Integer getDesiredInstances(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().databaseSpec())
+                .map(TrustifySpec.DatabaseSpec::embeddedDatabaseSpec)
+                .map(TrustifySpec.EmbeddedDatabaseSpec::readReplicasSpec)
+                .map(TrustifySpec.ReadReplicasSpec::instances)
+                .orElse(1);
+    }
+}
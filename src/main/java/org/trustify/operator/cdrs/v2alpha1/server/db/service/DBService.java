@@ -7,10 +7,12 @@ import io.fabric8.kubernetes.api.model.ServiceSpecBuilder;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import org.trustify.operator.Constants;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
-import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeployment;
+import org.trustify.operator.cdrs.v2alpha1.server.db.statefulset.DBStatefulSet;
+import org.trustify.operator.services.MetricsService;
 
 @KubernetesDependent(labelSelector = DBService.LABEL_SELECTOR, resourceDiscriminator = DBServiceDiscriminator.class)
 @ApplicationScoped
@@ -23,6 +25,7 @@ public class DBService extends CRUDKubernetesDependentResource<Service, Trustify
     }
 
     @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
     public Service desired(Trustify cr, Context<Trustify> context) {
         return newService(cr, context);
     }
@@ -40,10 +43,10 @@ public class DBService extends CRUDKubernetesDependentResource<Service, Trustify
     private ServiceSpec getServiceSpec(Trustify cr) {
         return new ServiceSpecBuilder()
                 .addNewPort()
-                .withPort(DBDeployment.getDatabasePort(cr))
+                .withPort(DBStatefulSet.getDatabasePort(cr))
                 .withProtocol(Constants.SERVICE_PROTOCOL)
                 .endPort()
-                .withSelector(DBDeployment.getPodSelectorLabels(cr))
+                .withSelector(DBStatefulSet.getPodSelectorLabels(cr))
                 .withType("ClusterIP")
                 .build();
     }
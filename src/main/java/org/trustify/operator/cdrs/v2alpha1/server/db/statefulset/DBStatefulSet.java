@@ -0,0 +1,310 @@
+package org.trustify.operator.cdrs.v2alpha1.server.db.statefulset;
+
+import io.fabric8.kubernetes.api.model.*;
+import io.fabric8.kubernetes.api.model.apps.*;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.ReconcileResult;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.trustify.operator.Constants;
+import org.trustify.operator.TrustifyConfig;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.server.db.configmap.DBConfigMap;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
+import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.controllers.DesiredStateCache;
+import org.trustify.operator.controllers.TrustifyReconciler;
+import org.trustify.operator.services.MetricsService;
+import org.trustify.operator.utils.CRDUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+@KubernetesDependent(labelSelector = DBStatefulSet.LABEL_SELECTOR, resourceDiscriminator = DBStatefulSetDiscriminator.class)
+@ApplicationScoped
+public class DBStatefulSet extends CRUDKubernetesDependentResource<StatefulSet, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=db";
+    // The pods of the legacy database Deployment only carry the group label
+    public static final String LEGACY_POD_LABEL_SELECTOR = "trustify-operator/group=db";
+
+    @Inject
+    TrustifyConfig trustifyConfig;
+
+    @Inject
+    DBStatefulSetConfigurator dbStatefulSetConfigurator;
+
+    public DBStatefulSet() {
+        super(StatefulSet.class);
+    }
+
+    @Override
+    public ReconcileResult<StatefulSet> reconcile(Trustify cr, Context<Trustify> context) {
+        // The database used to run in a Deployment. It is removed first, and the StatefulSet is only created by the
+        // reconciliation following the removal of the Deployment and of its pods, so a single Postgres uses the data
+        if (context.getSecondaryResource(StatefulSet.class, new DBStatefulSetDiscriminator()).isEmpty() && isLegacyDatabaseRunning(cr, context)) {
+            getLegacyDeployment(cr, context)
+                    .filter(deployment -> !deployment.isMarkedForDeletion())
+                    .ifPresent(deployment -> context.getClient().resource(deployment)
+                            .withPropagationPolicy(DeletionPropagation.FOREGROUND)
+                            .delete()
+                    );
+            return ReconcileResult.noOperation(null);
+        }
+        return super.reconcile(cr, context);
+    }
+
+    @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
+    protected StatefulSet desired(Trustify cr, Context<Trustify> context) {
+        return DesiredStateCache.computeIfAbsent(context, cr, getClass().getName(), () -> {
+            StatefulSet statefulSet = newStatefulSet(cr, context);
+            return CRDUtils.addPodTemplateHash(statefulSet, statefulSet.getSpec().getTemplate());
+        });
+    }
+
+    @Override
+    public Result<StatefulSet> match(StatefulSet actual, Trustify cr, Context<Trustify> context) {
+        StatefulSet desired = desired(cr, context);
+        // Clusters without the StatefulSetAutoDeletePVC feature drop the retention policy
+        StatefulSetPersistentVolumeClaimRetentionPolicy actualRetentionPolicy = actual.getSpec().getPersistentVolumeClaimRetentionPolicy();
+        boolean match = (actualRetentionPolicy == null || Objects.equals(actualRetentionPolicy, desired.getSpec().getPersistentVolumeClaimRetentionPolicy())) &&
+                CRDUtils.matchPodTemplate(actual, desired, context);
+        return Result.nonComputed(match);
+    }
+
+    private StatefulSet newStatefulSet(Trustify cr, Context<Trustify> context) {
+        return new StatefulSetBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getStatefulSetName(cr), LABEL_SELECTOR, cr))
+                        .addToLabels("app.openshift.io/runtime", "postgresql")
+                        .build()
+                )
+                .withSpec(getStatefulSetSpec(cr, context))
+                .build();
+    }
+
+    private StatefulSetSpec getStatefulSetSpec(Trustify cr, Context<Trustify> context) {
+        ResourceConfigurator.Config config = dbStatefulSetConfigurator.getDeploymentConfig(cr, context);
+
+        List<PersistentVolumeClaim> volumeClaimTemplates = new ArrayList<>();
+        if (getLegacyPersistentVolumeClaim(cr, context).isEmpty()) {
+            volumeClaimTemplates.add(getDataVolumeClaimTemplate(cr, trustifyConfig));
+        }
+
+        return new StatefulSetSpecBuilder()
+                .withUpdateStrategy(new StatefulSetUpdateStrategyBuilder()
+                        .withType("RollingUpdate")
+                        .build()
+                )
+                .withReplicas(1)
+                // The data PVC is removed with the StatefulSet, i.e. with the CR or when switching to an external
+                // database, as the PVC of the Deployment was. It is kept when scaling down
+                .withPersistentVolumeClaimRetentionPolicy(new StatefulSetPersistentVolumeClaimRetentionPolicyBuilder()
+                        .withWhenDeleted("Delete")
+                        .withWhenScaled("Retain")
+                        .build()
+                )
+                .withSelector(new LabelSelectorBuilder()
+                        .withMatchLabels(getPodSelectorLabels(cr))
+                        .build()
+                )
+                .withVolumeClaimTemplates(CRDUtils.getVolumeClaimTemplates(context, getStatefulSetName(cr), cr.getMetadata().getNamespace(), volumeClaimTemplates))
+                .withTemplate(new PodTemplateSpecBuilder()
+                        .withNewMetadata()
+                        .withLabels(getPodSelectorLabels(cr))
+                        // Postgres reads its configuration at startup, so a configuration change rolls out a new pod
+                        .addToAnnotations(Constants.CONFIG_HASH_ANNOTATION, CRDUtils.getHash(DBConfigMap.getPostgresqlConf(cr, config.resourceRequirements())))
+                        .endMetadata()
+                        .withSpec(new PodSpecBuilder()
+                                .withRestartPolicy("Always")
+                                .withTerminationGracePeriodSeconds(60L)
+                                .withImagePullSecrets(cr.getSpec().imagePullSecrets())
+                                .withContainers(new ContainerBuilder()
+                                        .withName(Constants.TRUSTI_DB_NAME)
+                                        .withImage(config.image())
+                                        .withImagePullPolicy(config.imagePullPolicy())
+                                        .withCommand(getCommand(cr))
+                                        .withEnv(config.allEnvVars())
+                                        .withPorts(new ContainerPortBuilder()
+                                                .withName("tcp")
+                                                .withProtocol(Constants.SERVICE_PROTOCOL)
+                                                .withContainerPort(getDatabasePort(cr))
+                                                .build()
+                                        )
+                                        .withLivenessProbe(getLivenessProbe(cr))
+                                        .withReadinessProbe(getReadinessProbe(cr))
+                                        .withVolumeMounts(config.allVolumeMounts())
+                                        .withResources(config.resourceRequirements())
+                                        .build()
+                                )
+                                .withVolumes(config.allVolumes())
+                                .build()
+                        )
+                        .build()
+                )
+                .build();
+    }
+
+    private List<String> getCommand(Trustify cr) {
+        // Same as the default command of the image, plus the replication settings and user
+        if (ServerUtils.isDBReadReplicasEnabled(cr)) {
+            return List.of("run-postgresql-master");
+        }
+        return Collections.emptyList();
+    }
+
+    public static String getStatefulSetName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.DB_STATEFUL_SET_SUFFIX;
+    }
+
+    public static String getLegacyDeploymentName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.DB_DEPLOYMENT_SUFFIX;
+    }
+
+    public static String getLegacyPersistentVolumeClaimName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.DB_PVC_SUFFIX;
+    }
+
+    public static Optional<Deployment> getLegacyDeployment(Trustify cr, Context<Trustify> context) {
+        return CRDUtils.getCachedResource(context, Deployment.class, getLegacyDeploymentName(cr), cr.getMetadata().getNamespace());
+    }
+
+    /**
+     * Whether the Deployment the database ran in before it moved to a StatefulSet, or any of its pods, still exists.
+     * The pods belong to the ReplicaSets of the Deployment, named after it.
+     */
+    public static boolean isLegacyDatabaseRunning(Trustify cr, Context<Trustify> context) {
+        if (getLegacyDeployment(cr, context).isPresent()) {
+            return true;
+        }
+        String replicaSetPrefix = getLegacyDeploymentName(cr) + "-";
+        var podEventSource = (InformerEventSource<Pod, Trustify>) context.eventSourceRetriever().getResourceEventSourceFor(Pod.class, TrustifyReconciler.DB_POD_EVENT_SOURCE);
+        return podEventSource.list(cr.getMetadata().getNamespace(), pod -> pod.getMetadata().getOwnerReferences().stream()
+                        .anyMatch(ownerReference -> Objects.equals(ownerReference.getKind(), "ReplicaSet") &&
+                                ownerReference.getName().startsWith(replicaSetPrefix)
+                        )
+                )
+                .findAny()
+                .isPresent();
+    }
+
+    /**
+     * The PVC of a database created before the database moved to a StatefulSet.
+     */
+    public static Optional<PersistentVolumeClaim> getLegacyPersistentVolumeClaim(Trustify cr, Context<Trustify> context) {
+        return CRDUtils.getCachedResource(context, PersistentVolumeClaim.class, getLegacyPersistentVolumeClaimName(cr), cr.getMetadata().getNamespace());
+    }
+
+    /**
+     * Claim of the data of a database pod, also used by the read replicas so they get the storage of the primary.
+     */
+    public static PersistentVolumeClaim getDataVolumeClaimTemplate(Trustify cr, TrustifyConfig trustifyConfig) {
+        return new PersistentVolumeClaimBuilder()
+                .withMetadata(new ObjectMetaBuilder()
+                        .withName(DBStatefulSetConfigurator.DATA_VOLUME)
+                        .build()
+                )
+                .withSpec(new PersistentVolumeClaimSpecBuilder()
+                        .withAccessModes("ReadWriteOnce")
+                        .withStorageClassName(getStorageClassName(cr))
+                        .withResources(new VolumeResourceRequirementsBuilder()
+                                .withRequests(Map.of("storage", new Quantity(getPvcSize(cr, trustifyConfig))))
+                                .build()
+                        )
+                        .build()
+                )
+                .build();
+    }
+
+    private static String getPvcSize(Trustify cr, TrustifyConfig trustifyConfig) {
+        return Optional.ofNullable(cr.getSpec().databaseSpec())
+                .map(TrustifySpec.DatabaseSpec::embeddedDatabaseSpec)
+                .map(TrustifySpec.EmbeddedDatabaseSpec::pvcSize)
+                .orElse(trustifyConfig.defaultPvcSize());
+    }
+
+    public static String getStorageClassName(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().databaseSpec())
+                .map(TrustifySpec.DatabaseSpec::embeddedDatabaseSpec)
+                .map(TrustifySpec.EmbeddedDatabaseSpec::pvcStorageClassName)
+                .orElse(null);
+    }
+
+    /**
+     * A TCP check done by the kubelet, it restarts Postgres only if it stopped listening.
+     */
+    public static Probe getLivenessProbe(Trustify cr) {
+        return CRDUtils.getProbe(new ProbeBuilder()
+                        .withTcpSocket(new TCPSocketActionBuilder()
+                                .withPort(new IntOrString(getDatabasePort(cr)))
+                                .build()
+                        )
+                        .withInitialDelaySeconds(10)
+                        .withTimeoutSeconds(10)
+                        .withPeriodSeconds(10)
+                        .withSuccessThreshold(1)
+                        .withFailureThreshold(3)
+                        .build(),
+                CRDUtils.getValueFromSubSpec(getProbesSpec(cr), TrustifySpec.ProbesSpec::liveness).orElse(null)
+        );
+    }
+
+    /**
+     * Postgres accepts TCP connections while it is still starting up or recovering, pg_isready tells those apart
+     * without a shell, authentication nor query.
+     */
+    public static Probe getReadinessProbe(Trustify cr) {
+        return CRDUtils.getProbe(new ProbeBuilder()
+                        .withExec(getPgIsReadyAction(cr))
+                        .withInitialDelaySeconds(5)
+                        .withTimeoutSeconds(1)
+                        .withPeriodSeconds(10)
+                        .withSuccessThreshold(1)
+                        .withFailureThreshold(3)
+                        .build(),
+                CRDUtils.getValueFromSubSpec(getProbesSpec(cr), TrustifySpec.ProbesSpec::readiness).orElse(null)
+        );
+    }
+
+    public static ExecAction getPgIsReadyAction(Trustify cr) {
+        return new ExecActionBuilder()
+                .withCommand("pg_isready", "-h", "127.0.0.1", "-p", getDatabasePort(cr).toString())
+                .build();
+    }
+
+    public static TrustifySpec.ProbesSpec getProbesSpec(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().databaseSpec())
+                .map(TrustifySpec.DatabaseSpec::embeddedDatabaseSpec)
+                .map(TrustifySpec.EmbeddedDatabaseSpec::probesSpec)
+                .orElse(null);
+    }
+
+    /**
+     * Includes the instance, so neither the StatefulSet nor the Service match the database pods of other CRs of
+     * the namespace.
+     */
+    public static Map<String, String> getPodSelectorLabels(Trustify cr) {
+        return Map.of(
+                "trustify-operator/group", "db",
+                Constants.INSTANCE_LABEL, cr.getMetadata().getName()
+        );
+    }
+
+    public static String getDatabaseName(Trustify cr) {
+        return Constants.DB_NAME;
+    }
+
+    public static Integer getDatabasePort(Trustify cr) {
+        return Constants.DB_PORT;
+    }
+}
@@ -0,0 +1,17 @@
+package org.trustify.operator.cdrs.v2alpha1.server.db.statefulset;
+
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.db.DBActivationCondition;
+
+public class DBStatefulSetActivationCondition extends DBActivationCondition implements Condition<StatefulSet, Trustify> {
+
+    @Override
+    public boolean isMet(DependentResource<StatefulSet, Trustify> resource, Trustify cr, Context<Trustify> context) {
+        return super.isMet(cr);
+    }
+
+}
@@ -1,4 +1,4 @@
-package org.trustify.operator.cdrs.v2alpha1.server.db.deployment;
+package org.trustify.operator.cdrs.v2alpha1.server.db.statefulset;
 
 import io.fabric8.kubernetes.api.model.*;
 import io.javaoperatorsdk.operator.api.reconciler.Context;
@@ -8,10 +8,13 @@ import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.TrustifyImagesConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
-import org.trustify.operator.cdrs.v2alpha1.server.db.pvc.DBPersistentVolumeClaim;
+import org.trustify.operator.cdrs.v2alpha1.server.db.configmap.DBConfigMap;
+import org.trustify.operator.cdrs.v2alpha1.server.db.secret.DBReplicationSecret;
 import org.trustify.operator.cdrs.v2alpha1.server.db.secret.DBSecret;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
 import org.trustify.operator.controllers.ResourceConfigurator;
 import org.trustify.operator.utils.CRDUtils;
+import org.trustify.operator.utils.OptionMapper;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -19,7 +22,10 @@ import java.util.List;
 import java.util.Optional;
 
 @ApplicationScoped
-public class DBDeploymentConfigurator implements ResourceConfigurator {
+public class DBStatefulSetConfigurator implements ResourceConfigurator {
+
+    public static final String DATA_VOLUME = "db-pvol";
+    public static final String START_SCRIPTS_VOLUME = "db-start";
 
     @Inject
     TrustifyImagesConfig trustifyImagesConfig;
@@ -57,20 +63,64 @@ public class DBDeploymentConfigurator implements ResourceConfigurator {
     }
 
     private void configureVolumes(Config config, Trustify cr, Context<Trustify> context) {
-        String volName = "db-pvol";
-        config.allVolumes().add(new VolumeBuilder()
+        String volName = DATA_VOLUME;
+        // Databases created before the StatefulSet keep their data in the PVC they were created with,
+        // new ones use the volumeClaimTemplates of the StatefulSet
+        DBStatefulSet.getLegacyPersistentVolumeClaim(cr, context).ifPresent(persistentVolumeClaim -> config.allVolumes().add(new VolumeBuilder()
                 .withName(volName)
                 .withPersistentVolumeClaim(new PersistentVolumeClaimVolumeSourceBuilder()
-                        .withClaimName(DBPersistentVolumeClaim.getPersistentVolumeClaimName(cr))
+                        .withClaimName(persistentVolumeClaim.getMetadata().getName())
                         .build()
                 )
                 .build()
-        );
+        ));
         config.allVolumeMounts().add(new VolumeMountBuilder()
                 .withName(volName)
                 .withMountPath("/var/lib/pgsql/data")
                 .build()
         );
+
+        String configVolName = "db-config";
+        config.allVolumes().add(new VolumeBuilder()
+                .withName(configVolName)
+                .withConfigMap(new ConfigMapVolumeSourceBuilder()
+                        .withName(DBConfigMap.getConfigMapName(cr))
+                        .withItems(new KeyToPathBuilder()
+                                .withKey(DBConfigMap.getPostgresqlConfKey(cr))
+                                .withPath(DBConfigMap.getPostgresqlConfKey(cr))
+                                .build()
+                        )
+                        .build()
+                )
+                .build()
+        );
+        config.allVolumeMounts().add(new VolumeMountBuilder()
+                .withName(configVolName)
+                .withMountPath(DBConfigMap.getPostgresqlConfDirectory(cr))
+                .withReadOnly(true)
+                .build()
+        );
+
+        String startVolName = START_SCRIPTS_VOLUME;
+        config.allVolumes().add(new VolumeBuilder()
+                .withName(startVolName)
+                .withConfigMap(new ConfigMapVolumeSourceBuilder()
+                        .withName(DBConfigMap.getConfigMapName(cr))
+                        .withItems(new KeyToPathBuilder()
+                                .withKey(DBConfigMap.getReplicationUserScriptKey(cr))
+                                .withPath(DBConfigMap.getReplicationUserScriptKey(cr))
+                                .build()
+                        )
+                        .build()
+                )
+                .build()
+        );
+        config.allVolumeMounts().add(new VolumeMountBuilder()
+                .withName(startVolName)
+                .withMountPath(DBConfigMap.getStartScriptsDirectory(cr))
+                .withReadOnly(true)
+                .build()
+        );
     }
 
     private void configureEnvs(Config config, Trustify cr, Context<Trustify> context) {
@@ -91,10 +141,18 @@ public class DBDeploymentConfigurator implements ResourceConfigurator {
                         .build(),
                 new EnvVarBuilder()
                         .withName("POSTGRESQL_DATABASE")
-                        .withValue(DBDeployment.getDatabaseName(cr))
+                        .withValue(DBStatefulSet.getDatabaseName(cr))
                         .build()
         );
         config.allEnvVars().addAll(envVars);
+
+        if (ServerUtils.isDBReadReplicasEnabled(cr)) {
+            config.allEnvVars().addAll(new OptionMapper<>(cr.getSpec())
+                    .mapOption("POSTGRESQL_MASTER_USER", spec -> DBReplicationSecret.getUsernameSecretKeySelector(cr))
+                    .mapOption("POSTGRESQL_MASTER_PASSWORD", spec -> DBReplicationSecret.getPasswordSecretKeySelector(cr))
+                    .getEnvVars()
+            );
+        }
     }
 
 }
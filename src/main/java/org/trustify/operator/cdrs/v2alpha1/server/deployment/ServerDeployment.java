@@ -6,14 +6,27 @@ import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.processing.dependent.Matcher;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.trustify.operator.Constants;
+import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
-import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeployment;
-import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.TrustifyStatus;
+import org.trustify.operator.cdrs.v2alpha1.server.db.statefulset.DBStatefulSet;
+import org.trustify.operator.cdrs.v2alpha1.server.pvc.ServerStoragePersistentVolumeClaim;
+import org.trustify.operator.controllers.DesiredStateCache;
+import org.trustify.operator.controllers.TrustifyReconciler;
+import org.trustify.operator.services.MetricsService;
+import org.trustify.operator.utils.CRDUtils;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @KubernetesDependent(labelSelector = ServerDeployment.LABEL_SELECTOR, resourceDiscriminator = ServerDeploymentDiscriminator.class)
@@ -22,6 +35,10 @@ public class ServerDeployment extends CRUDKubernetesDependentResource<Deployment
         implements Matcher<Deployment, Trustify> {
 
     public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=server";
+    public static final String POD_LABEL_SELECTOR = "trustify-operator/group=server," + Constants.INSTANCE_LABEL;
+
+    @Inject
+    TrustifyConfig trustifyConfig;
 
     @Inject
     ServerDeploymentConfigurator distConfigurator;
@@ -31,34 +48,82 @@ public class ServerDeployment extends CRUDKubernetesDependentResource<Deployment
     }
 
     @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
     protected Deployment desired(Trustify cr, Context<Trustify> context) {
-        return newDeployment(cr, context, distConfigurator);
+        return DesiredStateCache.computeIfAbsent(context, cr, getClass().getName(), () -> {
+            Deployment deployment = newDeployment(cr, context, distConfigurator);
+            return CRDUtils.addPodTemplateHash(deployment, deployment.getSpec().getTemplate());
+        });
     }
 
     @Override
     public Result<Deployment> match(Deployment actual, Trustify cr, Context<Trustify> context) {
-        boolean matchDesiredInstances = getDesiredInstances(cr) == actual.getSpec().getReplicas();
+        // Replicas are owned by the HorizontalPodAutoscaler when autoscaling is enabled
+        boolean isAutoscalingEnabled = isAutoscalingEnabled(cr, context);
+        boolean matchDesiredInstances = isAutoscalingEnabled || Objects.equals(getDesiredInstances(cr, context), actual.getSpec().getReplicas());
         if (!matchDesiredInstances) {
             return Result.nonComputed(false);
         }
 
-        ResourceConfigurator.Config config = distConfigurator.configureDeployment(cr, context);
-        boolean match = config.match(actual.getSpec().getTemplate().getSpec());
+        Deployment desired = desired(cr, context);
+        boolean match = Objects.equals(desired.getSpec().getStrategy(), actual.getSpec().getStrategy()) &&
+                CRDUtils.matchPodTemplate(actual, desired, context);
         return Result.nonComputed(match);
     }
 
-    private int getDesiredInstances(Trustify cr) {
+    private Integer getDesiredInstances(Trustify cr, Context<Trustify> context) {
+        if (isAutoscalingEnabled(cr, context)) {
+            // Not applied, so server-side apply leaves the replicas to the HorizontalPodAutoscaler
+            return null;
+        }
+        if (!ServerStoragePersistentVolumeClaim.isScaleOutSupported(cr, context)) {
+            return 1;
+        }
         return Optional.ofNullable(cr.getSpec().serverInstances())
                 .orElse(1);
     }
 
+    /**
+     * Autoscaling is ignored when the storage does not let instances run on different nodes.
+     */
+    public static boolean isAutoscalingEnabled(Trustify cr, Context<Trustify> context) {
+        return CRDUtils.isAutoscalingEnabled(cr.getSpec().serverAutoscalingSpec()) &&
+                ServerStoragePersistentVolumeClaim.isScaleOutSupported(cr, context);
+    }
+
+    private DeploymentStrategy getDeploymentStrategy(Trustify cr, Context<Trustify> context) {
+        TrustifySpec.UpdateStrategySpec updateStrategySpec = cr.getSpec().serverUpdateStrategySpec();
+
+        // A ReadWriteOnce storage PVC prevents a new instance from starting on another node while the old one is running
+        boolean isScaleOutSupported = ServerStoragePersistentVolumeClaim.isScaleOutSupported(cr, context);
+        TrustifySpec.UpdateStrategyType defaultType = isScaleOutSupported ? TrustifySpec.UpdateStrategyType.ROLLING_UPDATE : TrustifySpec.UpdateStrategyType.RECREATE;
+        TrustifySpec.UpdateStrategyType type = CRDUtils.getValueFromSubSpec(updateStrategySpec, TrustifySpec.UpdateStrategySpec::type)
+                .orElse(defaultType);
+
+        if (type == TrustifySpec.UpdateStrategyType.RECREATE) {
+            return new DeploymentStrategyBuilder()
+                    .withType(type.getValue())
+                    .build();
+        }
+
+        // Defaults to surging, so the serving capacity is kept during the rollout
+        return new DeploymentStrategyBuilder()
+                .withType(type.getValue())
+                .withRollingUpdate(new RollingUpdateDeploymentBuilder()
+                        .withMaxSurge(CRDUtils.getIntOrPercentage(CRDUtils.getValueFromSubSpec(updateStrategySpec, TrustifySpec.UpdateStrategySpec::maxSurge).orElse("25%")))
+                        .withMaxUnavailable(CRDUtils.getIntOrPercentage(CRDUtils.getValueFromSubSpec(updateStrategySpec, TrustifySpec.UpdateStrategySpec::maxUnavailable).orElse("0")))
+                        .build()
+                )
+                .build();
+    }
+
     private Deployment newDeployment(Trustify cr, Context<Trustify> context, ServerDeploymentConfigurator distConfigurator) {
         return new DeploymentBuilder()
                 .withMetadata(Constants.metadataBuilder
                         .apply(new Constants.Resource(getDeploymentName(cr), LABEL_SELECTOR, cr))
                         .withAnnotations(Map.of("app.openshift.io/connects-to", """
-                                [{"apiVersion": "apps/v1", "kind":"Deployment", "name": "%s"}]
-                                """.formatted(DBDeployment.getDeploymentName(cr))
+                                [{"apiVersion": "apps/v1", "kind":"StatefulSet", "name": "%s"}]
+                                """.formatted(DBStatefulSet.getStatefulSetName(cr))
                         ))
                         .build()
                 )
@@ -67,38 +132,23 @@ public class ServerDeployment extends CRUDKubernetesDependentResource<Deployment
     }
 
     private DeploymentSpec getDeploymentSpec(Trustify cr, Context<Trustify> context, ServerDeploymentConfigurator distConfigurator) {
-        ServerDeploymentConfigurator.Config config = distConfigurator.configureDeployment(cr, context);
+        ServerDeploymentConfigurator.Config config = distConfigurator.getDeploymentConfig(cr, context);
 
         return new DeploymentSpecBuilder()
-                .withStrategy(new DeploymentStrategyBuilder()
-                        .withType("Recreate")
-                        .build()
-                )
-                .withReplicas(getDesiredInstances(cr))
+                .withStrategy(getDeploymentStrategy(cr, context))
+                .withReplicas(getDesiredInstances(cr, context))
                 .withSelector(new LabelSelectorBuilder()
                         .withMatchLabels(getPodSelectorLabels(cr))
                         .build()
                 )
                 .withTemplate(new PodTemplateSpecBuilder()
                         .withNewMetadata()
-                        .addToLabels(getPodSelectorLabels(cr))
+                        .addToLabels(getPodLabels(cr))
                         .endMetadata()
                         .withSpec(new PodSpecBuilder()
                                 .withRestartPolicy("Always")
                                 .withTerminationGracePeriodSeconds(70L)
                                 .withImagePullSecrets(cr.getSpec().imagePullSecrets())
-                                .withInitContainers(new ContainerBuilder()
-                                        .withName("migrate")
-                                        .withImage(config.image())
-                                        .withImagePullPolicy(config.imagePullPolicy())
-                                        .withEnv(config.allEnvVars())
-                                        .withCommand("/usr/local/bin/trustd")
-                                        .withArgs(
-                                                "db",
-                                                "migrate"
-                                        )
-                                        .build()
-                                )
                                 .withContainers(new ContainerBuilder()
                                         .withName(Constants.TRUSTI_SERVER_NAME)
                                         .withImage(config.image())
@@ -121,48 +171,37 @@ public class ServerDeployment extends CRUDKubernetesDependentResource<Deployment
                                                         .withContainerPort(getDeploymentInfrastructurePort(cr))
                                                         .build()
                                         )
-                                        .withLivenessProbe(new ProbeBuilder()
-                                                .withHttpGet(new HTTPGetActionBuilder()
-                                                        .withPath("/health/live")
-                                                        .withNewPort(getDeploymentInfrastructurePort(cr))
-                                                        .withScheme("HTTP")
-                                                        .build()
-                                                )
-                                                .withInitialDelaySeconds(5)
-                                                .withTimeoutSeconds(10)
-                                                .withPeriodSeconds(10)
-                                                .withSuccessThreshold(1)
-                                                .withFailureThreshold(3)
-                                                .build()
-                                        )
-                                        .withReadinessProbe(new ProbeBuilder()
-                                                .withHttpGet(new HTTPGetActionBuilder()
-                                                        .withPath("health/ready")
-                                                        .withNewPort(getDeploymentInfrastructurePort(cr))
-                                                        .withScheme("HTTP")
-                                                        .build()
-                                                )
-                                                .withInitialDelaySeconds(5)
-                                                .withTimeoutSeconds(1)
-                                                .withPeriodSeconds(10)
-                                                .withSuccessThreshold(1)
-                                                .withFailureThreshold(3)
-                                                .build()
-                                        )
-                                        .withStartupProbe(new ProbeBuilder()
-                                                .withHttpGet(new HTTPGetActionBuilder()
-                                                        .withPath("/health/startup")
-                                                        .withNewPort(getDeploymentInfrastructurePort(cr))
-                                                        .withScheme("HTTP")
-                                                        .build()
-                                                )
-                                                .withInitialDelaySeconds(5)
-                                                .withTimeoutSeconds(1)
-                                                .withPeriodSeconds(10)
-                                                .withSuccessThreshold(1)
-                                                .withFailureThreshold(3)
-                                                .build()
-                                        )
+                                        .withLivenessProbe(CRDUtils.getProbe(new ProbeBuilder()
+                                                        .withHttpGet(new HTTPGetActionBuilder()
+                                                                .withPath("/health/live")
+                                                                .withNewPort(getDeploymentInfrastructurePort(cr))
+                                                                .withScheme("HTTP")
+                                                                .build()
+                                                        )
+                                                        .withInitialDelaySeconds(5)
+                                                        .withTimeoutSeconds(10)
+                                                        .withPeriodSeconds(10)
+                                                        .withSuccessThreshold(1)
+                                                        .withFailureThreshold(3)
+                                                        .build(),
+                                                CRDUtils.getValueFromSubSpec(cr.getSpec().serverProbesSpec(), TrustifySpec.ProbesSpec::liveness).orElse(null)
+                                        ))
+                                        .withReadinessProbe(CRDUtils.getProbe(new ProbeBuilder()
+                                                        .withHttpGet(new HTTPGetActionBuilder()
+                                                                .withPath("health/ready")
+                                                                .withNewPort(getDeploymentInfrastructurePort(cr))
+                                                                .withScheme("HTTP")
+                                                                .build()
+                                                        )
+                                                        .withInitialDelaySeconds(5)
+                                                        .withTimeoutSeconds(1)
+                                                        .withPeriodSeconds(10)
+                                                        .withSuccessThreshold(1)
+                                                        .withFailureThreshold(3)
+                                                        .build(),
+                                                CRDUtils.getValueFromSubSpec(cr.getSpec().serverProbesSpec(), TrustifySpec.ProbesSpec::readiness).orElse(null)
+                                        ))
+                                        .withStartupProbe(getStartupProbe(cr))
                                         .withVolumeMounts(config.allVolumeMounts())
                                         .withResources(config.resourceRequirements())
                                         .build()
@@ -175,6 +214,118 @@ public class ServerDeployment extends CRUDKubernetesDependentResource<Deployment
                 .build();
     }
 
+    private Probe getStartupProbe(Trustify cr) {
+        Probe probe = CRDUtils.getProbe(new ProbeBuilder()
+                        .withHttpGet(new HTTPGetActionBuilder()
+                                .withPath("/health/startup")
+                                .withNewPort(getDeploymentInfrastructurePort(cr))
+                                .withScheme("HTTP")
+                                .build()
+                        )
+                        .withInitialDelaySeconds(5)
+                        .withTimeoutSeconds(1)
+                        .withPeriodSeconds(10)
+                        .withSuccessThreshold(1)
+                        .withFailureThreshold(3)
+                        .build(),
+                CRDUtils.getValueFromSubSpec(cr.getSpec().serverProbesSpec(), TrustifySpec.ProbesSpec::startup).orElse(null)
+        );
+
+        Integer startupSeconds = Optional.ofNullable(cr.getStatus())
+                .map(TrustifyStatus::getServerStartupSeconds)
+                .orElse(null);
+        if (!isAdaptiveStartupEnabled(cr) || startupSeconds == null) {
+            return probe;
+        }
+
+        int failureThreshold = getAdaptiveFailureThreshold(probe, startupSeconds, trustifyConfig.maxServerStartupSeconds());
+        if (failureThreshold <= probe.getFailureThreshold()) {
+            return probe;
+        }
+        return new ProbeBuilder(probe)
+                .withFailureThreshold(failureThreshold)
+                .build();
+    }
+
+    /**
+     * Failure threshold giving twice the startup seen, rounded up to a power of two so the Deployment is rolled out
+     * only a few times, and never a budget above the maximum startup.
+     */
+    public static int getAdaptiveFailureThreshold(Probe probe, int startupSeconds, int maxStartupSeconds) {
+        int budgetSeconds = 2 * Math.min(startupSeconds, maxStartupSeconds) - probe.getInitialDelaySeconds();
+        int failureThreshold = ceilDiv(budgetSeconds, probe.getPeriodSeconds());
+        if (failureThreshold <= 1) {
+            return 1;
+        }
+        int maxFailureThreshold = Math.max(1, ceilDiv(maxStartupSeconds - probe.getInitialDelaySeconds(), probe.getPeriodSeconds()));
+        return Math.min(Integer.highestOneBit(failureThreshold - 1) << 1, maxFailureThreshold);
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return (dividend + divisor - 1) / divisor;
+    }
+
+    public static boolean isAdaptiveStartupEnabled(Trustify cr) {
+        return CRDUtils.getValueFromSubSpec(cr.getSpec().serverProbesSpec(), TrustifySpec.ProbesSpec::adaptiveStartup)
+                .orElse(false);
+    }
+
+    /**
+     * Longest startup of the Server pods of the instance cached by the pod informer, see {@link #getStartupSeconds(Pod)}.
+     */
+    public static Optional<Integer> getObservedStartupSeconds(Trustify cr, Context<Trustify> context) {
+        var podEventSource = (InformerEventSource<Pod, Trustify>) context.eventSourceRetriever().getResourceEventSourceFor(Pod.class, TrustifyReconciler.SERVER_POD_EVENT_SOURCE);
+        return podEventSource.list(cr.getMetadata().getNamespace(), pod -> Objects.equals(pod.getMetadata().getLabels().get(Constants.INSTANCE_LABEL), cr.getMetadata().getName()))
+                .map(ServerDeployment::getStartupSeconds)
+                .flatMap(Optional::stream)
+                .max(Integer::compareTo);
+    }
+
+    /**
+     * Time from the start of the container to the first readiness of the pod. Only a container that was never
+     * restarted is measured: a run killed by its startup probe tells nothing about the startup it needs. The Ready
+     * condition keeps the time of its last transition, so a readiness later than the startup and readiness probes
+     * allow is a readiness that flapped after the startup and is ignored.
+     */
+    public static Optional<Integer> getStartupSeconds(Pod pod) {
+        Optional<ContainerStatus> containerStatus = Optional.ofNullable(pod.getStatus())
+                .map(PodStatus::getContainerStatuses)
+                .flatMap(containerStatuses -> containerStatuses.stream()
+                        .filter(status -> Objects.equals(status.getName(), Constants.TRUSTI_SERVER_NAME))
+                        .findFirst()
+                )
+                .filter(status -> Objects.equals(status.getRestartCount(), 0) && Objects.equals(status.getStarted(), true));
+        Optional<Container> container = pod.getSpec().getContainers().stream()
+                .filter(item -> Objects.equals(item.getName(), Constants.TRUSTI_SERVER_NAME))
+                .findFirst();
+        if (containerStatus.isEmpty() || container.isEmpty() || container.get().getStartupProbe() == null) {
+            return Optional.empty();
+        }
+
+        Optional<String> startedAt = Optional.ofNullable(containerStatus.get().getState())
+                .map(ContainerState::getRunning)
+                .map(ContainerStateRunning::getStartedAt);
+        Optional<String> readyAt = pod.getStatus().getConditions().stream()
+                .filter(condition -> Objects.equals(condition.getType(), "Ready") && Objects.equals(condition.getStatus(), "True"))
+                .map(PodCondition::getLastTransitionTime)
+                .findFirst();
+
+        Probe startupProbe = container.get().getStartupProbe();
+        int firstReadinessSeconds = Optional.ofNullable(startupProbe.getInitialDelaySeconds()).orElse(0) +
+                Optional.ofNullable(startupProbe.getPeriodSeconds()).orElse(10) * Optional.ofNullable(startupProbe.getFailureThreshold()).orElse(3) +
+                Optional.ofNullable(container.get().getReadinessProbe()).map(Probe::getPeriodSeconds).orElse(10);
+        return getSecondsBetween(startedAt, readyAt)
+                .filter(seconds -> seconds <= firstReadinessSeconds);
+    }
+
+    private static Optional<Integer> getSecondsBetween(Optional<String> from, Optional<String> to) {
+        if (from.isEmpty() || to.isEmpty()) {
+            return Optional.empty();
+        }
+        long seconds = Duration.between(Instant.parse(from.get()), Instant.parse(to.get())).toSeconds();
+        return seconds >= 0 ? Optional.of((int) seconds) : Optional.empty();
+    }
+
     public static String getDeploymentName(Trustify cr) {
         return cr.getMetadata().getName() + Constants.SERVER_DEPLOYMENT_SUFFIX;
     }
@@ -193,4 +344,14 @@ public class ServerDeployment extends CRUDKubernetesDependentResource<Deployment
                 "trustify-operator/group", "server"
         );
     }
+
+    /**
+     * Labels of the Server pods. The selector of an existing Deployment cannot be changed, so the instance label is
+     * only added to the pods, for the selectors that must not match the Server pods of other CRs of the namespace.
+     */
+    public static Map<String, String> getPodLabels(Trustify cr) {
+        Map<String, String> labels = new HashMap<>(getPodSelectorLabels(cr));
+        labels.put(Constants.INSTANCE_LABEL, cr.getMetadata().getName());
+        return labels;
+    }
 }
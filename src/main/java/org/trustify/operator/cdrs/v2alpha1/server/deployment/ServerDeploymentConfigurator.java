@@ -62,6 +62,28 @@ public class ServerDeploymentConfigurator extends TrustifyConfiguration implemen
         return config;
     }
 
+    /**
+     * Only what the schema migration needs, so that changing any other setting of the Server does not run the
+     * migration again. Migrations take session level locks, so the migration Job connects to the database
+     * directly even if the connection pooler is enabled.
+     */
+    public List<EnvVar> getMigrationEnvVars(Trustify cr) {
+        List<EnvVar> envVars = new ArrayList<>();
+        envVars.add(new EnvVarBuilder()
+                .withName("RUST_LOG")
+                .withValue("info")
+                .build()
+        );
+        envVars.addAll(getDatabaseEnvVars(cr));
+        return envVars;
+    }
+
+    public ResourceRequirements getMigrationResourceRequirements(Trustify cr) {
+        TrustifySpec.ResourcesLimitSpec resourcesLimitSpec = CRDUtils.getValueFromSubSpec(cr.getSpec(), TrustifySpec::serverMigrationResourceLimitSpec)
+                .orElse(null);
+        return CRDUtils.getResourceRequirements(resourcesLimitSpec, trustifyConfig);
+    }
+
     private void configureGeneral(Config config, Trustify cr) {
         config.allEnvVars().add(new EnvVarBuilder()
                 .withName("RUST_LOG")
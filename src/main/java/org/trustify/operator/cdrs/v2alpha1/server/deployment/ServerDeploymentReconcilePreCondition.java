@@ -6,7 +6,8 @@ import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
 import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.server.ServerReconcilePreCondition;
-import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeploymentReadyPostCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.db.statefulset.DBStatefulSetReadyPostCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.db.pooler.deployment.DBPoolerDeploymentReadyPostCondition;
 import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
 
 public class ServerDeploymentReconcilePreCondition extends ServerReconcilePreCondition implements Condition<Deployment, Trustify> {
@@ -15,13 +16,22 @@ public class ServerDeploymentReconcilePreCondition extends ServerReconcilePreCon
     public boolean isMet(DependentResource<Deployment, Trustify> dependentResource, Trustify cr, Context<Trustify> context) {
         boolean isDBRequired = ServerUtils.isServerDBRequired(cr);
         if (isDBRequired) {
-            DBDeploymentReadyPostCondition dbDeploymentReadyPostCondition = new DBDeploymentReadyPostCondition();
-            boolean isDBReady = dbDeploymentReadyPostCondition.isMet(dependentResource, cr, context);
+            DBStatefulSetReadyPostCondition dbStatefulSetReadyPostCondition = new DBStatefulSetReadyPostCondition();
+            boolean isDBReady = dbStatefulSetReadyPostCondition.isMet(null, cr, context);
             if (!isDBReady) {
                 return false;
             }
         }
 
+        boolean isDBPoolerEnabled = ServerUtils.isDBPoolerEnabled(cr);
+        if (isDBPoolerEnabled) {
+            DBPoolerDeploymentReadyPostCondition dbPoolerDeploymentReadyPostCondition = new DBPoolerDeploymentReadyPostCondition();
+            boolean isDBPoolerReady = dbPoolerDeploymentReadyPostCondition.isMet(dependentResource, cr, context);
+            if (!isDBPoolerReady) {
+                return false;
+            }
+        }
+
         return super.isMet(cr, context);
     }
 
@@ -0,0 +1,46 @@
+package org.trustify.operator.cdrs.v2alpha1.server.hpa;
+
+import io.fabric8.kubernetes.api.model.autoscaling.v2.HorizontalPodAutoscaler;
+import io.fabric8.kubernetes.api.model.autoscaling.v2.HorizontalPodAutoscalerBuilder;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeployment;
+import org.trustify.operator.services.MetricsService;
+import org.trustify.operator.utils.CRDUtils;
+
+@KubernetesDependent(labelSelector = ServerHorizontalPodAutoscaler.LABEL_SELECTOR, resourceDiscriminator = ServerHorizontalPodAutoscalerDiscriminator.class)
+@ApplicationScoped
+public class ServerHorizontalPodAutoscaler extends CRUDKubernetesDependentResource<HorizontalPodAutoscaler, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=server";
+
+    public ServerHorizontalPodAutoscaler() {
+        super(HorizontalPodAutoscaler.class);
+    }
+
+    @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
+    protected HorizontalPodAutoscaler desired(Trustify cr, Context<Trustify> context) {
+        return newHorizontalPodAutoscaler(cr);
+    }
+
+    private HorizontalPodAutoscaler newHorizontalPodAutoscaler(Trustify cr) {
+        return new HorizontalPodAutoscalerBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getHorizontalPodAutoscalerName(cr), LABEL_SELECTOR, cr))
+                        .build()
+                )
+                .withSpec(CRDUtils.getHorizontalPodAutoscalerSpec(cr.getSpec().serverAutoscalingSpec(), "Deployment", ServerDeployment.getDeploymentName(cr)))
+                .build();
+    }
+
+    public static String getHorizontalPodAutoscalerName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.SERVER_HPA_SUFFIX;
+    }
+
+}
@@ -0,0 +1,17 @@
+package org.trustify.operator.cdrs.v2alpha1.server.hpa;
+
+import io.fabric8.kubernetes.api.model.autoscaling.v2.HorizontalPodAutoscaler;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeployment;
+
+public class ServerHorizontalPodAutoscalerActivationCondition implements Condition<HorizontalPodAutoscaler, Trustify> {
+
+    @Override
+    public boolean isMet(DependentResource<HorizontalPodAutoscaler, Trustify> resource, Trustify cr, Context<Trustify> context) {
+        return ServerDeployment.isAutoscalingEnabled(cr, context);
+    }
+
+}
@@ -0,0 +1,150 @@
+package org.trustify.operator.cdrs.v2alpha1.server.migration;
+
+import io.fabric8.kubernetes.api.model.ContainerBuilder;
+import io.fabric8.kubernetes.api.model.DeletionPropagation;
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.PodSpecBuilder;
+import io.fabric8.kubernetes.api.model.PodTemplateSpecBuilder;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.fabric8.kubernetes.api.model.batch.v1.JobBuilder;
+import io.fabric8.kubernetes.api.model.batch.v1.JobSpecBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.Matcher;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeploymentConfigurator;
+import org.trustify.operator.controllers.DesiredStateCache;
+import org.trustify.operator.services.MetricsService;
+import org.trustify.operator.utils.CRDUtils;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+@KubernetesDependent(labelSelector = ServerMigrationJob.LABEL_SELECTOR, resourceDiscriminator = ServerMigrationJobDiscriminator.class)
+@ApplicationScoped
+public class ServerMigrationJob extends CRUDKubernetesDependentResource<Job, Trustify>
+        implements Matcher<Job, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=server";
+
+    @Inject
+    ServerDeploymentConfigurator distConfigurator;
+
+    public ServerMigrationJob() {
+        super(Job.class);
+    }
+
+    @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
+    protected Job desired(Trustify cr, Context<Trustify> context) {
+        return DesiredStateCache.computeIfAbsent(context, cr, getClass().getName(), () -> newJob(cr, context));
+    }
+
+    /**
+     * Only a change of the image or of the database the migration runs against runs the migration again.
+     */
+    @Override
+    public Result<Job> match(Job actual, Trustify cr, Context<Trustify> context) {
+        boolean match = Objects.equals(getMigrationHash(actual), getMigrationHash(desired(cr, context)));
+        return Result.nonComputed(match);
+    }
+
+    @Override
+    public Job update(Job actual, Job desired, Trustify cr, Context<Trustify> context) {
+        // The pod template of a Job is immutable, so the Job is replaced to run the migration again. The new Job is
+        // created by the reconciliation triggered by the deletion event, once the previous Job and its pods are gone,
+        // so two migrations never run at the same time and the create does not conflict with the terminating Job.
+        if (!actual.isMarkedForDeletion()) {
+            context.getClient().resource(actual)
+                    .withPropagationPolicy(DeletionPropagation.FOREGROUND)
+                    .delete();
+        }
+        return actual;
+    }
+
+    /**
+     * Whether the migration matching the current spec has completed, a succeeded Job of a previous image or
+     * database, or one being replaced, does not count.
+     */
+    public boolean isMigrated(Job actual, Trustify cr, Context<Trustify> context) {
+        return isJobSucceeded(actual) && !actual.isMarkedForDeletion() && match(actual, cr, context).matched();
+    }
+
+    private Job newJob(Trustify cr, Context<Trustify> context) {
+        ServerDeploymentConfigurator.Config config = distConfigurator.getDeploymentConfig(cr, context);
+        List<EnvVar> envVars = distConfigurator.getMigrationEnvVars(cr);
+
+        return new JobBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getJobName(cr), LABEL_SELECTOR, cr))
+                        .addToAnnotations(Constants.MIGRATION_IMAGE_ANNOTATION, config.image())
+                        .addToAnnotations(Constants.MIGRATION_HASH_ANNOTATION, getMigrationHash(config.image(), envVars))
+                        .build()
+                )
+                .withSpec(new JobSpecBuilder()
+                        .withBackoffLimit(6)
+                        .withTemplate(new PodTemplateSpecBuilder()
+                                .withSpec(new PodSpecBuilder()
+                                        .withRestartPolicy("OnFailure")
+                                        .withImagePullSecrets(config.imagePullSecrets())
+                                        .withContainers(new ContainerBuilder()
+                                                .withName("migrate")
+                                                .withImage(config.image())
+                                                .withImagePullPolicy(config.imagePullPolicy())
+                                                .withEnv(envVars)
+                                                .withCommand("/usr/local/bin/trustd")
+                                                .withArgs(
+                                                        "db",
+                                                        "migrate"
+                                                )
+                                                .withResources(distConfigurator.getMigrationResourceRequirements(cr))
+                                                .build()
+                                        )
+                                        .build()
+                                )
+                                .build()
+                        )
+                        .build()
+                )
+                .build();
+    }
+
+    public static String getJobName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.SERVER_MIGRATION_JOB_SUFFIX;
+    }
+
+    private static String getMigrationHash(String image, List<EnvVar> envVars) {
+        return CRDUtils.getHash(image + "\n" + Serialization.asJson(envVars));
+    }
+
+    private static String getMigrationHash(Job job) {
+        return Optional.ofNullable(job.getMetadata().getAnnotations())
+                .map(annotations -> annotations.get(Constants.MIGRATION_HASH_ANNOTATION))
+                .orElse(null);
+    }
+
+    public static boolean isJobSucceeded(Job job) {
+        return Optional.ofNullable(job.getStatus())
+                .map(status -> status.getSucceeded() != null && status.getSucceeded() >= 1)
+                .orElse(false);
+    }
+
+    /**
+     * The server image the database schema was migrated with, if the migration has completed.
+     */
+    public static Optional<String> getMigratedVersion(Job job) {
+        if (!isJobSucceeded(job) || job.isMarkedForDeletion()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(job.getMetadata().getAnnotations())
+                .map(annotations -> annotations.get(Constants.MIGRATION_IMAGE_ANNOTATION));
+    }
+
+}
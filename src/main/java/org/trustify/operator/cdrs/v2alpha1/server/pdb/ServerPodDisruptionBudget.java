@@ -0,0 +1,71 @@
+package org.trustify.operator.cdrs.v2alpha1.server.pdb;
+
+import io.fabric8.kubernetes.api.model.LabelSelectorBuilder;
+import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudget;
+import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudgetBuilder;
+import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudgetSpec;
+import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudgetSpecBuilder;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeployment;
+import org.trustify.operator.services.MetricsService;
+import org.trustify.operator.utils.CRDUtils;
+
+import java.util.Optional;
+
+@KubernetesDependent(labelSelector = ServerPodDisruptionBudget.LABEL_SELECTOR, resourceDiscriminator = ServerPodDisruptionBudgetDiscriminator.class)
+@ApplicationScoped
+public class ServerPodDisruptionBudget extends CRUDKubernetesDependentResource<PodDisruptionBudget, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=server";
+
+    public ServerPodDisruptionBudget() {
+        super(PodDisruptionBudget.class);
+    }
+
+    @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
+    protected PodDisruptionBudget desired(Trustify cr, Context<Trustify> context) {
+        return newPodDisruptionBudget(cr);
+    }
+
+    private PodDisruptionBudget newPodDisruptionBudget(Trustify cr) {
+        return new PodDisruptionBudgetBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getPodDisruptionBudgetName(cr), LABEL_SELECTOR, cr))
+                        .build()
+                )
+                .withSpec(getPodDisruptionBudgetSpec(cr))
+                .build();
+    }
+
+    private PodDisruptionBudgetSpec getPodDisruptionBudgetSpec(Trustify cr) {
+        TrustifySpec.DisruptionBudgetSpec disruptionBudgetSpec = cr.getSpec().serverDisruptionBudgetSpec();
+        Optional<String> minAvailable = CRDUtils.getValueFromSubSpec(disruptionBudgetSpec, TrustifySpec.DisruptionBudgetSpec::minAvailable);
+        Optional<String> maxUnavailable = CRDUtils.getValueFromSubSpec(disruptionBudgetSpec, TrustifySpec.DisruptionBudgetSpec::maxUnavailable);
+
+        PodDisruptionBudgetSpecBuilder builder = new PodDisruptionBudgetSpecBuilder()
+                // Only the pods of this CR, the budgets of several CRs in a namespace must not overlap
+                .withSelector(new LabelSelectorBuilder()
+                        .withMatchLabels(ServerDeployment.getPodLabels(cr))
+                        .build()
+                );
+        if (minAvailable.isPresent()) {
+            builder.withMinAvailable(CRDUtils.getIntOrPercentage(minAvailable.get()));
+        } else {
+            builder.withMaxUnavailable(CRDUtils.getIntOrPercentage(maxUnavailable.orElse("1")));
+        }
+        return builder.build();
+    }
+
+    public static String getPodDisruptionBudgetName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.SERVER_PDB_SUFFIX;
+    }
+
+}
@@ -0,0 +1,19 @@
+package org.trustify.operator.cdrs.v2alpha1.server.pdb;
+
+import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudget;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.utils.CRDUtils;
+
+public class ServerPodDisruptionBudgetActivationCondition implements Condition<PodDisruptionBudget, Trustify> {
+
+    @Override
+    public boolean isMet(DependentResource<PodDisruptionBudget, Trustify> resource, Trustify cr, Context<Trustify> context) {
+        return CRDUtils.getValueFromSubSpec(cr.getSpec().serverDisruptionBudgetSpec(), TrustifySpec.DisruptionBudgetSpec::enabled)
+                .orElse(false);
+    }
+
+}
@@ -5,14 +5,20 @@ import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.javaoperatorsdk.operator.processing.dependent.Creator;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.trustify.operator.Constants;
 import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.TrustifyStatusCondition;
+import org.trustify.operator.services.MetricsService;
+import org.trustify.operator.utils.CRDUtils;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @KubernetesDependent(labelSelector = ServerStoragePersistentVolumeClaim.LABEL_SELECTOR, resourceDiscriminator = ServerStoragePersistentVolumeClaimDiscriminator.class)
@@ -30,6 +36,7 @@ public class ServerStoragePersistentVolumeClaim extends CRUDKubernetesDependentR
     }
 
     @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
     protected PersistentVolumeClaim desired(Trustify cr, Context<Trustify> context) {
         return newPersistentVolumeClaim(cr, context);
     }
@@ -39,6 +46,10 @@ public class ServerStoragePersistentVolumeClaim extends CRUDKubernetesDependentR
                 .flatMap(storageSpec -> Optional.ofNullable(storageSpec.filesystemStorageSpec()))
                 .map(TrustifySpec.FilesystemStorageSpec::pvcSize)
                 .orElse(trustifyConfig.defaultPvcSize());
+        String pvcStorageClassName = Optional.ofNullable(cr.getSpec().storageSpec())
+                .flatMap(storageSpec -> Optional.ofNullable(storageSpec.filesystemStorageSpec()))
+                .map(TrustifySpec.FilesystemStorageSpec::pvcStorageClassName)
+                .orElse(null);
 
         return new PersistentVolumeClaimBuilder()
                 .withMetadata(Constants.metadataBuilder
@@ -46,7 +57,8 @@ public class ServerStoragePersistentVolumeClaim extends CRUDKubernetesDependentR
                         .build()
                 )
                 .withSpec(new PersistentVolumeClaimSpecBuilder()
-                        .withAccessModes("ReadWriteOnce")
+                        .withAccessModes(getAccessMode(cr).getValue())
+                        .withStorageClassName(pvcStorageClassName)
                         .withResources(new VolumeResourceRequirementsBuilder()
                                 .withRequests(Map.of("storage", new Quantity(pvcStorageSize)))
                                 .build()
@@ -70,4 +82,51 @@ public class ServerStoragePersistentVolumeClaim extends CRUDKubernetesDependentR
         return cr.getMetadata().getName() + Constants.SERVER_PVC_SUFFIX;
     }
 
+    public static boolean isFilesystemStorage(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().storageSpec())
+                .map(storageSpec -> Objects.isNull(storageSpec.type()) || Objects.equals(TrustifySpec.StorageStrategyType.FILESYSTEM, storageSpec.type()))
+                .orElse(true);
+    }
+
+    public static TrustifySpec.PersistentVolumeAccessMode getAccessMode(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().storageSpec())
+                .flatMap(storageSpec -> Optional.ofNullable(storageSpec.filesystemStorageSpec()))
+                .map(TrustifySpec.FilesystemStorageSpec::pvcAccessMode)
+                .orElse(TrustifySpec.PersistentVolumeAccessMode.READ_WRITE_ONCE);
+    }
+
+    /**
+     * Whether the Server instances can run on different nodes. Every instance mounts the storage PVC, which then has
+     * to be ReadWriteMany. The access mode of an existing PVC wins over the CR since it cannot be changed.
+     */
+    public static boolean isScaleOutSupported(Trustify cr, Context<Trustify> context) {
+        if (!isFilesystemStorage(cr)) {
+            return true;
+        }
+        return CRDUtils.getCachedResource(context, PersistentVolumeClaim.class, getPersistentVolumeClaimName(cr), cr.getMetadata().getNamespace())
+                .map(pvc -> pvc.getSpec().getAccessModes())
+                .orElseGet(() -> List.of(getAccessMode(cr).getValue()))
+                .contains(TrustifySpec.PersistentVolumeAccessMode.READ_WRITE_MANY.getValue());
+    }
+
+    public static TrustifyStatusCondition getScaleOutCondition(Trustify cr, Context<Trustify> context) {
+        TrustifyStatusCondition condition = new TrustifyStatusCondition();
+        condition.setType(TrustifyStatusCondition.SERVER_SCALE_OUT);
+        if (!isFilesystemStorage(cr)) {
+            condition.setStatus(true);
+            condition.setReason("ObjectStorage");
+            condition.setMessage("The Server uses object storage, its instances can run on different nodes.");
+        } else if (isScaleOutSupported(cr, context)) {
+            condition.setStatus(true);
+            condition.setReason("ReadWriteManyStorage");
+            condition.setMessage(String.format("The storage PVC %s is ReadWriteMany, the Server instances can run on different nodes.", getPersistentVolumeClaimName(cr)));
+        } else {
+            condition.setStatus(false);
+            condition.setReason("ReadWriteOnceStorage");
+            condition.setMessage(String.format("The storage PVC %s is ReadWriteOnce, the Server is limited to 1 instance and serverInstances and serverAutoscaling are ignored. " +
+                    "To run more instances use S3 storage, or a new PVC with storage.filesystem.pvcAccessMode set to READ_WRITE_MANY and a storage class supporting it.", getPersistentVolumeClaimName(cr)));
+        }
+        return condition;
+    }
+
 }
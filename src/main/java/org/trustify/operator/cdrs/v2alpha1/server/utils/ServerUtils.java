@@ -21,6 +21,21 @@ public class ServerUtils {
                 .orElse(false);
     }
 
+    public static boolean isDBPoolerEnabled(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().databaseSpec())
+                .map(TrustifySpec.DatabaseSpec::connectionPoolerSpec)
+                .map(TrustifySpec.ConnectionPoolerSpec::enabled)
+                .orElse(false);
+    }
+
+    public static boolean isDBReadReplicasEnabled(Trustify cr) {
+        return isServerDBRequired(cr) && Optional.ofNullable(cr.getSpec().databaseSpec())
+                .map(TrustifySpec.DatabaseSpec::embeddedDatabaseSpec)
+                .map(TrustifySpec.EmbeddedDatabaseSpec::readReplicasSpec)
+                .map(TrustifySpec.ReadReplicasSpec::enabled)
+                .orElse(false);
+    }
+
     public Optional<String> tlsSecretName(Trustify cr) {
         Optional<String> userDefinedTlsSecretName = CRDUtils.getValueFromSubSpec(cr.getSpec().httpSpec(), TrustifySpec.HttpSpec::tlsSecret);
         if (userDefinedTlsSecretName.isPresent()) {
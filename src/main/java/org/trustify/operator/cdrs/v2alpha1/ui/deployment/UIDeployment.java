@@ -8,14 +8,20 @@ import io.javaoperatorsdk.operator.processing.dependent.Matcher;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
 import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
 import io.javaoperatorsdk.operator.processing.dependent.workflow.Condition;
+import io.micrometer.core.annotation.Timed;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.trustify.operator.Constants;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
 import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeployment;
 import org.trustify.operator.controllers.ResourceConfigurator;
+import org.trustify.operator.controllers.DesiredStateCache;
+import org.trustify.operator.services.MetricsService;
+import org.trustify.operator.utils.CRDUtils;
 
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @KubernetesDependent(labelSelector = UIDeployment.LABEL_SELECTOR, resourceDiscriminator = UIDeploymentDiscriminator.class)
@@ -33,19 +39,24 @@ public class UIDeployment extends CRUDKubernetesDependentResource<Deployment, Tr
     }
 
     @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
     protected Deployment desired(Trustify cr, Context<Trustify> context) {
-        return newDeployment(cr, context);
+        return DesiredStateCache.computeIfAbsent(context, cr, getClass().getName(), () -> {
+            Deployment deployment = newDeployment(cr, context);
+            return CRDUtils.addPodTemplateHash(deployment, deployment.getSpec().getTemplate());
+        });
     }
 
     @Override
     public Result<Deployment> match(Deployment actual, Trustify cr, Context<Trustify> context) {
-        boolean matchDesiredInstances = getDesiredInstances(cr) == actual.getSpec().getReplicas();
+        // Replicas are owned by the HorizontalPodAutoscaler when autoscaling is enabled
+        boolean isAutoscalingEnabled = CRDUtils.isAutoscalingEnabled(cr.getSpec().uiAutoscalingSpec());
+        boolean matchDesiredInstances = isAutoscalingEnabled || Objects.equals(getDesiredInstances(cr), actual.getSpec().getReplicas());
         if (!matchDesiredInstances) {
             return Result.nonComputed(false);
         }
 
-        ResourceConfigurator.Config config = uiDeploymentConfigurator.configureDeployment(cr, context);
-        boolean match = config.match(actual.getSpec().getTemplate().getSpec());
+        boolean match = CRDUtils.matchPodTemplate(actual, desired(cr, context), context);
         return Result.nonComputed(match);
     }
 
@@ -63,7 +74,11 @@ public class UIDeployment extends CRUDKubernetesDependentResource<Deployment, Tr
                 .orElse(false);
     }
 
-    private int getDesiredInstances(Trustify cr) {
+    private Integer getDesiredInstances(Trustify cr) {
+        if (CRDUtils.isAutoscalingEnabled(cr.getSpec().uiAutoscalingSpec())) {
+            // Not applied, so server-side apply leaves the replicas to the HorizontalPodAutoscaler
+            return null;
+        }
         return Optional.ofNullable(cr.getSpec().uiInstances())
                 .orElse(1);
     }
@@ -86,7 +101,7 @@ public class UIDeployment extends CRUDKubernetesDependentResource<Deployment, Tr
     }
 
     private DeploymentSpec getDeploymentSpec(Trustify cr, Context<Trustify> context) {
-        ResourceConfigurator.Config config = uiDeploymentConfigurator.configureDeployment(cr, context);
+        ResourceConfigurator.Config config = uiDeploymentConfigurator.getDeploymentConfig(cr, context);
 
         return new DeploymentSpecBuilder()
                 .withStrategy(new DeploymentStrategyBuilder()
@@ -118,36 +133,35 @@ public class UIDeployment extends CRUDKubernetesDependentResource<Deployment, Tr
                                                         .withContainerPort(getDeploymentPort(cr))
                                                         .build()
                                         )
-                                        .withLivenessProbe(new ProbeBuilder()
-                                                .withExec(new ExecActionBuilder()
-                                                        .withCommand(
-                                                                "/bin/sh",
-                                                                "-c",
-                                                                "ps -A | grep node"
+                                        // TCP and HTTP probes are run by the kubelet itself, no process is forked in the container
+                                        .withLivenessProbe(CRDUtils.getProbe(new ProbeBuilder()
+                                                        .withTcpSocket(new TCPSocketActionBuilder()
+                                                                .withPort(new IntOrString(getDeploymentPort(cr)))
+                                                                .build()
                                                         )
-                                                        .build()
-                                                )
-                                                .withInitialDelaySeconds(10)
-                                                .withTimeoutSeconds(1)
-                                                .withPeriodSeconds(5)
-                                                .withSuccessThreshold(1)
-                                                .withFailureThreshold(3)
-                                                .build()
-                                        )
-                                        .withReadinessProbe(new ProbeBuilder()
-                                                .withHttpGet(new HTTPGetActionBuilder()
-                                                        .withPath("/")
-                                                        .withNewPort(getDeploymentPort(cr))
-                                                        .withScheme("HTTP")
-                                                        .build()
-                                                )
-                                                .withInitialDelaySeconds(10)
-                                                .withTimeoutSeconds(1)
-                                                .withPeriodSeconds(5)
-                                                .withSuccessThreshold(1)
-                                                .withFailureThreshold(3)
-                                                .build()
-                                        )
+                                                        .withInitialDelaySeconds(10)
+                                                        .withTimeoutSeconds(1)
+                                                        .withPeriodSeconds(5)
+                                                        .withSuccessThreshold(1)
+                                                        .withFailureThreshold(3)
+                                                        .build(),
+                                                CRDUtils.getValueFromSubSpec(cr.getSpec().uiProbesSpec(), TrustifySpec.ProbesSpec::liveness).orElse(null)
+                                        ))
+                                        .withReadinessProbe(CRDUtils.getProbe(new ProbeBuilder()
+                                                        .withHttpGet(new HTTPGetActionBuilder()
+                                                                .withPath("/")
+                                                                .withNewPort(getDeploymentPort(cr))
+                                                                .withScheme("HTTP")
+                                                                .build()
+                                                        )
+                                                        .withInitialDelaySeconds(10)
+                                                        .withTimeoutSeconds(1)
+                                                        .withPeriodSeconds(5)
+                                                        .withSuccessThreshold(1)
+                                                        .withFailureThreshold(3)
+                                                        .build(),
+                                                CRDUtils.getValueFromSubSpec(cr.getSpec().uiProbesSpec(), TrustifySpec.ProbesSpec::readiness).orElse(null)
+                                        ))
                                         .withVolumeMounts(config.allVolumeMounts())
                                         .withResources(config.resourceRequirements())
                                         .build()
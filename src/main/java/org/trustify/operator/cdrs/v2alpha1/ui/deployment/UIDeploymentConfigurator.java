@@ -13,6 +13,7 @@ import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.TrustifyImagesConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.ingress.AppIngress;
 import org.trustify.operator.cdrs.v2alpha1.server.service.ServerService;
 import org.trustify.operator.controllers.ResourceConfigurator;
 import org.trustify.operator.services.KeycloakRealmService;
@@ -130,7 +131,7 @@ public class UIDeploymentConfigurator implements ResourceConfigurator {
                         .build(),
                 new EnvVarBuilder()
                         .withName("UI_INGRESS_PROXY_BODY_SIZE")
-                        .withValue("50m")
+                        .withValue(AppIngress.getMaxBodySize(cr))
                         .build(),
                 new EnvVarBuilder()
                         .withName("NODE_EXTRA_CA_CERTS")
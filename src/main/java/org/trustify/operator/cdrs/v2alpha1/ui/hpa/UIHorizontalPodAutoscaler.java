@@ -0,0 +1,46 @@
+package org.trustify.operator.cdrs.v2alpha1.ui.hpa;
+
+import io.fabric8.kubernetes.api.model.autoscaling.v2.HorizontalPodAutoscaler;
+import io.fabric8.kubernetes.api.model.autoscaling.v2.HorizontalPodAutoscalerBuilder;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.CRUDKubernetesDependentResource;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.KubernetesDependent;
+import io.micrometer.core.annotation.Timed;
+import jakarta.enterprise.context.ApplicationScoped;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.ui.deployment.UIDeployment;
+import org.trustify.operator.services.MetricsService;
+import org.trustify.operator.utils.CRDUtils;
+
+@KubernetesDependent(labelSelector = UIHorizontalPodAutoscaler.LABEL_SELECTOR, resourceDiscriminator = UIHorizontalPodAutoscalerDiscriminator.class)
+@ApplicationScoped
+public class UIHorizontalPodAutoscaler extends CRUDKubernetesDependentResource<HorizontalPodAutoscaler, Trustify> {
+
+    public static final String LABEL_SELECTOR = "app.kubernetes.io/managed-by=trustify-operator,component=ui";
+
+    public UIHorizontalPodAutoscaler() {
+        super(HorizontalPodAutoscaler.class);
+    }
+
+    @Override
+    @Timed(value = MetricsService.DEPENDENT_DURATION, histogram = true)
+    protected HorizontalPodAutoscaler desired(Trustify cr, Context<Trustify> context) {
+        return newHorizontalPodAutoscaler(cr);
+    }
+
+    private HorizontalPodAutoscaler newHorizontalPodAutoscaler(Trustify cr) {
+        return new HorizontalPodAutoscalerBuilder()
+                .withMetadata(Constants.metadataBuilder
+                        .apply(new Constants.Resource(getHorizontalPodAutoscalerName(cr), LABEL_SELECTOR, cr))
+                        .build()
+                )
+                .withSpec(CRDUtils.getHorizontalPodAutoscalerSpec(cr.getSpec().uiAutoscalingSpec(), "Deployment", UIDeployment.getDeploymentName(cr)))
+                .build();
+    }
+
+    public static String getHorizontalPodAutoscalerName(Trustify cr) {
+        return cr.getMetadata().getName() + Constants.UI_HPA_SUFFIX;
+    }
+
+}
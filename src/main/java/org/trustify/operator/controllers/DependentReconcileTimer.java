@@ -0,0 +1,40 @@
+package org.trustify.operator.controllers;
+
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.ReconcileResult;
+import jakarta.annotation.Priority;
+import jakarta.decorator.Decorator;
+import jakarta.decorator.Delegate;
+import jakarta.enterprise.inject.Any;
+import jakarta.enterprise.inject.Decorated;
+import jakarta.enterprise.inject.spi.Bean;
+import jakarta.inject.Inject;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.services.MetricsService;
+
+/**
+ * Times the reconciliation of every dependent of a Trustify, so a new dependent is measured without having to
+ * annotate it.
+ */
+@Decorator
+@Priority(1)
+public abstract class DependentReconcileTimer<R> implements DependentResource<R, Trustify> {
+
+    @Inject
+    @Any
+    @Delegate
+    DependentResource<R, Trustify> delegate;
+
+    @Inject
+    @Decorated
+    Bean<DependentResource<R, Trustify>> decorated;
+
+    @Inject
+    MetricsService metricsService;
+
+    @Override
+    public ReconcileResult<R> reconcile(Trustify cr, Context<Trustify> context) {
+        return metricsService.timeDependentReconcile(decorated.getBeanClass(), () -> delegate.reconcile(cr, context));
+    }
+}
@@ -0,0 +1,40 @@
+package org.trustify.operator.controllers;
+
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes values computed while building the desired state of dependents, so the same value is not rebuilt
+ * by both match() and desired() of a dependent. Entries live as long as the reconciliation that created them,
+ * therefore the secondary resources they are derived from cannot change while they are cached.
+ */
+public class DesiredStateCache {
+
+    public static Map<String, Object> newCache() {
+        return new ConcurrentHashMap<>();
+    }
+
+    public static <T> T computeIfAbsent(Context<Trustify> context, Trustify cr, String name, Supplier<T> supplier) {
+        Map<String, Object> cache = context.managedDependentResourceContext()
+                .get(Constants.CONTEXT_DESIRED_STATE_CACHE_KEY, Map.class)
+                .orElse(null);
+        if (cache == null) {
+            return supplier.get();
+        }
+
+        String key = String.join("/", name, cr.getMetadata().getUid(), String.valueOf(cr.getMetadata().getGeneration()));
+        Object value = cache.get(key);
+        if (value == null) {
+            // Not using ConcurrentHashMap.computeIfAbsent since suppliers can read other cached values
+            Object computedValue = supplier.get();
+            value = Optional.ofNullable(cache.putIfAbsent(key, computedValue)).orElse(computedValue);
+        }
+        return (T) value;
+    }
+}
@@ -0,0 +1,63 @@
+package org.trustify.operator.controllers;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Bounds how many Trustify CRs of the same namespace are reconciled concurrently, so a namespace with many
+ * instances cannot take every reconciliation thread while the CRs of other namespaces wait. A single CR is
+ * never limited on its own: JOSDK already serializes its reconciliations and bursts of events are merged.
+ */
+public class NamespaceReconcileLimiter {
+
+    private final int maxConcurrentReconciliations;
+    private final Map<String, Semaphore> permitsByNamespace = new ConcurrentHashMap<>();
+
+    public NamespaceReconcileLimiter(int maxConcurrentReconciliations) {
+        if (maxConcurrentReconciliations < 1) {
+            throw new IllegalArgumentException("maxConcurrentReconciliations must be greater than 0");
+        }
+        this.maxConcurrentReconciliations = maxConcurrentReconciliations;
+    }
+
+    public Optional<Permit> tryAcquire(String namespace) {
+        Semaphore semaphore = permitsByNamespace.computeIfAbsent(namespace, ns -> new Semaphore(maxConcurrentReconciliations));
+        if (!semaphore.tryAcquire()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Permit(semaphore));
+    }
+
+    public int getInFlight(String namespace) {
+        Semaphore semaphore = permitsByNamespace.get(namespace);
+        return semaphore == null ? 0 : maxConcurrentReconciliations - semaphore.availablePermits();
+    }
+
+    /**
+     * Slot held for the duration of a reconciliation. Releasing is idempotent since the reconciliation can end
+     * either in the reconciler or in its error handler.
+     */
+    public static class Permit {
+        private final Semaphore semaphore;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                semaphore.release();
+            }
+        }
+    }
+
+    public static class NamespaceSaturatedException extends RuntimeException {
+        public NamespaceSaturatedException(String namespace) {
+            super("Too many Trustify instances of namespace " + namespace + " are being reconciled");
+        }
+    }
+}
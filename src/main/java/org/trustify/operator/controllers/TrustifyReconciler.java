@@ -1,26 +1,44 @@
 package org.trustify.operator.controllers;
 
 import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.api.model.Service;
 import io.fabric8.kubernetes.api.model.apps.Deployment;
 import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.autoscaling.v2.HorizontalPodAutoscaler;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
+import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudget;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.ClusterServiceVersion;
+import io.fabric8.openshift.api.model.operatorhub.v1alpha1.Subscription;
 import io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration;
 import io.javaoperatorsdk.operator.api.reconciler.*;
 import io.javaoperatorsdk.operator.api.reconciler.dependent.Dependent;
+import io.javaoperatorsdk.operator.processing.event.EventSourceRetriever;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
 import io.javaoperatorsdk.operator.processing.event.source.EventSource;
+import io.javaoperatorsdk.operator.processing.event.source.SecondaryToPrimaryMapper;
 import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
+import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 import org.jboss.logging.Logger;
 import org.keycloak.k8s.v2alpha1.Keycloak;
 import org.keycloak.k8s.v2alpha1.KeycloakRealmImport;
 import org.trustify.operator.Constants;
+import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifyStatusCondition;
+import org.trustify.operator.cdrs.v2alpha1.importer.hpa.ImporterHorizontalPodAutoscaler;
+import org.trustify.operator.cdrs.v2alpha1.importer.hpa.ImporterHorizontalPodAutoscalerActivationCondition;
 import org.trustify.operator.cdrs.v2alpha1.importer.statefulset.ImporterStatefulSet;
 import org.trustify.operator.cdrs.v2alpha1.importer.statefulset.ImporterStatefulSetReadyPostCondition;
 import org.trustify.operator.cdrs.v2alpha1.importer.statefulset.ImporterStatefulSetReconcilePreCondition;
+import org.trustify.operator.cdrs.v2alpha1.ingress.ApiIngress;
+import org.trustify.operator.cdrs.v2alpha1.ingress.ApiIngressActivationCondition;
 import org.trustify.operator.cdrs.v2alpha1.ingress.AppIngress;
 import org.trustify.operator.cdrs.v2alpha1.ingress.AppIngressReadyPostCondition;
 import org.trustify.operator.cdrs.v2alpha1.keycloak.db.deployment.KeycloakDBDeployment;
@@ -35,11 +53,23 @@ import org.trustify.operator.cdrs.v2alpha1.keycloak.db.service.KeycloakDBService
 import org.trustify.operator.cdrs.v2alpha1.keycloak.utils.KeycloakUtils;
 import org.trustify.operator.cdrs.v2alpha1.server.configmap.ServerConfigMap;
 import org.trustify.operator.cdrs.v2alpha1.server.configmap.ServerConfigMapReconcilePreCondition;
-import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeployment;
-import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeploymentActivationCondition;
-import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeploymentReadyPostCondition;
-import org.trustify.operator.cdrs.v2alpha1.server.db.pvc.DBPersistentVolumeClaim;
-import org.trustify.operator.cdrs.v2alpha1.server.db.pvc.DBPersistentVolumeClaimActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.db.configmap.DBConfigMap;
+import org.trustify.operator.cdrs.v2alpha1.server.db.configmap.DBConfigMapActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.db.statefulset.DBStatefulSet;
+import org.trustify.operator.cdrs.v2alpha1.server.db.statefulset.DBStatefulSetActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.db.statefulset.DBStatefulSetReadyPostCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
+import org.trustify.operator.cdrs.v2alpha1.server.db.pooler.deployment.DBPoolerDeployment;
+import org.trustify.operator.cdrs.v2alpha1.server.db.pooler.deployment.DBPoolerDeploymentActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.db.pooler.deployment.DBPoolerDeploymentReadyPostCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.db.pooler.service.DBPoolerService;
+import org.trustify.operator.cdrs.v2alpha1.server.db.pooler.service.DBPoolerServiceActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.db.replica.service.DBReadService;
+import org.trustify.operator.cdrs.v2alpha1.server.db.replica.service.DBReadServiceActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.db.replica.statefulset.DBReplicaStatefulSet;
+import org.trustify.operator.cdrs.v2alpha1.server.db.replica.statefulset.DBReplicaStatefulSetActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.db.secret.DBReplicationSecret;
+import org.trustify.operator.cdrs.v2alpha1.server.db.secret.DBReplicationSecretActivationCondition;
 import org.trustify.operator.cdrs.v2alpha1.server.db.secret.DBSecret;
 import org.trustify.operator.cdrs.v2alpha1.server.db.secret.DBSecretActivationCondition;
 import org.trustify.operator.cdrs.v2alpha1.server.db.service.DBService;
@@ -47,29 +77,40 @@ import org.trustify.operator.cdrs.v2alpha1.server.db.service.DBServiceActivation
 import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeployment;
 import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeploymentReadyPostCondition;
 import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeploymentReconcilePreCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.hpa.ServerHorizontalPodAutoscaler;
+import org.trustify.operator.cdrs.v2alpha1.server.hpa.ServerHorizontalPodAutoscalerActivationCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.migration.ServerMigrationJob;
+import org.trustify.operator.cdrs.v2alpha1.server.migration.ServerMigrationJobDiscriminator;
+import org.trustify.operator.cdrs.v2alpha1.server.migration.ServerMigrationJobReadyPostCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.migration.ServerMigrationJobReconcilePreCondition;
+import org.trustify.operator.cdrs.v2alpha1.server.pdb.ServerPodDisruptionBudget;
+import org.trustify.operator.cdrs.v2alpha1.server.pdb.ServerPodDisruptionBudgetActivationCondition;
 import org.trustify.operator.cdrs.v2alpha1.server.pvc.ServerStoragePersistentVolumeClaim;
 import org.trustify.operator.cdrs.v2alpha1.server.pvc.ServerStoragePersistentVolumeClaimActivationCondition;
 import org.trustify.operator.cdrs.v2alpha1.server.service.ServerService;
 import org.trustify.operator.cdrs.v2alpha1.server.service.ServerServiceReadyPostCondition;
 import org.trustify.operator.cdrs.v2alpha1.ui.deployment.UIDeployment;
+import org.trustify.operator.cdrs.v2alpha1.ui.hpa.UIHorizontalPodAutoscaler;
+import org.trustify.operator.cdrs.v2alpha1.ui.hpa.UIHorizontalPodAutoscalerActivationCondition;
 import org.trustify.operator.cdrs.v2alpha1.ui.service.UIService;
 import org.trustify.operator.services.ClusterService;
 import org.trustify.operator.services.KeycloakOperatorService;
 import org.trustify.operator.services.KeycloakRealmService;
 import org.trustify.operator.services.KeycloakServerService;
+import org.trustify.operator.services.MetricsService;
+import org.trustify.operator.utils.TrimmedItemStore;
 
 import java.time.Duration;
-import java.util.AbstractMap;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
-
-import static io.javaoperatorsdk.operator.api.reconciler.Constants.WATCH_CURRENT_NAMESPACE;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 @ControllerConfiguration(
-        namespaces = WATCH_CURRENT_NAMESPACE,
         name = "trustify",
+        fieldManager = TrustifyReconciler.FIELD_MANAGER,
         dependents = {
                 @Dependent(
                         name = "keycloak-db-pvc",
@@ -94,28 +135,55 @@ import static io.javaoperatorsdk.operator.api.reconciler.Constants.WATCH_CURRENT
                         activationCondition = KeycloakDBServiceActivationCondition.class
                 ),
 
-                @Dependent(
-                        name = "db-pvc",
-                        type = DBPersistentVolumeClaim.class,
-                        activationCondition = DBPersistentVolumeClaimActivationCondition.class
-                ),
                 @Dependent(
                         name = "db-secret",
                         type = DBSecret.class,
                         activationCondition = DBSecretActivationCondition.class
                 ),
                 @Dependent(
-                        name = "db-deployment",
-                        type = DBDeployment.class,
-                        dependsOn = {"db-pvc", "db-secret"},
-                        activationCondition = DBDeploymentActivationCondition.class,
-                        readyPostcondition = DBDeploymentReadyPostCondition.class
+                        name = "db-replication-secret",
+                        type = DBReplicationSecret.class,
+                        activationCondition = DBReplicationSecretActivationCondition.class
+                ),
+                @Dependent(
+                        name = "db-configmap",
+                        type = DBConfigMap.class,
+                        activationCondition = DBConfigMapActivationCondition.class
+                ),
+                @Dependent(
+                        name = "db-stateful-set",
+                        type = DBStatefulSet.class,
+                        dependsOn = {"db-secret", "db-replication-secret", "db-configmap"},
+                        activationCondition = DBStatefulSetActivationCondition.class,
+                        readyPostcondition = DBStatefulSetReadyPostCondition.class
                 ),
                 @Dependent(
                         name = "db-service",
                         type = DBService.class,
                         activationCondition = DBServiceActivationCondition.class
                 ),
+                @Dependent(
+                        name = "db-replica-stateful-set",
+                        type = DBReplicaStatefulSet.class,
+                        dependsOn = {"db-stateful-set"},
+                        activationCondition = DBReplicaStatefulSetActivationCondition.class
+                ),
+                @Dependent(
+                        name = "db-read-service",
+                        type = DBReadService.class,
+                        activationCondition = DBReadServiceActivationCondition.class
+                ),
+                @Dependent(
+                        name = "db-pooler-deployment",
+                        type = DBPoolerDeployment.class,
+                        activationCondition = DBPoolerDeploymentActivationCondition.class,
+                        readyPostcondition = DBPoolerDeploymentReadyPostCondition.class
+                ),
+                @Dependent(
+                        name = "db-pooler-service",
+                        type = DBPoolerService.class,
+                        activationCondition = DBPoolerServiceActivationCondition.class
+                ),
 
                 @Dependent(
                         name = "server-pvc",
@@ -127,10 +195,16 @@ import static io.javaoperatorsdk.operator.api.reconciler.Constants.WATCH_CURRENT
                         type = ServerConfigMap.class,
                         reconcilePrecondition = ServerConfigMapReconcilePreCondition.class
                 ),
+                @Dependent(
+                        name = "server-migration-job",
+                        type = ServerMigrationJob.class,
+                        reconcilePrecondition = ServerMigrationJobReconcilePreCondition.class,
+                        readyPostcondition = ServerMigrationJobReadyPostCondition.class
+                ),
                 @Dependent(
                         name = "server-deployment",
                         type = ServerDeployment.class,
-                        dependsOn = {"server-configmap", "server-service"},
+                        dependsOn = {"server-configmap", "server-service", "server-migration-job"},
                         reconcilePrecondition = ServerDeploymentReconcilePreCondition.class,
                         readyPostcondition = ServerDeploymentReadyPostCondition.class
                 ),
@@ -139,6 +213,17 @@ import static io.javaoperatorsdk.operator.api.reconciler.Constants.WATCH_CURRENT
                         type = ServerService.class,
                         readyPostcondition = ServerServiceReadyPostCondition.class
                 ),
+                @Dependent(
+                        name = "server-hpa",
+                        type = ServerHorizontalPodAutoscaler.class,
+                        dependsOn = {"server-deployment"},
+                        activationCondition = ServerHorizontalPodAutoscalerActivationCondition.class
+                ),
+                @Dependent(
+                        name = "server-pdb",
+                        type = ServerPodDisruptionBudget.class,
+                        activationCondition = ServerPodDisruptionBudgetActivationCondition.class
+                ),
 
                 @Dependent(
                         name = "importer-stateful-set",
@@ -146,6 +231,12 @@ import static io.javaoperatorsdk.operator.api.reconciler.Constants.WATCH_CURRENT
                         reconcilePrecondition = ImporterStatefulSetReconcilePreCondition.class,
                         readyPostcondition = ImporterStatefulSetReadyPostCondition.class
                 ),
+                @Dependent(
+                        name = "importer-hpa",
+                        type = ImporterHorizontalPodAutoscaler.class,
+                        dependsOn = {"importer-stateful-set"},
+                        activationCondition = ImporterHorizontalPodAutoscalerActivationCondition.class
+                ),
 
                 @Dependent(
                         name = "ui-deployment",
@@ -157,24 +248,53 @@ import static io.javaoperatorsdk.operator.api.reconciler.Constants.WATCH_CURRENT
                         name = "ui-service",
                         type = UIService.class
                 ),
+                @Dependent(
+                        name = "ui-hpa",
+                        type = UIHorizontalPodAutoscaler.class,
+                        dependsOn = {"ui-deployment"},
+                        activationCondition = UIHorizontalPodAutoscalerActivationCondition.class
+                ),
 
                 @Dependent(
                         name = "app-ingress",
                         type = AppIngress.class,
                         readyPostcondition = AppIngressReadyPostCondition.class
+                ),
+                @Dependent(
+                        name = "api-ingress",
+                        type = ApiIngress.class,
+                        activationCondition = ApiIngressActivationCondition.class
                 )
         }
 )
-public class TrustifyReconciler implements Reconciler<Trustify>, Cleaner<Trustify>, ContextInitializer<Trustify>, EventSourceInitializer<Trustify> {
+public class TrustifyReconciler implements Reconciler<Trustify>, Cleaner<Trustify>, ContextInitializer<Trustify>, EventSourceInitializer<Trustify>, ErrorStatusHandler<Trustify> {
 
     private static final Logger logger = Logger.getLogger(TrustifyReconciler.class);
 
+    // Same as the controller name, which was the implicit field manager, so existing field ownership is kept
+    public static final String FIELD_MANAGER = "trustify";
+
     public static final String CONFIG_MAP_EVENT_SOURCE = "configMapSource";
     public static final String PVC_EVENT_SOURCE = "pcvSource";
     public static final String SECRET_EVENT_SOURCE = "secretSource";
     public static final String DEPLOYMENT_EVENT_SOURCE = "deploymentSource";
     public static final String SERVICE_EVENT_SOURCE = "serviceSource";
     public static final String STATEFUL_SET_EVENT_SOURCE = "statefulSetSource";
+    public static final String HORIZONTAL_POD_AUTOSCALER_EVENT_SOURCE = "horizontalPodAutoscalerSource";
+    public static final String POD_DISRUPTION_BUDGET_EVENT_SOURCE = "podDisruptionBudgetSource";
+    public static final String JOB_EVENT_SOURCE = "jobSource";
+    public static final String INGRESS_EVENT_SOURCE = "ingressSource";
+    public static final String DB_POD_EVENT_SOURCE = "dbPodSource";
+    public static final String SERVER_POD_EVENT_SOURCE = "serverPodSource";
+    public static final String SUBSCRIPTION_EVENT_SOURCE = "subscriptionSource";
+    public static final String CLUSTER_SERVICE_VERSION_EVENT_SOURCE = "clusterServiceVersionSource";
+    public static final String KEYCLOAK_EVENT_SOURCE = "keycloakSource";
+    public static final String KEYCLOAK_REALM_IMPORT_EVENT_SOURCE = "keycloakRealmImportSource";
+
+    private static final Duration NAMESPACE_SATURATED_RESCHEDULE_DELAY = Duration.ofSeconds(2);
+
+    @Inject
+    TrustifyConfig trustifyConfig;
 
     @Inject
     ClusterService clusterService;
@@ -188,45 +308,92 @@ public class TrustifyReconciler implements Reconciler<Trustify>, Cleaner<Trustif
     @Inject
     KeycloakRealmService keycloakRealmService;
 
-    AtomicReference<Keycloak> keycloakInstance = new AtomicReference<>();
-    AtomicReference<KeycloakRealmImport> keycloakRealmImportInstance = new AtomicReference<>();
+    @Inject
+    MetricsService metricsService;
+
+    NamespaceReconcileLimiter namespaceReconcileLimiter;
+
+    private boolean isServerPodWatched;
+
+    @PostConstruct
+    void init() {
+        namespaceReconcileLimiter = new NamespaceReconcileLimiter(trustifyConfig.maxConcurrentReconciliationsPerNamespace());
+    }
 
     @Override
     public void initContext(Trustify cr, Context<Trustify> context) {
         context.managedDependentResourceContext().put(Constants.CLUSTER_SERVICE, clusterService);
         context.managedDependentResourceContext().put(Constants.CONTEXT_KEYCLOAK_SERVER_SERVICE_KEY, keycloakServerService);
         context.managedDependentResourceContext().put(Constants.CONTEXT_KEYCLOAK_REALM_SERVICE_KEY, keycloakRealmService);
-
-        context.managedDependentResourceContext().put(Constants.KEYCLOAK, keycloakInstance);
-        context.managedDependentResourceContext().put(Constants.KEYCLOAK_REALM_IMPORT, keycloakRealmImportInstance);
+        context.managedDependentResourceContext().put(Constants.CONTEXT_DESIRED_STATE_CACHE_KEY, DesiredStateCache.newCache());
+
+        // Instances are scoped to a single reconciliation since several Trustify CRs can be reconciled concurrently
+        context.managedDependentResourceContext().put(Constants.KEYCLOAK, new AtomicReference<Keycloak>());
+        context.managedDependentResourceContext().put(Constants.KEYCLOAK_REALM_IMPORT, new AtomicReference<KeycloakRealmImport>());
+
+        // Acquired before the workflow runs, released by reconcile() or updateErrorStatus(). Deletions are never held back
+        if (!cr.isMarkedForDeletion()) {
+            String namespace = cr.getMetadata().getNamespace();
+            NamespaceReconcileLimiter.Permit permit = namespaceReconcileLimiter.tryAcquire(namespace)
+                    .orElseThrow(() -> new NamespaceReconcileLimiter.NamespaceSaturatedException(namespace));
+            context.managedDependentResourceContext().put(Constants.CONTEXT_NAMESPACE_PERMIT_KEY, permit);
+        }
     }
 
     @Override
     public UpdateControl<Trustify> reconcile(Trustify cr, Context<Trustify> context) {
-        Optional<UpdateControl<Trustify>> kcUpdateControl = createOrUpdateKeycloakResources(cr, context);
-        if (kcUpdateControl.isPresent()) {
-            return kcUpdateControl.get();
+        try {
+            metricsService.recordFirstReconcile();
+
+            Optional<UpdateControl<Trustify>> kcUpdateControl = createOrUpdateKeycloakResources(cr, context);
+            if (kcUpdateControl.isPresent()) {
+                return kcUpdateControl.get();
+            }
+
+            return createOrUpdateDependantResources(cr, context);
+        } finally {
+            releaseNamespacePermit(context);
+        }
+    }
+
+    @Override
+    public ErrorStatusUpdateControl<Trustify> updateErrorStatus(Trustify cr, Context<Trustify> context, Exception e) {
+        releaseNamespacePermit(context);
+
+        if (e instanceof NamespaceReconcileLimiter.NamespaceSaturatedException) {
+            logger.debugf("Rescheduling Trustify %s: %s", cr.getMetadata().getName(), e.getMessage());
+            return ErrorStatusUpdateControl.<Trustify>noStatusUpdate()
+                    .withNoRetry()
+                    .rescheduleAfter(NAMESPACE_SATURATED_RESCHEDULE_DELAY);
         }
+        return ErrorStatusUpdateControl.noStatusUpdate();
+    }
 
-        return createOrUpdateDependantResources(cr, context);
+    private void releaseNamespacePermit(Context<Trustify> context) {
+        context.managedDependentResourceContext()
+                .get(Constants.CONTEXT_NAMESPACE_PERMIT_KEY, NamespaceReconcileLimiter.Permit.class)
+                .ifPresent(NamespaceReconcileLimiter.Permit::release);
     }
 
     private Optional<UpdateControl<Trustify>> createOrUpdateKeycloakResources(Trustify cr, Context<Trustify> context) {
         boolean isKcRequired = KeycloakUtils.isKeycloakRequired(cr);
         if (isKcRequired) {
             // Keycloak Operator
-            boolean kcSubscriptionExists = keycloakOperatorService.getCurrentInstance(cr).isPresent();
+            boolean kcSubscriptionExists = keycloakOperatorService.getCurrentInstance(cr, context).isPresent();
             if (!kcSubscriptionExists) {
                 logger.info("Installing Keycloak Operator");
                 keycloakOperatorService.createSubscription(cr);
             }
 
-            AbstractMap.SimpleEntry<Boolean, String> subscriptionReady = keycloakOperatorService.isSubscriptionReady(cr);
+            AbstractMap.SimpleEntry<Boolean, String> subscriptionReady = keycloakOperatorService.isSubscriptionReady(cr, context);
             if (!subscriptionReady.getKey()) {
                 logger.infof("Waiting for the Keycloak Operator to be ready: %s", subscriptionReady.getValue());
-                return Optional.of(UpdateControl.<Trustify>noUpdate().rescheduleAfter(5, TimeUnit.SECONDS));
+                return Optional.of(waitForEvent(context, Subscription.class, ClusterServiceVersion.class));
             }
 
+            // The Keycloak CRDs exist only once the Keycloak Operator is installed
+            registerMissingKeycloakEventSources(context);
+
             // Keycloak dependencies
             KeycloakDBDeploymentActivationCondition keycloakDBActivationCondition = new KeycloakDBDeploymentActivationCondition();
             boolean isKeycloakDBEnabled = keycloakDBActivationCondition.isMet(null, cr, context);
@@ -235,7 +402,7 @@ public class TrustifyReconciler implements Reconciler<Trustify>, Cleaner<Trustif
                 boolean isKeycloakDBReady = keycloakDBDeploymentReadyCondition.isMet(null, cr, context);
                 if (!isKeycloakDBReady) {
                     logger.info("Waiting for the Keycloak DB to be ready");
-                    return Optional.of(UpdateControl.<Trustify>noUpdate().rescheduleAfter(5, TimeUnit.SECONDS));
+                    return Optional.of(waitForEvent(context, Deployment.class));
                 }
             }
 
@@ -243,11 +410,11 @@ public class TrustifyReconciler implements Reconciler<Trustify>, Cleaner<Trustif
             boolean isIngressReady = appIngressReadyPostCondition.isMet(null, cr, context);
             if (!isIngressReady) {
                 logger.info("Waiting for the Ingress to be ready");
-                return Optional.of(UpdateControl.<Trustify>noUpdate().rescheduleAfter(5, TimeUnit.SECONDS));
+                return Optional.of(waitForEvent(context, Ingress.class));
             }
 
             // Keycloak Server
-            Keycloak kcInstance = keycloakServerService.getCurrentInstance(cr)
+            Keycloak kcInstance = keycloakServerService.getCurrentInstance(cr, context)
                     .orElseGet(() -> {
                         logger.info("Creating a Keycloak Server");
                         return keycloakServerService.initInstance(cr, context);
@@ -255,13 +422,13 @@ public class TrustifyReconciler implements Reconciler<Trustify>, Cleaner<Trustif
             boolean isKcInstanceReady = KeycloakUtils.isKeycloakServerReady(kcInstance);
             if (!isKcInstanceReady) {
                 logger.info("Waiting for the Keycloak Server to be ready");
-                return Optional.of(UpdateControl.<Trustify>noUpdate().rescheduleAfter(5, TimeUnit.SECONDS));
+                return Optional.of(waitForEvent(context, Keycloak.class));
             } else {
-                keycloakInstance.set(kcInstance);
+                context.managedDependentResourceContext().getMandatory(Constants.KEYCLOAK, AtomicReference.class).set(kcInstance);
             }
 
             // Keycloak Realm
-            KeycloakRealmImport realmImportInstance = keycloakRealmService.getCurrentInstance(cr)
+            KeycloakRealmImport realmImportInstance = keycloakRealmService.getCurrentInstance(cr, context)
                     .orElseGet(() -> {
                         logger.info("Creating a KeycloakRealmImport");
                         return keycloakRealmService.initInstance(cr);
@@ -269,19 +436,78 @@ public class TrustifyReconciler implements Reconciler<Trustify>, Cleaner<Trustif
             boolean isRealmImportInstanceReady = KeycloakUtils.isKeycloakRealmImportReady(realmImportInstance);
             if (!isRealmImportInstanceReady) {
                 logger.info("Waiting for the KeycloakRealmImport to be ready");
-                return Optional.of(UpdateControl.<Trustify>noUpdate().rescheduleAfter(5, TimeUnit.SECONDS));
+                return Optional.of(waitForEvent(context, KeycloakRealmImport.class));
             } else {
-                keycloakRealmImportInstance.set(realmImportInstance);
+                context.managedDependentResourceContext().getMandatory(Constants.KEYCLOAK_REALM_IMPORT, AtomicReference.class).set(realmImportInstance);
             }
         }
 
         return Optional.empty();
     }
 
+    /**
+     * Waits for the next watch event of the given resource types. Falls back to polling when any of them
+     * is not being watched, e.g. because its CRD is not installed in the cluster.
+     */
+    private UpdateControl<Trustify> waitForEvent(Context<Trustify> context, Class<?>... resourceTypes) {
+        boolean isWatched = Arrays.stream(resourceTypes)
+                .noneMatch(resourceType -> context.eventSourceRetriever().getResourceEventSourcesFor(resourceType).isEmpty());
+        if (isWatched) {
+            return UpdateControl.noUpdate();
+        }
+        return UpdateControl.<Trustify>noUpdate().rescheduleAfter(5, TimeUnit.SECONDS);
+    }
+
+    private void registerMissingKeycloakEventSources(Context<Trustify> context) {
+        EventSourceRetriever<Trustify> eventSourceRetriever = context.eventSourceRetriever();
+        boolean isKeycloakWatched = !eventSourceRetriever.getResourceEventSourcesFor(Keycloak.class).isEmpty();
+        boolean isKeycloakRealmImportWatched = !eventSourceRetriever.getResourceEventSourcesFor(KeycloakRealmImport.class).isEmpty();
+        if (isKeycloakWatched && isKeycloakRealmImportWatched) {
+            return;
+        }
+
+        keycloakEventSources(eventSourceRetriever.eventSourceContextForDynamicRegistration())
+                .forEach(eventSourceRetriever::dynamicallyRegisterEventSource);
+    }
+
+    /**
+     * The Server pods are only watched while an instance adapts its startup probe to them, otherwise every pod of
+     * every Server would be cached for nothing.
+     */
+    private synchronized void watchServerPodsWhileNeeded(Trustify cr, Context<Trustify> context) {
+        boolean isNeeded = ServerDeployment.isAdaptiveStartupEnabled(cr) ||
+                context.getPrimaryCache().list().anyMatch(ServerDeployment::isAdaptiveStartupEnabled);
+        if (isNeeded == isServerPodWatched) {
+            return;
+        }
+
+        EventSourceRetriever<Trustify> eventSourceRetriever = context.eventSourceRetriever();
+        if (isNeeded) {
+            eventSourceRetriever.dynamicallyRegisterEventSource(SERVER_POD_EVENT_SOURCE, serverPodEventSource(eventSourceRetriever.eventSourceContextForDynamicRegistration()));
+        } else {
+            eventSourceRetriever.dynamicallyDeRegisterEventSource(SERVER_POD_EVENT_SOURCE);
+        }
+        isServerPodWatched = isNeeded;
+    }
+
     private UpdateControl<Trustify> createOrUpdateDependantResources(Trustify cr, Context<Trustify> context) {
         return context.managedDependentResourceContext()
                 .getWorkflowReconcileResult()
                 .map(wrs -> {
+                    boolean wasAvailable = cr.getStatus().isAvailable();
+                    context.getSecondaryResource(Job.class, new ServerMigrationJobDiscriminator())
+                            .flatMap(ServerMigrationJob::getMigratedVersion)
+                            .ifPresent(migratedVersion -> cr.getStatus().setMigratedVersion(migratedVersion));
+                    cr.getStatus().setCondition(ServerStoragePersistentVolumeClaim.getScaleOutCondition(cr, context));
+                    cr.getStatus().setCondition(ImporterStatefulSet.getAutoscalingCondition(cr));
+                    watchServerPodsWhileNeeded(cr, context);
+                    if (ServerDeployment.isAdaptiveStartupEnabled(cr)) {
+                        // Only grows, a warm restart must not shrink the budget a cold start needs, up to the maximum
+                        ServerDeployment.getObservedStartupSeconds(cr, context)
+                                .map(seconds -> Math.min(seconds, trustifyConfig.maxServerStartupSeconds()))
+                                .filter(seconds -> cr.getStatus().getServerStartupSeconds() == null || seconds > cr.getStatus().getServerStartupSeconds())
+                                .ifPresent(seconds -> cr.getStatus().setServerStartupSeconds(seconds));
+                    }
                     if (wrs.allDependentResourcesReady()) {
                         if (cr.getStatus().isAvailable()) {
                             logger.infof("Trustify %s is ready to be used", cr.getMetadata().getName());
@@ -292,6 +518,7 @@ public class TrustifyReconciler implements Reconciler<Trustify>, Cleaner<Trustif
                         status.setStatus(true);
 
                         cr.getStatus().setCondition(status);
+                        metricsService.recordStatus(cr, wasAvailable);
 
                         return UpdateControl.updateStatus(cr);
                     } else {
@@ -300,6 +527,7 @@ public class TrustifyReconciler implements Reconciler<Trustify>, Cleaner<Trustif
                         status.setStatus(true);
 
                         cr.getStatus().setCondition(status);
+                        metricsService.recordStatus(cr, wasAvailable);
 
                         final var duration = Duration.ofSeconds(5);
                         return UpdateControl.updateStatus(cr).rescheduleAfter(duration);
@@ -310,35 +538,138 @@ public class TrustifyReconciler implements Reconciler<Trustify>, Cleaner<Trustif
 
     @Override
     public DeleteControl cleanup(Trustify cr, Context<Trustify> context) {
-        keycloakRealmService.cleanupDependentResources(cr);
-        keycloakServerService.cleanupDependentResources(cr);
+        keycloakRealmService.cleanupDependentResources(cr, context);
+        keycloakServerService.cleanupDependentResources(cr, context);
+        metricsService.removeInstance(cr);
 
         return DeleteControl.defaultDelete();
     }
 
     @Override
     public Map<String, EventSource> prepareEventSources(EventSourceContext<Trustify> context) {
-        var configMapInformerConfiguration = InformerConfiguration.from(ConfigMap.class, context).build();
-        var pcvInformerConfiguration = InformerConfiguration.from(PersistentVolumeClaim.class, context).build();
-        var secretInformerConfiguration = InformerConfiguration.from(Secret.class, context).build();
-        var deploymentInformerConfiguration = InformerConfiguration.from(Deployment.class, context).build();
-        var serviceInformerConfiguration = InformerConfiguration.from(Service.class, context).build();
-        var statefulSetInformerConfiguration = InformerConfiguration.from(StatefulSet.class, context).build();
-
-        var configMapInformerConfigurationInformerEventSource = new InformerEventSource<>(configMapInformerConfiguration, context);
-        var pcvInformerEventSource = new InformerEventSource<>(pcvInformerConfiguration, context);
-        var secretInformerEventSource = new InformerEventSource<>(secretInformerConfiguration, context);
-        var deploymentInformerEventSource = new InformerEventSource<>(deploymentInformerConfiguration, context);
-        var serviceInformerEventSource = new InformerEventSource<>(serviceInformerConfiguration, context);
-        var statefulSetInformerEventSource = new InformerEventSource<>(statefulSetInformerConfiguration, context);
-
-        return Map.of(
+        var configMapInformerConfigurationInformerEventSource = new InformerEventSource<>(managedResourcesInformerConfiguration(ConfigMap.class, context), context);
+        var pcvInformerEventSource = new InformerEventSource<>(managedResourcesInformerConfiguration(PersistentVolumeClaim.class, context), context);
+        var secretInformerEventSource = new InformerEventSource<>(managedResourcesInformerConfiguration(Secret.class, context), context);
+        var deploymentInformerEventSource = new InformerEventSource<>(managedResourcesInformerConfiguration(Deployment.class, context), context);
+        var serviceInformerEventSource = new InformerEventSource<>(managedResourcesInformerConfiguration(Service.class, context), context);
+        var statefulSetInformerEventSource = new InformerEventSource<>(managedResourcesInformerConfiguration(StatefulSet.class, context), context);
+        var horizontalPodAutoscalerInformerEventSource = new InformerEventSource<>(managedResourcesInformerConfiguration(HorizontalPodAutoscaler.class, context), context);
+        var podDisruptionBudgetInformerEventSource = new InformerEventSource<>(managedResourcesInformerConfiguration(PodDisruptionBudget.class, context), context);
+        var jobInformerEventSource = new InformerEventSource<>(managedResourcesInformerConfiguration(Job.class, context), context);
+        var ingressInformerEventSource = new InformerEventSource<>(managedResourcesInformerConfiguration(Ingress.class, context), context);
+        // Pods carry no owner reference to the CR. Only the events of the pods of the legacy database Deployment,
+        // owned by a ReplicaSet, trigger a reconciliation, to create the database StatefulSet once they are gone
+        var dbPodInformerConfiguration = withTrimmedItemStore(InformerConfiguration.from(Pod.class, context)
+                .withLabelSelector(DBStatefulSet.LEGACY_POD_LABEL_SELECTOR)
+                .withGenericFilter(pod -> pod.getMetadata().getOwnerReferences().stream()
+                        .anyMatch(ownerReference -> Objects.equals(ownerReference.getKind(), "ReplicaSet"))
+                )
+                .withSecondaryToPrimaryMapper(toPrimaries(context, ServerUtils::isServerDBRequired)), context)
+                .build();
+        var dbPodInformerEventSource = new InformerEventSource<>(dbPodInformerConfiguration, context);
+
+        Map<String, EventSource> eventSources = new HashMap<>(Map.of(
                 CONFIG_MAP_EVENT_SOURCE, configMapInformerConfigurationInformerEventSource,
                 PVC_EVENT_SOURCE, pcvInformerEventSource,
                 SECRET_EVENT_SOURCE, secretInformerEventSource,
                 DEPLOYMENT_EVENT_SOURCE, deploymentInformerEventSource,
                 SERVICE_EVENT_SOURCE, serviceInformerEventSource,
-                STATEFUL_SET_EVENT_SOURCE, statefulSetInformerEventSource
-        );
+                STATEFUL_SET_EVENT_SOURCE, statefulSetInformerEventSource,
+                HORIZONTAL_POD_AUTOSCALER_EVENT_SOURCE, horizontalPodAutoscalerInformerEventSource,
+                POD_DISRUPTION_BUDGET_EVENT_SOURCE, podDisruptionBudgetInformerEventSource,
+                JOB_EVENT_SOURCE, jobInformerEventSource,
+                INGRESS_EVENT_SOURCE, ingressInformerEventSource
+        ));
+        eventSources.put(DB_POD_EVENT_SOURCE, dbPodInformerEventSource);
+        eventSources.putAll(keycloakEventSources(context));
+        return eventSources;
+    }
+
+    /**
+     * Server pods of the instances, named by their instance label, whose startup grows the startup probe.
+     */
+    private InformerEventSource<Pod, Trustify> serverPodEventSource(EventSourceContext<Trustify> context) {
+        var serverPodInformerConfiguration = withTrimmedItemStore(InformerConfiguration.from(Pod.class, context)
+                .withLabelSelector(ServerDeployment.POD_LABEL_SELECTOR)
+                .withSecondaryToPrimaryMapper(pod -> context.getPrimaryCache()
+                        .get(new ResourceID(pod.getMetadata().getLabels().get(Constants.INSTANCE_LABEL), pod.getMetadata().getNamespace()))
+                        .filter(ServerDeployment::isAdaptiveStartupEnabled)
+                        .map(ResourceID::fromResource)
+                        .stream()
+                        .collect(Collectors.toSet())
+                ), context)
+                .build();
+        return new InformerEventSource<>(serverPodInformerConfiguration, context);
+    }
+
+    /**
+     * Informer configuration restricted to the resources created by the operator, so unrelated objects
+     * living in the same namespace are never cached.
+     */
+    private <R extends HasMetadata> InformerConfiguration<R> managedResourcesInformerConfiguration(Class<R> resourceType, EventSourceContext<Trustify> context) {
+        var informerConfiguration = InformerConfiguration.from(resourceType, context)
+                .withLabelSelector(Constants.MANAGED_BY_LABEL_SELECTOR);
+        return withTrimmedItemStore(informerConfiguration, context).build();
+    }
+
+    private <R extends HasMetadata> InformerConfiguration.InformerConfigurationBuilder<R> withTrimmedItemStore(InformerConfiguration.InformerConfigurationBuilder<R> informerConfiguration, EventSourceContext<Trustify> context) {
+        if (trustifyConfig.informersTrimMetadata()) {
+            informerConfiguration.withItemStore(new TrimmedItemStore<>(context.getControllerConfiguration().fieldManager()));
+        }
+        return informerConfiguration;
+    }
+
+    /**
+     * Event sources for the OLM and Keycloak resources the operator waits for. Only resources whose CRD
+     * is installed in the cluster are watched.
+     */
+    private Map<String, EventSource> keycloakEventSources(EventSourceContext<Trustify> context) {
+        KubernetesClient k8sClient = context.getClient();
+        Map<String, EventSource> eventSources = new HashMap<>();
+
+        if (k8sClient.supports(Subscription.class)) {
+            var subscriptionInformerConfiguration = withTrimmedItemStore(InformerConfiguration.from(Subscription.class, context)
+                    .withGenericFilter(subscription -> Objects.equals(KeycloakOperatorService.SUBSCRIPTION_NAME, subscription.getMetadata().getName()))
+                    .withSecondaryToPrimaryMapper(toPrimaries(context, KeycloakUtils::isKeycloakRequired)), context)
+                    .build();
+            eventSources.put(SUBSCRIPTION_EVENT_SOURCE, new InformerEventSource<>(subscriptionInformerConfiguration, context));
+        }
+        if (k8sClient.supports(ClusterServiceVersion.class)) {
+            var csvInformerConfiguration = withTrimmedItemStore(InformerConfiguration.from(ClusterServiceVersion.class, context)
+                    .withGenericFilter(csv -> csv.getMetadata().getName().startsWith(KeycloakOperatorService.SUBSCRIPTION_NAME))
+                    .withSecondaryToPrimaryMapper(toPrimaries(context, KeycloakUtils::isKeycloakRequired)), context)
+                    .build();
+            eventSources.put(CLUSTER_SERVICE_VERSION_EVENT_SOURCE, new InformerEventSource<>(csvInformerConfiguration, context));
+        }
+        if (k8sClient.supports(Keycloak.class)) {
+            var keycloakInformerConfiguration = withTrimmedItemStore(InformerConfiguration.from(Keycloak.class, context)
+                    .withSecondaryToPrimaryMapper(toPrimariesByName(context, KeycloakServerService::getKeycloakName)), context)
+                    .build();
+            eventSources.put(KEYCLOAK_EVENT_SOURCE, new InformerEventSource<>(keycloakInformerConfiguration, context));
+        }
+        if (k8sClient.supports(KeycloakRealmImport.class)) {
+            var realmImportInformerConfiguration = withTrimmedItemStore(InformerConfiguration.from(KeycloakRealmImport.class, context)
+                    .withSecondaryToPrimaryMapper(toPrimariesByName(context, KeycloakRealmService::getKeycloakRealmImportName)), context)
+                    .build();
+            eventSources.put(KEYCLOAK_REALM_IMPORT_EVENT_SOURCE, new InformerEventSource<>(realmImportInformerConfiguration, context));
+        }
+
+        return eventSources;
+    }
+
+    private static <R extends HasMetadata> SecondaryToPrimaryMapper<R> toPrimaries(EventSourceContext<Trustify> context, Predicate<Trustify> filter) {
+        return resource -> context.getPrimaryCache()
+                .list(resource.getMetadata().getNamespace())
+                .filter(filter)
+                .map(ResourceID::fromResource)
+                .collect(Collectors.toSet());
+    }
+
+    private static <R extends HasMetadata> SecondaryToPrimaryMapper<R> toPrimariesByName(EventSourceContext<Trustify> context, Function<Trustify, String> nameGenerator) {
+        return resource -> context.getPrimaryCache()
+                .list(resource.getMetadata().getNamespace())
+                .filter(cr -> Objects.equals(nameGenerator.apply(cr), resource.getMetadata().getName()))
+                .map(ResourceID::fromResource)
+                .collect(Collectors.toSet());
     }
 }
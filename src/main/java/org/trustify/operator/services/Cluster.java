@@ -4,7 +4,9 @@ import io.fabric8.kubernetes.api.model.Secret;
 import org.trustify.operator.Constants;
 import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
 
+import java.util.Map;
 import java.util.Optional;
 
 public interface Cluster {
@@ -14,6 +16,11 @@ public interface Cluster {
 
     TrustifyConfig.KeycloakSubscriptionConfig getKeycloakSubscriptionConfig();
 
+    /**
+     * Annotations that apply the performance settings to the Ingress objects with the ingress controller of the cluster.
+     */
+    Map<String, String> getIngressPerformanceAnnotations(TrustifySpec.IngressPerformanceSpec performanceSpec);
+
     static String getServerSelfGeneratedTlsSecretName(Trustify cr) {
         return cr.getMetadata().getName() + "-" + Constants.TRUSTI_SERVER_NAME + "-tls";
     }
@@ -2,6 +2,7 @@ package org.trustify.operator.services;
 
 import io.fabric8.kubernetes.api.model.apiextensions.v1.CustomResourceDefinition;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
 import io.fabric8.openshift.api.model.operatorhub.v1.OperatorGroup;
 import io.fabric8.openshift.api.model.operatorhub.v1.OperatorGroupBuilder;
 import io.fabric8.openshift.api.model.operatorhub.v1alpha1.*;
@@ -9,6 +10,7 @@ import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.utils.CRDUtils;
 
 import java.util.AbstractMap;
 import java.util.List;
@@ -18,6 +20,8 @@ import java.util.Optional;
 @ApplicationScoped
 public class KeycloakOperatorService {
 
+    public static final String SUBSCRIPTION_NAME = "keycloak-operator";
+
     @Inject
     KubernetesClient k8sClient;
 
@@ -33,23 +37,41 @@ public class KeycloakOperatorService {
 
         return new SubscriptionBuilder()
                 .withNewMetadata()
-                .withName("keycloak-operator")
+                .withName(SUBSCRIPTION_NAME)
                 .withNamespace(cr.getMetadata().getNamespace())
                 .endMetadata()
                 .withNewSpec()
                 .withChannel(subscriptionConfig.channel())
-                .withName("keycloak-operator")
+                .withName(SUBSCRIPTION_NAME)
                 .withSource(subscriptionConfig.source())
                 .withSourceNamespace(subscriptionConfig.namespace())
                 .endSpec()
                 .build();
     }
 
-    public Optional<Subscription> getCurrentInstance(Trustify cr) {
-        Subscription subscription = k8sClient.resource(subscription(cr))
-                .inNamespace(cr.getMetadata().getNamespace())
-                .get();
-        return Optional.ofNullable(subscription);
+    public Optional<Subscription> getCurrentInstance(Trustify cr, Context<Trustify> context) {
+        return CRDUtils.getCachedResource(context, Subscription.class, SUBSCRIPTION_NAME, cr.getMetadata().getNamespace())
+                .or(() -> {
+                    Subscription subscription = k8sClient.resource(subscription(cr))
+                            .inNamespace(cr.getMetadata().getNamespace())
+                            .get();
+                    return Optional.ofNullable(subscription);
+                });
+    }
+
+    private Optional<ClusterServiceVersion> getClusterServiceVersion(Trustify cr, Context<Trustify> context, String name) {
+        return CRDUtils.getCachedResource(context, ClusterServiceVersion.class, name, cr.getMetadata().getNamespace())
+                .or(() -> {
+                    ClusterServiceVersion clusterServiceVersion = new ClusterServiceVersionBuilder()
+                            .withNewMetadata()
+                            .withName(name)
+                            .endMetadata()
+                            .build();
+                    clusterServiceVersion = k8sClient.resource(clusterServiceVersion)
+                            .inNamespace(cr.getMetadata().getNamespace())
+                            .get();
+                    return Optional.ofNullable(clusterServiceVersion);
+                });
     }
 
     public void createSubscription(Trustify cr) {
@@ -88,10 +110,8 @@ public class KeycloakOperatorService {
                 .create();
     }
 
-    public AbstractMap.SimpleEntry<Boolean, String> isSubscriptionReady(Trustify cr) {
-        Subscription subscription = k8sClient.resource(subscription(cr))
-                .inNamespace(cr.getMetadata().getNamespace())
-                .get();
+    public AbstractMap.SimpleEntry<Boolean, String> isSubscriptionReady(Trustify cr, Context<Trustify> context) {
+        Subscription subscription = getCurrentInstance(cr, context).orElse(null);
         boolean isSubscriptionHealthy = subscription != null && subscription.getStatus() != null && subscription.getStatus()
                 .getCatalogHealth()
                 .stream().anyMatch(SubscriptionCatalogHealth::getHealthy);
@@ -104,14 +124,7 @@ public class KeycloakOperatorService {
             return new AbstractMap.SimpleEntry<>(false, "Subscription does not have currentCSV");
         }
 
-        ClusterServiceVersion clusterServiceVersion = new ClusterServiceVersionBuilder()
-                .withNewMetadata()
-                .withName(currentCSV)
-                .endMetadata()
-                .build();
-        clusterServiceVersion = k8sClient.resource(clusterServiceVersion)
-                .inNamespace(cr.getMetadata().getNamespace())
-                .get();
+        ClusterServiceVersion clusterServiceVersion = getClusterServiceVersion(cr, context, currentCSV).orElse(null);
         if (clusterServiceVersion == null) {
             return new AbstractMap.SimpleEntry<>(false, "ClusterServiceVersion does not exist");
         }
@@ -1,9 +1,11 @@
 package org.trustify.operator.services;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectReader;
 import io.fabric8.kubernetes.api.model.ObjectMeta;
 import io.fabric8.kubernetes.client.KubernetesClient;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import org.keycloak.k8s.v2alpha1.KeycloakRealmImport;
@@ -12,25 +14,55 @@ import org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.Realm;
 import org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.realm.*;
 import org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.realm.users.Credentials;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.utils.CRDUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @ApplicationScoped
 public class KeycloakRealmService {
 
+    public static final String ADMIN_ROLE = "admin";
+
+    private static final List<TrustifySpec.OidcRealmRoleSpec> DEFAULT_REALM_ROLES = List.of(
+            new TrustifySpec.OidcRealmRoleSpec("user", "The user of the application"),
+            new TrustifySpec.OidcRealmRoleSpec(ADMIN_ROLE, "Admin of the application")
+    );
+
+    private static final List<TrustifySpec.OidcRealmClientScopeSpec> DEFAULT_CLIENT_SCOPES = List.of(
+            new TrustifySpec.OidcRealmClientScopeSpec("read:document", List.of(ADMIN_ROLE, "user")),
+            new TrustifySpec.OidcRealmClientScopeSpec("create:document", List.of(ADMIN_ROLE)),
+            new TrustifySpec.OidcRealmClientScopeSpec("update:document", List.of(ADMIN_ROLE)),
+            new TrustifySpec.OidcRealmClientScopeSpec("delete:document", List.of(ADMIN_ROLE))
+    );
+
+    private static final List<String> BUILT_IN_CLIENT_SCOPES = List.of(
+            "acr",
+            "address",
+            "basic",
+            "email",
+            "microprofile-jwt",
+            "offline_access",
+            "phone",
+            "profile",
+            "roles"
+    );
+
     @Inject
     KubernetesClient k8sClient;
 
     @Inject
     ObjectMapper objectMapper;
 
+    private volatile JsonNode defaultRealmTemplate;
+
     Function<String, ClientScopes> generateClientScope = scope -> {
         ClientScopes scopeRepresentation = new ClientScopes();
         scopeRepresentation.setName(scope);
@@ -66,7 +98,12 @@ public class KeycloakRealmService {
         return String.format("%s/realms/%s", KeycloakServerService.RELATIVE_PATH, KeycloakRealmService.getRealmName(cr));
     }
 
-    public Optional<KeycloakRealmImport> getCurrentInstance(Trustify cr) {
+    public Optional<KeycloakRealmImport> getCurrentInstance(Trustify cr, Context<Trustify> context) {
+        return CRDUtils.getCachedResource(context, KeycloakRealmImport.class, getKeycloakRealmImportName(cr), cr.getMetadata().getNamespace())
+                .or(() -> fetchCurrentInstance(cr));
+    }
+
+    private Optional<KeycloakRealmImport> fetchCurrentInstance(Trustify cr) {
         KeycloakRealmImport realmImport = k8sClient.resources(KeycloakRealmImport.class)
                 .inNamespace(cr.getMetadata().getNamespace())
                 .withName(getKeycloakRealmImportName(cr))
@@ -75,6 +112,12 @@ public class KeycloakRealmService {
     }
 
     public KeycloakRealmImport initInstance(Trustify cr) {
+        return k8sClient.resource(newInstance(cr))
+                .inNamespace(cr.getMetadata().getNamespace())
+                .create();
+    }
+
+    public KeycloakRealmImport newInstance(Trustify cr) {
         KeycloakRealmImport realmImport = new KeycloakRealmImport();
 
         realmImport.setMetadata(new ObjectMeta());
@@ -94,61 +137,36 @@ public class KeycloakRealmService {
         if (realmRepresentation.getRoles() == null) {
             realmRepresentation.setRoles(new Roles());
         }
-        if (realmRepresentation.getRoles().getRealm() == null) {
-            realmRepresentation.getRoles().setRealm(new ArrayList<>());
-        }
-
-        org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.realm.roles.Realm userRole = new org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.realm.roles.Realm();
-        userRole.setName("user");
-        userRole.setDescription("The user of the application");
 
-        org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.realm.roles.Realm adminRole = new org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.realm.roles.Realm();
-        adminRole.setName("admin");
-        adminRole.setDescription("Admin of the application");
-
-        realmRepresentation.getRoles().setRealm(List.of(
-                userRole,
-                adminRole
-        ));
+        List<org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.realm.roles.Realm> realmRoles = getRealmRoles(cr).stream()
+                .map(roleSpec -> {
+                    org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.realm.roles.Realm role = new org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.realm.roles.Realm();
+                    role.setName(roleSpec.name());
+                    role.setDescription(roleSpec.description());
+                    return role;
+                })
+                .collect(Collectors.toList());
+        realmRepresentation.getRoles().setRealm(realmRoles);
 
         // Scopes
         if (realmRepresentation.getClientScopes() == null) {
             realmRepresentation.setClientScopes(new ArrayList<>());
         }
 
-        ClientScopes readDocumentScope = generateClientScope.apply("read:document");
-        ClientScopes createDocumentScope = generateClientScope.apply("create:document");
-        ClientScopes updateDocumentScope = generateClientScope.apply("update:document");
-        ClientScopes deleteDocumentScope = generateClientScope.apply("delete:document");
-
-        realmRepresentation.getClientScopes().addAll(List.of(
-                readDocumentScope,
-                createDocumentScope,
-                updateDocumentScope,
-                deleteDocumentScope
-        ));
+        List<TrustifySpec.OidcRealmClientScopeSpec> clientScopeSpecs = getRealmClientScopes(cr);
+        clientScopeSpecs.forEach(clientScopeSpec -> realmRepresentation.getClientScopes().add(generateClientScope.apply(clientScopeSpec.name())));
 
         // Role-Scope Mapping
-        BiConsumer<ClientScopes, List<org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.realm.roles.Realm>> applyRolesToScope = (scopeRepresentation, roles) -> {
-            ScopeMappings mapping = new ScopeMappings();
+        if (realmRepresentation.getScopeMappings() == null) {
+            realmRepresentation.setScopeMappings(new ArrayList<>());
+        }
 
-            mapping.setClientScope(scopeRepresentation.getName());
-            if (realmRepresentation.getScopeMappings() == null) {
-                realmRepresentation.setScopeMappings(new ArrayList<>());
-            }
-            ;
+        clientScopeSpecs.forEach(clientScopeSpec -> {
+            ScopeMappings mapping = new ScopeMappings();
+            mapping.setClientScope(clientScopeSpec.name());
+            mapping.setRoles(Optional.ofNullable(clientScopeSpec.roles()).orElse(List.of()));
             realmRepresentation.getScopeMappings().add(mapping);
-
-            mapping.setRoles(roles.stream()
-                    .map(org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.realm.roles.Realm::getName)
-                    .collect(Collectors.toList())
-            );
-        };
-
-        applyRolesToScope.accept(readDocumentScope, List.of(adminRole, userRole));
-        applyRolesToScope.accept(createDocumentScope, List.of(adminRole));
-        applyRolesToScope.accept(updateDocumentScope, List.of(adminRole));
-        applyRolesToScope.accept(deleteDocumentScope, List.of(adminRole));
+        });
 
         // Users
         Users adminUser = new Users();
@@ -166,7 +184,7 @@ public class KeycloakRealmService {
                 "default-roles-trustify",
                 "offline_access",
                 "uma_authorization",
-                adminRole.getName()
+                ADMIN_ROLE
         ));
 
         Credentials adminCredentials = new Credentials();
@@ -181,53 +199,91 @@ public class KeycloakRealmService {
             realmRepresentation.setClients(new ArrayList<>());
         }
 
-        Clients uiClient = new Clients();
-
-        realmRepresentation.getClients().add(
-                uiClient
-        );
+        List<String> defaultClientScopes = new ArrayList<>(BUILT_IN_CLIENT_SCOPES);
+        clientScopeSpecs.forEach(clientScopeSpec -> defaultClientScopes.add(clientScopeSpec.name()));
 
         // UI Client
+        Clients uiClient = new Clients();
         uiClient.setClientId(getUIClientName(cr));
         uiClient.setRedirectUris(List.of("*"));
         uiClient.setWebOrigins(List.of("*"));
         uiClient.setPublicClient(true);
         uiClient.setFullScopeAllowed(true);
+        uiClient.setDefaultClientScopes(defaultClientScopes);
+
+        realmRepresentation.getClients().add(uiClient);
+
+        // Additional Clients
+        getRealmSpec(cr)
+                .map(TrustifySpec.OidcRealmSpec::clients)
+                .orElse(List.of())
+                .forEach(clientSpec -> {
+                    Clients client = new Clients();
+                    client.setClientId(clientSpec.clientId());
+                    client.setRedirectUris(Optional.ofNullable(clientSpec.redirectUris()).orElse(List.of("*")));
+                    client.setWebOrigins(Optional.ofNullable(clientSpec.webOrigins()).orElse(List.of("*")));
+                    client.setPublicClient(clientSpec.publicClient());
+                    client.setFullScopeAllowed(true);
+                    client.setDefaultClientScopes(Optional.ofNullable(clientSpec.defaultClientScopes()).orElse(defaultClientScopes));
+
+                    realmRepresentation.getClients().add(client);
+                });
+
+        return realmImport;
+    }
 
-        uiClient.setDefaultClientScopes(List.of(
-                "acr",
-                "address",
-                "basic",
-                "email",
-                "microprofile-jwt",
-                "offline_access",
-                "phone",
-                "profile",
-                "roles",
-
-                readDocumentScope.getName(),
-                createDocumentScope.getName(),
-                updateDocumentScope.getName(),
-                deleteDocumentScope.getName()
-        ));
+    private Optional<TrustifySpec.OidcRealmSpec> getRealmSpec(Trustify cr) {
+        return Optional.ofNullable(cr.getSpec().oidcSpec())
+                .map(TrustifySpec.OidcSpec::embeddedOidcSpec)
+                .map(TrustifySpec.EmbeddedOidcSpec::realmSpec);
+    }
 
-        return k8sClient.resource(realmImport)
-                .inNamespace(cr.getMetadata().getNamespace())
-                .create();
+    private List<TrustifySpec.OidcRealmRoleSpec> getRealmRoles(Trustify cr) {
+        List<TrustifySpec.OidcRealmRoleSpec> roles = new ArrayList<>(getRealmSpec(cr)
+                .map(TrustifySpec.OidcRealmSpec::roles)
+                .orElse(DEFAULT_REALM_ROLES)
+        );
+
+        // The admin user needs its role to exist
+        boolean hasAdminRole = roles.stream().anyMatch(role -> Objects.equals(role.name(), ADMIN_ROLE));
+        if (!hasAdminRole) {
+            roles.add(new TrustifySpec.OidcRealmRoleSpec(ADMIN_ROLE, "Admin of the application"));
+        }
+        return roles;
+    }
+
+    private List<TrustifySpec.OidcRealmClientScopeSpec> getRealmClientScopes(Trustify cr) {
+        return getRealmSpec(cr)
+                .map(TrustifySpec.OidcRealmSpec::clientScopes)
+                .orElse(DEFAULT_CLIENT_SCOPES);
     }
 
     private Realm getDefaultRealm() {
         try {
-            InputStream defaultRealmInputStream = KeycloakRealmService.class.getClassLoader().getResourceAsStream("realm.json");
-            ObjectReader objectReader = objectMapper.readerFor(Realm.class);
-            return objectReader.readValue(defaultRealmInputStream);
-        } catch (IOException e) {
+            return objectMapper.treeToValue(getDefaultRealmTemplate(), Realm.class);
+        } catch (JsonProcessingException e) {
             throw new RuntimeException(e);
         }
     }
 
-    public void cleanupDependentResources(Trustify cr) {
-        getCurrentInstance(cr).ifPresent(keycloakRealmImport -> {
+    /**
+     * realm.json is parsed once and never modified, every realm import binds its own copy of it.
+     */
+    private JsonNode getDefaultRealmTemplate() {
+        JsonNode template = defaultRealmTemplate;
+        if (template == null) {
+            try (InputStream defaultRealmInputStream = KeycloakRealmService.class.getClassLoader().getResourceAsStream("realm.json")) {
+                template = objectMapper.readTree(defaultRealmInputStream);
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            defaultRealmTemplate = template;
+        }
+        return template;
+    }
+
+    public void cleanupDependentResources(Trustify cr, Context<Trustify> context) {
+        getCurrentInstance(cr, context).ifPresent(keycloakRealmImport -> {
             k8sClient.resource(keycloakRealmImport).delete();
         });
     }
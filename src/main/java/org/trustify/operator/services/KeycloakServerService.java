@@ -184,7 +184,12 @@ public class KeycloakServerService {
                 .create();
     }
 
-    public Optional<Keycloak> getCurrentInstance(Trustify cr) {
+    public Optional<Keycloak> getCurrentInstance(Trustify cr, Context<Trustify> context) {
+        return CRDUtils.getCachedResource(context, Keycloak.class, getKeycloakName(cr), cr.getMetadata().getNamespace())
+                .or(() -> fetchCurrentInstance(cr));
+    }
+
+    private Optional<Keycloak> fetchCurrentInstance(Trustify cr) {
         Keycloak keycloak = k8sClient.resources(Keycloak.class)
                 .inNamespace(cr.getMetadata().getNamespace())
                 .withName(getKeycloakName(cr))
@@ -202,8 +207,8 @@ public class KeycloakServerService {
         return String.format("%s://%s:%s", protocol, KeycloakServerService.getServiceHost(cr), port);
     }
 
-    public void cleanupDependentResources(Trustify cr) {
-        getCurrentInstance(cr).ifPresent(keycloak -> {
+    public void cleanupDependentResources(Trustify cr, Context<Trustify> context) {
+        getCurrentInstance(cr, context).ifPresent(keycloak -> {
             k8sClient.resource(keycloak).delete();
         });
     }
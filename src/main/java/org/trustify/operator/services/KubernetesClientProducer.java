@@ -0,0 +1,79 @@
+package org.trustify.operator.services;
+
+import io.fabric8.kubernetes.client.Config;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientBuilder;
+import io.fabric8.kubernetes.client.http.BasicBuilder;
+import io.fabric8.kubernetes.client.http.HttpRequest;
+import io.fabric8.kubernetes.client.http.Interceptor;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import jakarta.enterprise.inject.Disposes;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Same client as the one produced by Quarkus, with an interceptor counting the requests sent to the API server.
+ */
+@Singleton
+public class KubernetesClientProducer {
+
+    @Singleton
+    @Produces
+    public KubernetesClient kubernetesClient(KubernetesSerialization kubernetesSerialization, Config config, MetricsService metricsService) {
+        Interceptor apiCallsInterceptor = new Interceptor() {
+            @Override
+            public void before(BasicBuilder builder, HttpRequest request, RequestTags tags) {
+                metricsService.incrementApiCalls(getVerb(request), getKind(request));
+            }
+        };
+
+        return new KubernetesClientBuilder()
+                .withKubernetesSerialization(kubernetesSerialization)
+                .withConfig(config)
+                .withHttpClientBuilderConsumer(builder -> builder.addOrReplaceInterceptor("trustify-api-calls", apiCallsInterceptor))
+                .build();
+    }
+
+    public void close(@Disposes KubernetesClient client) {
+        client.close();
+    }
+
+    /**
+     * Maps /api/v1/namespaces/{namespace}/{kind}/{name} and /apis/{group}/{version}/namespaces/{namespace}/{kind}/{name}
+     * to their path segments after the version, without the namespace.
+     */
+    private static List<String> getResourceSegments(HttpRequest request) {
+        List<String> segments = Arrays.stream(request.uri().getPath().split("/"))
+                .filter(segment -> !segment.isEmpty())
+                .toList();
+        int versionIndex = !segments.isEmpty() && segments.getFirst().equals("api") ? 1 : 2;
+        List<String> resourceSegments = segments.subList(Math.min(versionIndex + 1, segments.size()), segments.size());
+        if (resourceSegments.size() > 2 && resourceSegments.getFirst().equals("namespaces")) {
+            return resourceSegments.subList(2, resourceSegments.size());
+        }
+        return resourceSegments;
+    }
+
+    static String getKind(HttpRequest request) {
+        return getResourceSegments(request).stream().findFirst().orElse("unknown");
+    }
+
+    static String getVerb(HttpRequest request) {
+        boolean isNamed = getResourceSegments(request).size() > 1;
+        String query = Optional.ofNullable(request.uri().getQuery()).orElse("");
+        String contentType = Optional.ofNullable(request.header("Content-Type")).orElse("");
+
+        return switch (request.method()) {
+            case "GET" -> query.contains("watch=true") ? "watch" : (isNamed ? "get" : "list");
+            case "POST" -> "create";
+            case "PUT" -> "update";
+            case "PATCH" -> contentType.startsWith("application/apply-patch") ? "apply" : "patch";
+            case "DELETE" -> "delete";
+            default -> request.method().toLowerCase();
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package org.trustify.operator.services;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifyStatusCondition;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@ApplicationScoped
+public class MetricsService {
+
+    public static final String INSTANCES = "trustify.instances";
+    public static final String TIME_TO_SUCCESSFUL = "trustify.time.to.successful";
+    public static final String KUBERNETES_API_CALLS = "trustify.kubernetes.api.calls";
+    // desired() of each dependent, the desired state is then reused by match(), create() and update()
+    public static final String DEPENDENT_DURATION = "trustify.dependent";
+    // Whole reconciliation of each dependent: desired(), match() and the API calls to create or update it
+    public static final String DEPENDENT_RECONCILE_DURATION = "trustify.dependent.reconcile";
+    public static final String TIME_TO_FIRST_RECONCILE = "trustify.time.to.first.reconcile";
+
+    @Inject
+    MeterRegistry meterRegistry;
+
+    // Conditions with status True of every reconciled Trustify, keyed by uid
+    private final Map<String, Set<String>> conditionsByInstance = new ConcurrentHashMap<>();
+
+    // Instances that have been Successful at least once, by uid, so a recovery is not recorded as a time to Successful
+    private final Set<String> successfulInstances = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean firstReconcileRecorded = new AtomicBoolean(false);
+
+    @PostConstruct
+    void init() {
+        Set.of(TrustifyStatusCondition.SUCCESSFUL, TrustifyStatusCondition.PROCESSING, TrustifyStatusCondition.DEGRADED)
+                .forEach(condition -> Gauge.builder(INSTANCES, conditionsByInstance, instances -> instances.values().stream()
+                                .filter(conditions -> conditions.contains(condition))
+                                .count()
+                        )
+                        .description("Number of Trustify instances per status condition")
+                        .tag("condition", condition)
+                        .register(meterRegistry)
+                );
+    }
+
+    public void recordStatus(Trustify cr, boolean wasAvailable) {
+        Set<String> conditions = cr.getStatus().getConditions().stream()
+                .filter(condition -> Objects.equals(condition.getStatus(), true))
+                .map(TrustifyStatusCondition::getType)
+                .collect(Collectors.toSet());
+        conditionsByInstance.put(cr.getMetadata().getUid(), conditions);
+
+        // An instance already Successful when the operator started is only remembered, not recorded
+        boolean isFirstSuccess = cr.getStatus().isAvailable() && successfulInstances.add(cr.getMetadata().getUid());
+        if (isFirstSuccess && !wasAvailable && cr.getMetadata().getCreationTimestamp() != null) {
+            Instant creationTimestamp = ZonedDateTime.parse(cr.getMetadata().getCreationTimestamp()).toInstant();
+            Timer.builder(TIME_TO_SUCCESSFUL)
+                    .description("Time from the creation of a Trustify instance until it is Successful")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(Duration.between(creationTimestamp, Instant.now()));
+        }
+    }
+
+    /**
+     * Records the time from the start of the process until its first reconciliation, which is used to compare the
+     * startup of the JVM and native builds.
+     */
+    public void recordFirstReconcile() {
+        if (firstReconcileRecorded.compareAndSet(false, true)) {
+            ProcessHandle.current().info().startInstant().ifPresent(processStart -> Timer.builder(TIME_TO_FIRST_RECONCILE)
+                    .description("Time from the start of the operator until its first reconciliation")
+                    .register(meterRegistry)
+                    .record(Duration.between(processStart, Instant.now()))
+            );
+        }
+    }
+
+    public void removeInstance(Trustify cr) {
+        conditionsByInstance.remove(cr.getMetadata().getUid());
+        successfulInstances.remove(cr.getMetadata().getUid());
+    }
+
+    public <T> T timeDependentReconcile(Class<?> dependent, Supplier<T> reconcile) {
+        return Timer.builder(DEPENDENT_RECONCILE_DURATION)
+                .description("Time to reconcile a dependent of a Trustify instance")
+                .tag("class", dependent.getName())
+                .tag("method", "reconcile")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(reconcile);
+    }
+
+    public void incrementApiCalls(String verb, String kind) {
+        Counter.builder(KUBERNETES_API_CALLS)
+                .description("Requests sent to the Kubernetes API server")
+                .tag("verb", verb)
+                .tag("kind", kind)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -9,10 +9,14 @@ import io.fabric8.kubernetes.client.dsl.base.CustomResourceDefinitionContext;
 import org.jboss.logging.Logger;
 import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public class OpenshiftCluster implements Cluster {
 
@@ -69,6 +73,19 @@ public class OpenshiftCluster implements Cluster {
         };
     }
 
+    @Override
+    public Map<String, String> getIngressPerformanceAnnotations(TrustifySpec.IngressPerformanceSpec performanceSpec) {
+        // The router copies the annotations of the Ingress to the Routes it generates, HAProxy has a single
+        // server timeout and no per Route buffering.
+        // https://docs.openshift.com/container-platform/latest/networking/routes/route-configuration.html
+        Map<String, String> annotations = new HashMap<>();
+        Stream.of(performanceSpec.readTimeoutSeconds(), performanceSpec.sendTimeoutSeconds())
+                .filter(Objects::nonNull)
+                .max(Integer::compare)
+                .ifPresent(timeout -> annotations.put("haproxy.router.openshift.io/timeout", timeout + "s"));
+        return annotations;
+    }
+
     protected String getClusterDomainOnOpenshift() {
         String clusterDomain = null;
         try {
@@ -4,7 +4,10 @@ import io.fabric8.kubernetes.api.model.Secret;
 import io.fabric8.kubernetes.client.KubernetesClient;
 import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public class VanillaCluster implements Cluster {
@@ -45,4 +48,23 @@ public class VanillaCluster implements Cluster {
         };
     }
 
+    @Override
+    public Map<String, String> getIngressPerformanceAnnotations(TrustifySpec.IngressPerformanceSpec performanceSpec) {
+        // https://kubernetes.github.io/ingress-nginx/user-guide/nginx-configuration/annotations/
+        Map<String, String> annotations = new HashMap<>();
+        if (performanceSpec.readTimeoutSeconds() != null) {
+            annotations.put("nginx.ingress.kubernetes.io/proxy-read-timeout", String.valueOf(performanceSpec.readTimeoutSeconds()));
+        }
+        if (performanceSpec.sendTimeoutSeconds() != null) {
+            annotations.put("nginx.ingress.kubernetes.io/proxy-send-timeout", String.valueOf(performanceSpec.sendTimeoutSeconds()));
+        }
+        if (performanceSpec.requestBuffering() != null) {
+            annotations.put("nginx.ingress.kubernetes.io/proxy-request-buffering", performanceSpec.requestBuffering() ? "on" : "off");
+        }
+        if (performanceSpec.responseBuffering() != null) {
+            annotations.put("nginx.ingress.kubernetes.io/proxy-buffering", performanceSpec.responseBuffering() ? "on" : "off");
+        }
+        return annotations;
+    }
+
 }
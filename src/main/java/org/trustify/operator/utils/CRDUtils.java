@@ -1,17 +1,37 @@
 package org.trustify.operator.utils;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.fabric8.kubernetes.api.model.*;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.autoscaling.v2.*;
 import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
 import io.fabric8.kubernetes.api.model.networking.v1.IngressRule;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.processing.dependent.kubernetes.SSABasedGenericKubernetesResourceMatcher;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
+import org.trustify.operator.Constants;
 import org.trustify.operator.TrustifyConfig;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 public class CRDUtils {
 
+    private static final ObjectMapper CANONICAL_MAPPER = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    // Generation of each workload, by uid, whose live state last matched the desired one with the server-side apply matcher
+    private static final Map<String, Long> MATCHED_GENERATIONS = new ConcurrentHashMap<>();
+
     public static Optional<String> extractHostFromIngress(Ingress ingress) {
         return Optional.ofNullable(ingress.getSpec())
                 .flatMap(ingressSpec -> ingressSpec
@@ -45,6 +65,93 @@ public class CRDUtils {
         }
     }
 
+    /**
+     * Looks up a resource in the informer caches of the reconciler. Returns empty if the resource is not cached
+     * or if the resource type is not being watched.
+     */
+    public static <R extends HasMetadata> Optional<R> getCachedResource(Context<Trustify> context, Class<R> resourceType, String name, String namespace) {
+        ResourceID resourceID = new ResourceID(name, namespace);
+        return context.eventSourceRetriever()
+                .getResourceEventSourcesFor(resourceType)
+                .stream()
+                .filter(eventSource -> eventSource instanceof InformerEventSource)
+                .map(eventSource -> ((InformerEventSource<R, Trustify>) eventSource).get(resourceID))
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    /**
+     * The volumeClaimTemplates of a StatefulSet cannot be changed once it exists, so an existing StatefulSet keeps
+     * the templates it was created with and only the ones of a new StatefulSet are taken from the spec.
+     */
+    public static List<PersistentVolumeClaim> getVolumeClaimTemplates(Context<Trustify> context, String statefulSetName, String namespace, List<PersistentVolumeClaim> desiredVolumeClaimTemplates) {
+        return getCachedResource(context, StatefulSet.class, statefulSetName, namespace)
+                .map(statefulSet -> statefulSet.getSpec().getVolumeClaimTemplates())
+                .orElse(desiredVolumeClaimTemplates);
+    }
+
+    public static String getPodTemplateHash(PodTemplateSpec podTemplateSpec) {
+        try {
+            return getHash(CANONICAL_MAPPER.writeValueAsString(podTemplateSpec));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static String getHash(String value) {
+        try {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Stores the hash of the pod template in an annotation so drift can be detected by comparing annotations
+     * instead of walking the whole pod spec.
+     */
+    public static <T extends HasMetadata> T addPodTemplateHash(T resource, PodTemplateSpec podTemplateSpec) {
+        Map<String, String> annotations = new HashMap<>(Optional.ofNullable(resource.getMetadata().getAnnotations()).orElse(Collections.emptyMap()));
+        annotations.put(Constants.POD_TEMPLATE_HASH_ANNOTATION, getPodTemplateHash(podTemplateSpec));
+        resource.getMetadata().setAnnotations(annotations);
+        return resource;
+    }
+
+    public static boolean matchPodTemplateHash(HasMetadata actual, HasMetadata desired) {
+        String actualHash = Optional.ofNullable(actual.getMetadata().getAnnotations())
+                .map(annotations -> annotations.get(Constants.POD_TEMPLATE_HASH_ANNOTATION))
+                .orElse(null);
+        return actualHash != null && actualHash.equals(desired.getMetadata().getAnnotations().get(Constants.POD_TEMPLATE_HASH_ANNOTATION));
+    }
+
+    /**
+     * The hash annotation only tells whether the desired pod template changed, a manual edit of the live template
+     * keeps the annotation. Such an edit increments the generation of the workload, so the live state is compared
+     * with the server-side apply matcher once per generation and the result is remembered while it matches.
+     */
+    public static <R extends HasMetadata> boolean matchPodTemplate(R actual, R desired, Context<Trustify> context) {
+        if (!matchPodTemplateHash(actual, desired)) {
+            return false;
+        }
+
+        String uid = actual.getMetadata().getUid();
+        Long generation = actual.getMetadata().getGeneration();
+        if (uid != null && generation != null && generation.equals(MATCHED_GENERATIONS.get(uid))) {
+            return true;
+        }
+
+        boolean match = SSABasedGenericKubernetesResourceMatcher.<R>getInstance().matches(actual, desired, context);
+        if (uid != null && generation != null) {
+            if (match) {
+                MATCHED_GENERATIONS.put(uid, generation);
+            } else {
+                MATCHED_GENERATIONS.remove(uid);
+            }
+        }
+        return match;
+    }
+
     public static Map<String, String> getLabelsFromString(String labels) {
         Map<String, String> result = new HashMap<>();
         Arrays.stream(labels.split(",")).forEach(s -> {
@@ -69,6 +176,93 @@ public class CRDUtils {
                 .build();
     }
 
+    /**
+     * Overrides the timings of a default probe with the ones set in the CR, if any.
+     */
+    public static Probe getProbe(Probe defaultProbe, TrustifySpec.ProbeSpec probeSpec) {
+        ProbeBuilder builder = new ProbeBuilder(defaultProbe);
+        CRDUtils.getValueFromSubSpec(probeSpec, TrustifySpec.ProbeSpec::initialDelaySeconds).ifPresent(builder::withInitialDelaySeconds);
+        CRDUtils.getValueFromSubSpec(probeSpec, TrustifySpec.ProbeSpec::periodSeconds).ifPresent(builder::withPeriodSeconds);
+        CRDUtils.getValueFromSubSpec(probeSpec, TrustifySpec.ProbeSpec::timeoutSeconds).ifPresent(builder::withTimeoutSeconds);
+        CRDUtils.getValueFromSubSpec(probeSpec, TrustifySpec.ProbeSpec::failureThreshold).ifPresent(builder::withFailureThreshold);
+        return builder.build();
+    }
+
+    /**
+     * Parses a number or a percentage, e.g. "1" or "25%".
+     */
+    public static IntOrString getIntOrPercentage(String value) {
+        if (value.endsWith("%")) {
+            return new IntOrString(value);
+        }
+        return new IntOrString(Integer.parseInt(value));
+    }
+
+    public static boolean isAutoscalingEnabled(TrustifySpec.AutoscalingSpec autoscalingSpec) {
+        return autoscalingSpec != null && autoscalingSpec.enabled();
+    }
+
+    public static HorizontalPodAutoscalerSpec getHorizontalPodAutoscalerSpec(TrustifySpec.AutoscalingSpec autoscalingSpec, String targetKind, String targetName) {
+        int minReplicas = CRDUtils.getValueFromSubSpec(autoscalingSpec, TrustifySpec.AutoscalingSpec::minReplicas).orElse(1);
+        int maxReplicas = CRDUtils.getValueFromSubSpec(autoscalingSpec, TrustifySpec.AutoscalingSpec::maxReplicas).orElse(Math.max(minReplicas, 3));
+
+        List<MetricSpec> metrics = new ArrayList<>();
+        CRDUtils.getValueFromSubSpec(autoscalingSpec, TrustifySpec.AutoscalingSpec::targetCpuUtilizationPercentage)
+                .ifPresent(utilization -> metrics.add(getResourceMetricSpec("cpu", utilization)));
+        CRDUtils.getValueFromSubSpec(autoscalingSpec, TrustifySpec.AutoscalingSpec::targetMemoryUtilizationPercentage)
+                .ifPresent(utilization -> metrics.add(getResourceMetricSpec("memory", utilization)));
+        CRDUtils.getValueFromSubSpec(autoscalingSpec, TrustifySpec.AutoscalingSpec::metrics)
+                .ifPresent(metrics::addAll);
+        if (metrics.isEmpty()) {
+            metrics.add(getResourceMetricSpec("cpu", 80));
+        }
+
+        return new HorizontalPodAutoscalerSpecBuilder()
+                .withScaleTargetRef(new CrossVersionObjectReferenceBuilder()
+                        .withApiVersion("apps/v1")
+                        .withKind(targetKind)
+                        .withName(targetName)
+                        .build()
+                )
+                .withMinReplicas(minReplicas)
+                .withMaxReplicas(maxReplicas)
+                .withMetrics(metrics)
+                .withBehavior(getHorizontalPodAutoscalerBehavior(autoscalingSpec))
+                .build();
+    }
+
+    private static HorizontalPodAutoscalerBehavior getHorizontalPodAutoscalerBehavior(TrustifySpec.AutoscalingSpec autoscalingSpec) {
+        Optional<Integer> scaleUpStabilizationWindowSeconds = CRDUtils.getValueFromSubSpec(autoscalingSpec, TrustifySpec.AutoscalingSpec::scaleUpStabilizationWindowSeconds);
+        Optional<Integer> scaleDownStabilizationWindowSeconds = CRDUtils.getValueFromSubSpec(autoscalingSpec, TrustifySpec.AutoscalingSpec::scaleDownStabilizationWindowSeconds);
+        if (scaleUpStabilizationWindowSeconds.isEmpty() && scaleDownStabilizationWindowSeconds.isEmpty()) {
+            return null;
+        }
+
+        HorizontalPodAutoscalerBehaviorBuilder builder = new HorizontalPodAutoscalerBehaviorBuilder();
+        scaleUpStabilizationWindowSeconds.ifPresent(seconds -> builder.withNewScaleUp()
+                .withStabilizationWindowSeconds(seconds)
+                .endScaleUp()
+        );
+        scaleDownStabilizationWindowSeconds.ifPresent(seconds -> builder.withNewScaleDown()
+                .withStabilizationWindowSeconds(seconds)
+                .endScaleDown()
+        );
+        return builder.build();
+    }
+
+    private static MetricSpec getResourceMetricSpec(String resourceName, int averageUtilization) {
+        return new MetricSpecBuilder()
+                .withType("Resource")
+                .withNewResource()
+                .withName(resourceName)
+                .withNewTarget()
+                .withType("Utilization")
+                .withAverageUtilization(averageUtilization)
+                .endTarget()
+                .endResource()
+                .build();
+    }
+
     public static String generateRandomString(int targetStringLength) {
         int leftLimit = 48; // numeral '0'
         int rightLimit = 122; // letter 'z'
@@ -0,0 +1,36 @@
+package org.trustify.operator.utils;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+
+import java.util.Objects;
+
+/**
+ * Informer store that drops metadata the operator never reads before objects are cached.
+ * Only the managedFields entries owned by the operator are kept since server-side apply matching relies on them.
+ */
+public class TrimmedItemStore<R extends HasMetadata> extends BasicItemStore<R> {
+
+    public static final String LAST_APPLIED_CONFIGURATION_ANNOTATION = "kubectl.kubernetes.io/last-applied-configuration";
+
+    private final String fieldManager;
+
+    public TrimmedItemStore(String fieldManager) {
+        super(Cache::metaNamespaceKeyFunc);
+        this.fieldManager = fieldManager;
+    }
+
+    @Override
+    public R put(String key, R obj) {
+        ObjectMeta metadata = obj.getMetadata();
+        if (metadata.getManagedFields() != null) {
+            metadata.getManagedFields().removeIf(managedFields -> !Objects.equals(fieldManager, managedFields.getManager()));
+        }
+        if (metadata.getAnnotations() != null) {
+            metadata.getAnnotations().remove(LAST_APPLIED_CONFIGURATION_ANNOTATION);
+        }
+        return super.put(key, obj);
+    }
+}
@@ -0,0 +1,37 @@
+package org.trustify.operator.cdrs.v2alpha1.importer.statefulset;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifyStatusCondition;
+import org.trustify.operator.cdrs.v2alpha1.importer.hpa.ImporterHorizontalPodAutoscalerActivationCondition;
+import org.trustify.operator.controllers.setup.TestContext;
+import org.trustify.operator.controllers.setup.TestFixtures;
+
+public class ImporterStatefulSetTest {
+
+    @Test
+    public void autoscalingOwnsTheReplicas() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", """
+                importerInstances: 3
+                importerAutoscaling: {enabled: true, minReplicas: 2, maxReplicas: 6}
+                """);
+
+        Assertions.assertNull(ImporterStatefulSet.getDesiredInstances(cr));
+        Assertions.assertTrue(new ImporterHorizontalPodAutoscalerActivationCondition().isMet(null, cr, new TestContext(cr)));
+        Assertions.assertTrue(ImporterStatefulSet.getAutoscalingCondition(cr).getStatus());
+    }
+
+    @Test
+    public void instancesAreFixedWithoutAutoscaling() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", "importerInstances: 3");
+
+        Assertions.assertEquals(3, ImporterStatefulSet.getDesiredInstances(cr));
+        Assertions.assertFalse(new ImporterHorizontalPodAutoscalerActivationCondition().isMet(null, cr, new TestContext(cr)));
+
+        TrustifyStatusCondition condition = ImporterStatefulSet.getAutoscalingCondition(cr);
+        Assertions.assertEquals(TrustifyStatusCondition.IMPORTER_AUTOSCALING, condition.getType());
+        Assertions.assertFalse(condition.getStatus());
+        Assertions.assertEquals("Disabled", condition.getReason());
+    }
+}
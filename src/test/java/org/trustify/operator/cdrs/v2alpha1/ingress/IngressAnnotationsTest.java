@@ -0,0 +1,125 @@
+package org.trustify.operator.cdrs.v2alpha1.ingress;
+
+import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.controllers.setup.TestContext;
+import org.trustify.operator.controllers.setup.TestFixtures;
+import org.trustify.operator.services.Cluster;
+import org.trustify.operator.services.ClusterService;
+import org.trustify.operator.services.OpenshiftCluster;
+import org.trustify.operator.services.VanillaCluster;
+
+import java.util.Map;
+
+public class IngressAnnotationsTest {
+
+    private static final String WITH_ANNOTATION = """
+            hostname: {hostname: trustify.example.com}
+            ingress:
+              annotations: {example.com/owner: team-a}
+            """;
+    private static final String WITHOUT_ANNOTATION = """
+            hostname: {hostname: trustify.example.com}
+            """;
+
+    private static final String WITH_PERFORMANCE = """
+            hostname: {hostname: trustify.example.com}
+            ingress:
+              performance: {readTimeoutSeconds: 300, sendTimeoutSeconds: 600, requestBuffering: false}
+            """;
+
+    private AppIngress appIngress;
+    private ApiIngress apiIngress;
+
+    @BeforeEach
+    public void beforeEach() {
+        appIngress = new AppIngress();
+        apiIngress = new ApiIngress();
+        apiIngress.serverUtils = TestFixtures.serverUtils();
+    }
+
+    private static Trustify withSpec(Trustify cr, String specYaml) {
+        cr.setSpec(Serialization.unmarshal(specYaml, TrustifySpec.class));
+        return cr;
+    }
+
+    @Test
+    public void removedAnnotationIsApplied() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", WITH_ANNOTATION);
+        Ingress actualApp = appIngress.desired(cr, new TestContext(cr));
+        Ingress actualApi = apiIngress.desired(cr, new TestContext(cr));
+        Assertions.assertEquals("team-a", actualApp.getMetadata().getAnnotations().get("example.com/owner"));
+
+        withSpec(cr, WITHOUT_ANNOTATION);
+        Ingress desiredApp = appIngress.desired(cr, new TestContext(cr));
+        Assertions.assertFalse(desiredApp.getMetadata().getAnnotations().containsKey("example.com/owner"));
+        Assertions.assertFalse(desiredApp.getMetadata().getAnnotations().get(Constants.MANAGED_ANNOTATIONS_ANNOTATION).contains("example.com/owner"));
+
+        Assertions.assertFalse(appIngress.match(actualApp, cr, new TestContext(cr)).matched());
+        Assertions.assertFalse(apiIngress.match(actualApi, cr, new TestContext(cr)).matched());
+    }
+
+    @Test
+    public void annotationsOfOthersAreIgnored() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", WITH_ANNOTATION);
+        Ingress actualApp = appIngress.desired(cr, new TestContext(cr));
+        Ingress actualApi = apiIngress.desired(cr, new TestContext(cr));
+        actualApp.getMetadata().getAnnotations().put("kubectl.kubernetes.io/last-applied-configuration", "{}");
+        actualApi.getMetadata().getAnnotations().put("kubectl.kubernetes.io/last-applied-configuration", "{}");
+
+        Assertions.assertTrue(appIngress.match(actualApp, cr, new TestContext(cr)).matched());
+        Assertions.assertTrue(apiIngress.match(actualApi, cr, new TestContext(cr)).matched());
+    }
+
+    @Test
+    public void ingressCreatedBeforeTheListIsApplied() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", WITH_ANNOTATION);
+        Ingress actual = appIngress.desired(cr, new TestContext(cr));
+        actual.getMetadata().getAnnotations().remove(Constants.MANAGED_ANNOTATIONS_ANNOTATION);
+
+        Assertions.assertFalse(appIngress.match(actual, cr, new TestContext(cr)).matched());
+    }
+
+    private static TestContext onCluster(Trustify cr, Cluster cluster) {
+        TestContext context = new TestContext(cr);
+        ClusterService clusterService = TestFixtures.inject(new ClusterService(), "cluster", cluster);
+        context.managedDependentResourceContext().put(Constants.CLUSTER_SERVICE, clusterService);
+        return context;
+    }
+
+    @Test
+    public void performanceAnnotationsOfNginx() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", WITH_PERFORMANCE);
+
+        Map<String, String> annotations = AppIngress.getIngressAnnotations(cr, onCluster(cr, new VanillaCluster(null)));
+        Assertions.assertEquals("300", annotations.get("nginx.ingress.kubernetes.io/proxy-read-timeout"));
+        Assertions.assertEquals("600", annotations.get("nginx.ingress.kubernetes.io/proxy-send-timeout"));
+        Assertions.assertEquals("off", annotations.get("nginx.ingress.kubernetes.io/proxy-request-buffering"));
+        Assertions.assertFalse(annotations.containsKey("nginx.ingress.kubernetes.io/proxy-buffering"));
+        Assertions.assertFalse(annotations.containsKey("haproxy.router.openshift.io/timeout"));
+    }
+
+    @Test
+    public void performanceAnnotationsOfOpenshift() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", WITH_PERFORMANCE);
+        OpenshiftCluster cluster = new OpenshiftCluster(null) {
+            @Override
+            protected void init() {
+            }
+        };
+
+        Map<String, String> annotations = AppIngress.getIngressAnnotations(cr, onCluster(cr, cluster));
+        // HAProxy has a single timeout, the greater of both
+        Assertions.assertEquals("600s", annotations.get("haproxy.router.openshift.io/timeout"));
+        Assertions.assertFalse(annotations.containsKey("nginx.ingress.kubernetes.io/proxy-read-timeout"));
+
+        Ingress apiIngressOnOpenshift = apiIngress.desired(cr, onCluster(cr, cluster));
+        Assertions.assertEquals("600s", apiIngressOnOpenshift.getMetadata().getAnnotations().get("haproxy.router.openshift.io/timeout"));
+    }
+}
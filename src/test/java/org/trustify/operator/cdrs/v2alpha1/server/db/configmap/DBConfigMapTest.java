@@ -0,0 +1,75 @@
+package org.trustify.operator.cdrs.v2alpha1.server.db.configmap;
+
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.ResourceRequirementsBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.controllers.setup.TestFixtures;
+
+public class DBConfigMapTest {
+
+    private static ResourceRequirements memoryLimit(String memory) {
+        return new ResourceRequirementsBuilder()
+                .addToLimits("memory", new Quantity(memory))
+                .build();
+    }
+
+    @Test
+    public void memorySettingsFollowTheMemoryLimit() {
+        Trustify cr = TestFixtures.trustify("instance", "ns");
+
+        Assertions.assertEquals("""
+                max_connections = 100
+                shared_buffers = 1048576kB
+                effective_cache_size = 3145728kB
+                work_mem = 10485kB
+                maintenance_work_mem = 262144kB
+                wal_buffers = 16384kB
+                min_wal_size = 524288kB
+                max_wal_size = 2097152kB
+                checkpoint_completion_target = 0.9
+                """, DBConfigMap.getPostgresqlConf(cr, memoryLimit("4Gi")));
+    }
+
+    @Test
+    public void profileSizesConnectionsAndWal() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", """
+                db: {embedded: {tuning: {profile: LARGE}}}
+                """);
+
+        String conf = DBConfigMap.getPostgresqlConf(cr, memoryLimit("4Gi"));
+        Assertions.assertTrue(conf.contains("max_connections = 400\n"), conf);
+        // Never below 4MB per connection
+        Assertions.assertTrue(conf.contains("work_mem = 4096kB\n"), conf);
+        Assertions.assertTrue(conf.contains("min_wal_size = 2097152kB\n"), conf);
+        Assertions.assertTrue(conf.contains("max_wal_size = 8388608kB\n"), conf);
+    }
+
+    @Test
+    public void explicitValuesWin() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", """
+                db:
+                  embedded:
+                    tuning:
+                      maxConnections: 50
+                      sharedBuffers: 2GB
+                      parameters: {random_page_cost: "1.1", max_connections: "60"}
+                """);
+
+        String conf = DBConfigMap.getPostgresqlConf(cr, memoryLimit("4Gi"));
+        Assertions.assertTrue(conf.contains("shared_buffers = 2GB\n"), conf);
+        Assertions.assertTrue(conf.contains("random_page_cost = 1.1\n"), conf);
+        Assertions.assertTrue(conf.contains("max_connections = 60\n"), conf);
+        Assertions.assertFalse(conf.contains("max_connections = 50\n"), conf);
+    }
+
+    @Test
+    public void defaultsToHalfAGigabyteWithoutLimit() {
+        Trustify cr = TestFixtures.trustify("instance", "ns");
+
+        String conf = DBConfigMap.getPostgresqlConf(cr, new ResourceRequirements());
+        Assertions.assertTrue(conf.contains("shared_buffers = 131072kB\n"), conf);
+    }
+}
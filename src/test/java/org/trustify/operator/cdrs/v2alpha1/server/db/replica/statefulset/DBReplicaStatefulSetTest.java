@@ -0,0 +1,102 @@
+package org.trustify.operator.cdrs.v2alpha1.server.db.replica.statefulset;
+
+import io.fabric8.kubernetes.api.model.EnvVar;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.db.statefulset.DBStatefulSetConfigurator;
+import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeploymentConfigurator;
+import org.trustify.operator.controllers.setup.TestContext;
+import org.trustify.operator.controllers.setup.TestFixtures;
+
+import java.util.Map;
+
+public class DBReplicaStatefulSetTest {
+
+    private static final String SPEC = """
+            db:
+              embedded:
+                readReplicas: {enabled: true, instances: 2}
+            """;
+
+    private DBReplicaStatefulSet replicaStatefulSet;
+
+    @BeforeEach
+    public void beforeEach() {
+        DBStatefulSetConfigurator configurator = new DBStatefulSetConfigurator();
+        TestFixtures.inject(configurator, "trustifyConfig", TestFixtures.trustifyConfig());
+        TestFixtures.inject(configurator, "trustifyImagesConfig", TestFixtures.trustifyImagesConfig());
+
+        replicaStatefulSet = new DBReplicaStatefulSet();
+        replicaStatefulSet.trustifyConfig = TestFixtures.trustifyConfig();
+        replicaStatefulSet.dbStatefulSetConfigurator = configurator;
+    }
+
+    private StatefulSet desired(Trustify cr) {
+        return replicaStatefulSet.desired(cr, new TestContext(cr));
+    }
+
+    @Test
+    public void selectsOnlyTheReplicasOfTheInstance() {
+        Trustify cr = TestFixtures.trustify("first", "ns", SPEC);
+        Trustify otherCr = TestFixtures.trustify("second", "ns", SPEC);
+
+        StatefulSet statefulSet = desired(cr);
+        Map<String, String> selector = statefulSet.getSpec().getSelector().getMatchLabels();
+        Map<String, String> podLabels = statefulSet.getSpec().getTemplate().getMetadata().getLabels();
+        Map<String, String> otherPodLabels = desired(otherCr).getSpec().getTemplate().getMetadata().getLabels();
+
+        Assertions.assertTrue(podLabels.entrySet().containsAll(selector.entrySet()));
+        Assertions.assertFalse(otherPodLabels.entrySet().containsAll(selector.entrySet()));
+        Assertions.assertEquals(2, statefulSet.getSpec().getReplicas());
+    }
+
+    @Test
+    public void replicasFollowThePrimary() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", SPEC);
+
+        EnvVar masterServiceName = desired(cr).getSpec().getTemplate().getSpec().getContainers().getFirst().getEnv().stream()
+                .filter(envVar -> envVar.getName().equals("POSTGRESQL_MASTER_SERVICE_NAME"))
+                .findFirst()
+                .orElseThrow();
+        Assertions.assertEquals("instance-trustify-db-service", masterServiceName.getValue());
+    }
+
+    @Test
+    public void replicasGetTheStorageOfThePrimary() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", """
+                db:
+                  embedded:
+                    pvcSize: 20Gi
+                    pvcStorageClassName: fast
+                    readReplicas: {enabled: true, instances: 2}
+                """);
+
+        StatefulSet statefulSet = desired(cr);
+        PersistentVolumeClaim volumeClaimTemplate = statefulSet.getSpec().getVolumeClaimTemplates().getFirst();
+        Assertions.assertEquals(DBStatefulSetConfigurator.DATA_VOLUME, volumeClaimTemplate.getMetadata().getName());
+        Assertions.assertEquals("fast", volumeClaimTemplate.getSpec().getStorageClassName());
+        Assertions.assertEquals(new Quantity("20Gi"), volumeClaimTemplate.getSpec().getResources().getRequests().get("storage"));
+        Assertions.assertTrue(statefulSet.getSpec().getTemplate().getSpec().getVolumes().stream()
+                .noneMatch(volume -> volume.getName().equals(DBStatefulSetConfigurator.DATA_VOLUME)));
+        Assertions.assertEquals("Delete", statefulSet.getSpec().getPersistentVolumeClaimRetentionPolicy().getWhenScaled());
+    }
+
+    @Test
+    public void serverIsNotPointedAtTheReplicas() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", SPEC);
+
+        ServerDeploymentConfigurator configurator = new ServerDeploymentConfigurator();
+        TestFixtures.inject(configurator, "trustifyConfig", TestFixtures.trustifyConfig());
+        TestFixtures.inject(configurator, "trustifyImagesConfig", TestFixtures.trustifyImagesConfig());
+        TestFixtures.inject(configurator, "serverUtils", TestFixtures.serverUtils());
+
+        // trustd has no read-only connection setting yet
+        Assertions.assertTrue(configurator.configureDeployment(cr, new TestContext(cr)).allEnvVars().stream()
+                .noneMatch(envVar -> envVar.getName().startsWith("TRUSTD_DB_READ_")));
+    }
+}
@@ -0,0 +1,138 @@
+package org.trustify.operator.cdrs.v2alpha1.server.db.statefulset;
+
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.OwnerReferenceBuilder;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.ReconcileResult;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.controllers.setup.TestContext;
+import org.trustify.operator.controllers.setup.TestFixtures;
+
+import java.time.Instant;
+import java.util.Map;
+
+public class DBStatefulSetTest {
+
+    private DBStatefulSet dbStatefulSet;
+    private Trustify cr;
+
+    @BeforeEach
+    public void beforeEach() {
+        DBStatefulSetConfigurator configurator = new DBStatefulSetConfigurator();
+        configurator.trustifyConfig = TestFixtures.trustifyConfig();
+        configurator.trustifyImagesConfig = TestFixtures.trustifyImagesConfig();
+
+        dbStatefulSet = new DBStatefulSet();
+        dbStatefulSet.trustifyConfig = TestFixtures.trustifyConfig();
+        dbStatefulSet.dbStatefulSetConfigurator = configurator;
+
+        cr = TestFixtures.trustify("instance", "ns");
+    }
+
+    private Deployment legacyDeployment() {
+        return new DeploymentBuilder()
+                .withMetadata(new ObjectMetaBuilder()
+                        .withName(DBStatefulSet.getLegacyDeploymentName(cr))
+                        .withNamespace("ns")
+                        .build()
+                )
+                .build();
+    }
+
+    private Pod pod(String replicaSetName) {
+        return new PodBuilder()
+                .withMetadata(new ObjectMetaBuilder()
+                        .withName(replicaSetName + "-abcde")
+                        .withNamespace("ns")
+                        .withLabels(Map.of("trustify-operator/group", "db"))
+                        .withOwnerReferences(new OwnerReferenceBuilder()
+                                .withKind("ReplicaSet")
+                                .withName(replicaSetName)
+                                .build()
+                        )
+                        .build()
+                )
+                .build();
+    }
+
+    private PersistentVolumeClaim legacyPersistentVolumeClaim() {
+        return new PersistentVolumeClaimBuilder()
+                .withMetadata(new ObjectMetaBuilder()
+                        .withName(DBStatefulSet.getLegacyPersistentVolumeClaimName(cr))
+                        .withNamespace("ns")
+                        .build()
+                )
+                .build();
+    }
+
+    @Test
+    public void waitsForTheLegacyDeploymentToBeRemoved() {
+        Deployment deployment = legacyDeployment();
+        deployment.getMetadata().setDeletionTimestamp(Instant.now().toString());
+        TestContext context = new TestContext(cr).withResource(deployment);
+
+        Assertions.assertTrue(DBStatefulSet.isLegacyDatabaseRunning(cr, context));
+        // Already being deleted, no API call is made, the context of the tests has no client
+        ReconcileResult<StatefulSet> result = dbStatefulSet.reconcile(cr, context);
+        Assertions.assertTrue(result.getSingleResource().isEmpty());
+    }
+
+    @Test
+    public void waitsForThePodsOfTheLegacyDeployment() {
+        String replicaSetName = DBStatefulSet.getLegacyDeploymentName(cr) + "-5d8f7c9b4";
+        TestContext context = new TestContext(cr).withResource(pod(replicaSetName));
+
+        Assertions.assertTrue(DBStatefulSet.isLegacyDatabaseRunning(cr, context));
+        ReconcileResult<StatefulSet> result = dbStatefulSet.reconcile(cr, context);
+        Assertions.assertTrue(result.getSingleResource().isEmpty());
+    }
+
+    @Test
+    public void ignoresTheDatabasesOfOtherInstances() {
+        Trustify otherCr = TestFixtures.trustify("other", "ns");
+        TestContext context = new TestContext(cr)
+                .withResource(pod(DBStatefulSet.getLegacyDeploymentName(otherCr) + "-5d8f7c9b4"));
+
+        Assertions.assertFalse(DBStatefulSet.isLegacyDatabaseRunning(cr, context));
+    }
+
+    @Test
+    public void reusesTheLegacyPersistentVolumeClaim() {
+        TestContext context = new TestContext(cr).withResource(legacyPersistentVolumeClaim());
+
+        StatefulSet desired = dbStatefulSet.desired(cr, context);
+        Assertions.assertTrue(desired.getSpec().getVolumeClaimTemplates().isEmpty());
+        Assertions.assertTrue(desired.getSpec().getTemplate().getSpec().getVolumes().stream()
+                .anyMatch(volume -> volume.getPersistentVolumeClaim() != null &&
+                        volume.getPersistentVolumeClaim().getClaimName().equals(DBStatefulSet.getLegacyPersistentVolumeClaimName(cr))
+                ));
+    }
+
+    @Test
+    public void removesTheDataWithTheStatefulSet() {
+        StatefulSet desired = dbStatefulSet.desired(cr, new TestContext(cr));
+
+        Assertions.assertEquals(1, desired.getSpec().getVolumeClaimTemplates().size());
+        Assertions.assertEquals("Delete", desired.getSpec().getPersistentVolumeClaimRetentionPolicy().getWhenDeleted());
+        Assertions.assertEquals("Retain", desired.getSpec().getPersistentVolumeClaimRetentionPolicy().getWhenScaled());
+    }
+
+    @Test
+    public void selectsTheDatabaseOfItsInstanceOnly() {
+        StatefulSet desired = dbStatefulSet.desired(cr, new TestContext(cr));
+
+        Assertions.assertEquals(cr.getMetadata().getName(), desired.getSpec().getSelector().getMatchLabels().get(Constants.INSTANCE_LABEL));
+        Assertions.assertTrue(desired.getSpec().getTemplate().getMetadata().getLabels().entrySet()
+                .containsAll(desired.getSpec().getSelector().getMatchLabels().entrySet()));
+    }
+}
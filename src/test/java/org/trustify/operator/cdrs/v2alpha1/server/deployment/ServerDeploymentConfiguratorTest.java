@@ -0,0 +1,79 @@
+package org.trustify.operator.cdrs.v2alpha1.server.deployment;
+
+import io.fabric8.kubernetes.api.model.EnvVar;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.db.pooler.service.DBPoolerService;
+import org.trustify.operator.cdrs.v2alpha1.server.db.service.DBService;
+import org.trustify.operator.controllers.setup.TestContext;
+import org.trustify.operator.controllers.setup.TestFixtures;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public class ServerDeploymentConfiguratorTest {
+
+    private ServerDeploymentConfigurator configurator;
+
+    @BeforeEach
+    public void beforeEach() {
+        configurator = new ServerDeploymentConfigurator();
+        TestFixtures.inject(configurator, "trustifyConfig", TestFixtures.trustifyConfig());
+        TestFixtures.inject(configurator, "trustifyImagesConfig", TestFixtures.trustifyImagesConfig());
+        TestFixtures.inject(configurator, "serverUtils", TestFixtures.serverUtils());
+    }
+
+    private static Map<String, String> values(List<EnvVar> envVars) {
+        return envVars.stream()
+                .collect(Collectors.toMap(EnvVar::getName, envVar -> Optional.ofNullable(envVar.getValue()).orElse("")));
+    }
+
+    private Map<String, String> deploymentEnvVars(Trustify cr) {
+        return values(configurator.getDeploymentConfig(cr, new TestContext(cr)).allEnvVars());
+    }
+
+    @Test
+    public void serverConnectsToTheDatabaseWithoutPooler() {
+        Trustify cr = TestFixtures.trustify("instance", "ns");
+
+        Map<String, String> envVars = deploymentEnvVars(cr);
+        Assertions.assertEquals(DBService.getServiceHost(cr), envVars.get("TRUSTD_DB_HOST"));
+    }
+
+    @Test
+    public void poolerReplacesTheDatabaseConnection() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", """
+                db: {pooler: {enabled: true}}
+                """);
+
+        Map<String, String> envVars = deploymentEnvVars(cr);
+        Assertions.assertEquals(DBPoolerService.getServiceHost(cr), envVars.get("TRUSTD_DB_HOST"));
+        Assertions.assertEquals(String.valueOf(DBPoolerService.getServicePort(cr)), envVars.get("TRUSTD_DB_PORT"));
+        Assertions.assertTrue(envVars.containsKey("TRUSTD_DB_USER"));
+        Assertions.assertTrue(envVars.containsKey("TRUSTD_DB_PASSWORD"));
+    }
+
+    @Test
+    public void poolerHoldsTheTlsSettingsOfTheExternalDatabase() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", """
+                db:
+                  externalDatabase: true
+                  external: {host: db.example.com, port: "5432", name: trustify, sslMode: verify-full}
+                  pooler: {enabled: true}
+                """);
+
+        Map<String, String> envVars = deploymentEnvVars(cr);
+        Assertions.assertEquals(DBPoolerService.getServiceHost(cr), envVars.get("TRUSTD_DB_HOST"));
+        Assertions.assertFalse(envVars.containsKey("TRUSTD_DB_SSLMODE"));
+        Assertions.assertEquals("trustify", envVars.get("TRUSTD_DB_NAME"));
+
+        // Migrations run on the database directly
+        Map<String, String> migrationEnvVars = values(configurator.getMigrationEnvVars(cr));
+        Assertions.assertEquals("db.example.com", migrationEnvVars.get("TRUSTD_DB_HOST"));
+        Assertions.assertEquals("verify-full", migrationEnvVars.get("TRUSTD_DB_SSLMODE"));
+    }
+}
@@ -0,0 +1,192 @@
+package org.trustify.operator.cdrs.v2alpha1.server.deployment;
+
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.api.model.Probe;
+import io.fabric8.kubernetes.api.model.ProbeBuilder;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.hpa.ServerHorizontalPodAutoscalerActivationCondition;
+import org.trustify.operator.controllers.setup.TestContext;
+import org.trustify.operator.controllers.setup.TestFixtures;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public class ServerDeploymentTest {
+
+    private static final Instant STARTED_AT = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static final Probe STARTUP_PROBE = new ProbeBuilder()
+            .withInitialDelaySeconds(5)
+            .withPeriodSeconds(10)
+            .withFailureThreshold(3)
+            .build();
+
+    private ServerDeployment serverDeployment;
+
+    @BeforeEach
+    public void beforeEach() {
+        ServerDeploymentConfigurator configurator = new ServerDeploymentConfigurator();
+        TestFixtures.inject(configurator, "trustifyConfig", TestFixtures.trustifyConfig());
+        TestFixtures.inject(configurator, "trustifyImagesConfig", TestFixtures.trustifyImagesConfig());
+        TestFixtures.inject(configurator, "serverUtils", TestFixtures.serverUtils());
+
+        serverDeployment = new ServerDeployment();
+        serverDeployment.trustifyConfig = TestFixtures.trustifyConfig();
+        serverDeployment.distConfigurator = configurator;
+    }
+
+    /**
+     * The live Deployment after applying the desired one and scaling it.
+     */
+    private static Deployment scaledTo(Deployment deployment, int replicas) {
+        return TestFixtures.appliedFrom(new DeploymentBuilder(deployment)
+                .editSpec().withReplicas(replicas).endSpec()
+                .build(), deployment);
+    }
+
+    private static Pod serverPod(Trustify cr, String name, int restartCount, int readyAfterSeconds) {
+        return new PodBuilder()
+                .withNewMetadata()
+                .withName(name)
+                .withNamespace(cr.getMetadata().getNamespace())
+                .addToLabels(ServerDeployment.getPodLabels(cr))
+                .endMetadata()
+                .withNewSpec()
+                .addNewContainer()
+                .withName(Constants.TRUSTI_SERVER_NAME)
+                .withStartupProbe(new ProbeBuilder(STARTUP_PROBE).withFailureThreshold(16).build())
+                .withNewReadinessProbe().withPeriodSeconds(10).endReadinessProbe()
+                .endContainer()
+                .endSpec()
+                .withNewStatus()
+                .addNewCondition()
+                .withType("Ready")
+                .withStatus("True")
+                .withLastTransitionTime(STARTED_AT.plusSeconds(readyAfterSeconds).toString())
+                .endCondition()
+                .addNewContainerStatus()
+                .withName(Constants.TRUSTI_SERVER_NAME)
+                .withStarted(true)
+                .withRestartCount(restartCount)
+                .withNewState().withNewRunning().withStartedAt(STARTED_AT.toString()).endRunning().endState()
+                .endContainerStatus()
+                .endStatus()
+                .build();
+    }
+
+    @Test
+    public void failureThresholdIsRoundedUpToAPowerOfTwo() {
+        // 2 * 100s - 5s initial delay = 20 periods
+        Assertions.assertEquals(32, ServerDeployment.getAdaptiveFailureThreshold(STARTUP_PROBE, 100, 1800));
+        // 2 * 80s - 5s = 16 periods
+        Assertions.assertEquals(16, ServerDeployment.getAdaptiveFailureThreshold(STARTUP_PROBE, 80, 1800));
+        Assertions.assertEquals(2, ServerDeployment.getAdaptiveFailureThreshold(STARTUP_PROBE, 10, 1800));
+        Assertions.assertEquals(1, ServerDeployment.getAdaptiveFailureThreshold(STARTUP_PROBE, 0, 1800));
+    }
+
+    @Test
+    public void failureThresholdIsCapped() {
+        // (1800s - 5s) / 10s
+        Assertions.assertEquals(180, ServerDeployment.getAdaptiveFailureThreshold(STARTUP_PROBE, 1000, 1800));
+        Assertions.assertEquals(180, ServerDeployment.getAdaptiveFailureThreshold(STARTUP_PROBE, 100_000, 1800));
+        // 2 * 50s - 5s = 10 periods, below the cap of (300s - 5s) / 10s
+        Assertions.assertEquals(16, ServerDeployment.getAdaptiveFailureThreshold(STARTUP_PROBE, 50, 300));
+        Assertions.assertEquals(30, ServerDeployment.getAdaptiveFailureThreshold(STARTUP_PROBE, 200, 300));
+    }
+
+    @Test
+    public void firstReadinessIsMeasured() {
+        Trustify cr = TestFixtures.trustify("instance", "ns");
+        TestContext context = new TestContext(cr)
+                .withResource(serverPod(cr, "server-a", 0, 42))
+                .withResource(serverPod(cr, "server-b", 0, 57));
+
+        Assertions.assertEquals(Optional.of(57), ServerDeployment.getObservedStartupSeconds(cr, context));
+    }
+
+    @Test
+    public void restartedContainerIsNotMeasured() {
+        Trustify cr = TestFixtures.trustify("instance", "ns");
+        TestContext context = new TestContext(cr)
+                .withResource(serverPod(cr, "server", 1, 42));
+
+        Assertions.assertEquals(Optional.empty(), ServerDeployment.getObservedStartupSeconds(cr, context));
+    }
+
+    @Test
+    public void readinessFlapIsNotMeasured() {
+        Trustify cr = TestFixtures.trustify("instance", "ns");
+        // Startup budget of the pod is 5s + 16 * 10s, plus one readiness period
+        TestContext context = new TestContext(cr)
+                .withResource(serverPod(cr, "server-a", 0, 175))
+                .withResource(serverPod(cr, "server-b", 0, 3600));
+
+        Assertions.assertEquals(Optional.of(175), ServerDeployment.getObservedStartupSeconds(cr, context));
+        Assertions.assertEquals(Optional.empty(), ServerDeployment.getStartupSeconds(serverPod(cr, "server", 0, 176)));
+    }
+
+    @Test
+    public void podsOfOtherInstancesAreIgnored() {
+        Trustify cr = TestFixtures.trustify("instance", "ns");
+        Trustify other = TestFixtures.trustify("other", "ns");
+        TestContext context = new TestContext(cr)
+                .withResource(serverPod(other, "other-server", 0, 42));
+
+        Assertions.assertEquals(Optional.empty(), ServerDeployment.getObservedStartupSeconds(cr, context));
+    }
+
+    @Test
+    public void autoscalingOwnsTheReplicas() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", """
+                serverInstances: 3
+                serverAutoscaling: {enabled: true, minReplicas: 2, maxReplicas: 6}
+                storage: {filesystem: {pvcAccessMode: READ_WRITE_MANY}}
+                """);
+        TestContext context = new TestContext(cr);
+
+        Deployment desired = serverDeployment.desired(cr, context);
+        Assertions.assertNull(desired.getSpec().getReplicas());
+        Assertions.assertTrue(serverDeployment.match(scaledTo(desired, 5), cr, context).matched());
+        Assertions.assertTrue(new ServerHorizontalPodAutoscalerActivationCondition().isMet(null, cr, context));
+    }
+
+    @Test
+    public void readWriteOnceStorageIgnoresAutoscaling() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", """
+                serverInstances: 3
+                serverAutoscaling: {enabled: true, minReplicas: 2, maxReplicas: 6}
+                """);
+        TestContext context = new TestContext(cr);
+
+        Deployment desired = serverDeployment.desired(cr, context);
+        Assertions.assertEquals(1, desired.getSpec().getReplicas());
+        Assertions.assertFalse(serverDeployment.match(scaledTo(desired, 5), cr, context).matched());
+        Assertions.assertFalse(new ServerHorizontalPodAutoscalerActivationCondition().isMet(null, cr, context));
+    }
+
+    @Test
+    public void liveTemplateEditIsReverted() {
+        Trustify cr = TestFixtures.trustify("instance", "ns");
+        TestContext context = new TestContext(cr);
+
+        Deployment desired = serverDeployment.desired(cr, context);
+        Deployment actual = scaledTo(desired, desired.getSpec().getReplicas());
+        Assertions.assertTrue(serverDeployment.match(actual, cr, context).matched());
+
+        // kubectl edit keeps the hash annotation and increments the generation
+        Deployment edited = new DeploymentBuilder(actual)
+                .editMetadata().withGeneration(2L).endMetadata()
+                .editSpec().editTemplate().editSpec().editFirstContainer()
+                .withImage("quay.io/example/trustd:edited")
+                .endContainer().endSpec().endTemplate().endSpec()
+                .build();
+        Assertions.assertFalse(serverDeployment.match(edited, cr, context).matched());
+    }
+}
@@ -0,0 +1,142 @@
+package org.trustify.operator.cdrs.v2alpha1.server.migration;
+
+import io.fabric8.kubernetes.api.model.Quantity;
+import io.fabric8.kubernetes.api.model.ResourceRequirements;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.fabric8.kubernetes.api.model.batch.v1.JobBuilder;
+import io.fabric8.kubernetes.api.model.batch.v1.JobStatusBuilder;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeploymentConfigurator;
+import org.trustify.operator.controllers.setup.TestContext;
+import org.trustify.operator.controllers.setup.TestFixtures;
+
+import java.time.Instant;
+
+public class ServerMigrationJobTest {
+
+    private ServerMigrationJob migrationJob;
+
+    @BeforeEach
+    public void beforeEach() {
+        ServerDeploymentConfigurator configurator = new ServerDeploymentConfigurator();
+        TestFixtures.inject(configurator, "trustifyConfig", TestFixtures.trustifyConfig());
+        TestFixtures.inject(configurator, "trustifyImagesConfig", TestFixtures.trustifyImagesConfig());
+        TestFixtures.inject(configurator, "serverUtils", TestFixtures.serverUtils());
+
+        migrationJob = new ServerMigrationJob();
+        migrationJob.distConfigurator = configurator;
+    }
+
+    private Job desired(Trustify cr) {
+        return migrationJob.desired(cr, new TestContext(cr));
+    }
+
+    private boolean matches(Job actual, Trustify cr) {
+        return migrationJob.match(actual, cr, new TestContext(cr)).matched();
+    }
+
+    private static Trustify withSpec(Trustify cr, String specYaml) {
+        cr.setSpec(Serialization.unmarshal(specYaml, TrustifySpec.class));
+        return cr;
+    }
+
+    private static Job succeeded(Job job) {
+        return new JobBuilder(job)
+                .withStatus(new JobStatusBuilder().withSucceeded(1).build())
+                .build();
+    }
+
+    @Test
+    public void serverSettingsDoNotRerunTheMigration() {
+        Trustify cr = TestFixtures.trustify("instance", "ns");
+        Job actual = desired(cr);
+
+        withSpec(cr, """
+                serverInstances: 3
+                serverResources: {cpuRequest: "2", memoryRequest: 4Gi}
+                hostname: {hostname: trustify.example.com}
+                """);
+        Assertions.assertTrue(matches(actual, cr));
+    }
+
+    @Test
+    public void imageChangeRerunsTheMigration() {
+        Trustify cr = TestFixtures.trustify("instance", "ns");
+        Job actual = desired(cr);
+
+        withSpec(cr, "serverImage: quay.io/trustification/trustd:next");
+        Assertions.assertFalse(matches(actual, cr));
+    }
+
+    @Test
+    public void databaseChangeRerunsTheMigration() {
+        Trustify cr = withSpec(TestFixtures.trustify("instance", "ns"), """
+                db:
+                  externalDatabase: true
+                  external: {host: postgresql-1, port: "5432", name: trustify}
+                """);
+        Job actual = desired(cr);
+
+        withSpec(cr, """
+                db:
+                  externalDatabase: true
+                  external: {host: postgresql-2, port: "5432", name: trustify}
+                """);
+        Assertions.assertFalse(matches(actual, cr));
+    }
+
+    @Test
+    public void jobHasItsOwnResources() {
+        Trustify cr = withSpec(TestFixtures.trustify("instance", "ns"), """
+                serverResources: {cpuRequest: "4", memoryRequest: 8Gi}
+                """);
+        ResourceRequirements resources = desired(cr).getSpec().getTemplate().getSpec().getContainers().getFirst().getResources();
+        Assertions.assertEquals(new Quantity(TestFixtures.trustifyConfig().defaultRequestedCpu()), resources.getRequests().get("cpu"));
+
+        withSpec(cr, """
+                serverResources: {cpuRequest: "4", memoryRequest: 8Gi}
+                serverMigrationResources: {cpuRequest: 250m, memoryRequest: 256Mi}
+                """);
+        resources = desired(cr).getSpec().getTemplate().getSpec().getContainers().getFirst().getResources();
+        Assertions.assertEquals(new Quantity("250m"), resources.getRequests().get("cpu"));
+        Assertions.assertEquals(new Quantity("256Mi"), resources.getRequests().get("memory"));
+    }
+
+    @Test
+    public void onlyTheMigrationOfTheCurrentSpecCounts() {
+        Trustify cr = TestFixtures.trustify("instance", "ns");
+        Job actual = desired(cr);
+        TestContext context = new TestContext(cr);
+
+        Assertions.assertFalse(migrationJob.isMigrated(actual, cr, context));
+        Assertions.assertTrue(migrationJob.isMigrated(succeeded(actual), cr, context));
+        Assertions.assertTrue(ServerMigrationJob.getMigratedVersion(succeeded(actual)).isPresent());
+
+        Job terminating = succeeded(actual);
+        terminating.getMetadata().setDeletionTimestamp(Instant.now().toString());
+        Assertions.assertFalse(migrationJob.isMigrated(terminating, cr, context));
+        Assertions.assertTrue(ServerMigrationJob.getMigratedVersion(terminating).isEmpty());
+
+        withSpec(cr, "serverImage: quay.io/trustification/trustd:next");
+        Assertions.assertFalse(migrationJob.isMigrated(succeeded(actual), cr, new TestContext(cr)));
+    }
+
+    @Test
+    public void replacedJobIsNotRecreatedWhileTerminating() {
+        Trustify cr = TestFixtures.trustify("instance", "ns");
+        Job actual = desired(cr);
+        actual.getMetadata().setDeletionTimestamp(Instant.now().toString());
+
+        withSpec(cr, "serverImage: quay.io/trustification/trustd:next");
+        TestContext context = new TestContext(cr);
+
+        // No API call is made, the context of the tests has no client
+        Job updated = migrationJob.update(actual, migrationJob.desired(cr, context), cr, context);
+        Assertions.assertSame(actual, updated);
+    }
+}
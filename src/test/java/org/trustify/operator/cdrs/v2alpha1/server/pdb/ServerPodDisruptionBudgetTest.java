@@ -0,0 +1,58 @@
+package org.trustify.operator.cdrs.v2alpha1.server.pdb;
+
+import io.fabric8.kubernetes.api.model.IntOrString;
+import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudget;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeployment;
+import org.trustify.operator.controllers.setup.TestContext;
+import org.trustify.operator.controllers.setup.TestFixtures;
+
+import java.util.Map;
+
+public class ServerPodDisruptionBudgetTest {
+
+    private final ServerPodDisruptionBudget pdb = new ServerPodDisruptionBudget();
+
+    private PodDisruptionBudget desired(Trustify cr) {
+        return pdb.desired(cr, new TestContext(cr));
+    }
+
+    @Test
+    public void selectsOnlyThePodsOfTheInstance() {
+        Trustify cr = TestFixtures.trustify("first", "ns", "serverDisruptionBudget: {enabled: true}");
+        Trustify otherCr = TestFixtures.trustify("second", "ns", "serverDisruptionBudget: {enabled: true}");
+
+        Map<String, String> selector = desired(cr).getSpec().getSelector().getMatchLabels();
+        Map<String, String> otherSelector = desired(otherCr).getSpec().getSelector().getMatchLabels();
+
+        Assertions.assertEquals("first", selector.get(Constants.INSTANCE_LABEL));
+        Assertions.assertNotEquals(selector, otherSelector);
+
+        // The selector matches the Server pods of the CR, and not the ones of the other CR
+        Map<String, String> podLabels = ServerDeployment.getPodLabels(cr);
+        Map<String, String> otherPodLabels = ServerDeployment.getPodLabels(otherCr);
+        Assertions.assertTrue(podLabels.entrySet().containsAll(selector.entrySet()));
+        Assertions.assertFalse(otherPodLabels.entrySet().containsAll(selector.entrySet()));
+    }
+
+    @Test
+    public void maxUnavailableDefaultsToOne() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", "serverDisruptionBudget: {enabled: true}");
+
+        PodDisruptionBudget desired = desired(cr);
+        Assertions.assertEquals(new IntOrString(1), desired.getSpec().getMaxUnavailable());
+        Assertions.assertNull(desired.getSpec().getMinAvailable());
+    }
+
+    @Test
+    public void minAvailableTakesPrecedence() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", "serverDisruptionBudget: {enabled: true, minAvailable: \"50%\", maxUnavailable: \"2\"}");
+
+        PodDisruptionBudget desired = desired(cr);
+        Assertions.assertEquals(new IntOrString("50%"), desired.getSpec().getMinAvailable());
+        Assertions.assertNull(desired.getSpec().getMaxUnavailable());
+    }
+}
@@ -0,0 +1,70 @@
+package org.trustify.operator.cdrs.v2alpha1.server.pvc;
+
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaimBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.TrustifyStatusCondition;
+import org.trustify.operator.controllers.setup.TestContext;
+import org.trustify.operator.controllers.setup.TestFixtures;
+
+public class ServerStoragePersistentVolumeClaimTest {
+
+    private static PersistentVolumeClaim storagePersistentVolumeClaim(Trustify cr, TrustifySpec.PersistentVolumeAccessMode accessMode) {
+        return new PersistentVolumeClaimBuilder()
+                .withNewMetadata()
+                .withName(ServerStoragePersistentVolumeClaim.getPersistentVolumeClaimName(cr))
+                .withNamespace(cr.getMetadata().getNamespace())
+                .endMetadata()
+                .withNewSpec()
+                .withAccessModes(accessMode.getValue())
+                .endSpec()
+                .build();
+    }
+
+    @Test
+    public void readWriteOnceStorageLimitsTheServerToOneInstance() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", "serverInstances: 3");
+
+        TrustifyStatusCondition condition = ServerStoragePersistentVolumeClaim.getScaleOutCondition(cr, new TestContext(cr));
+        Assertions.assertEquals(TrustifyStatusCondition.SERVER_SCALE_OUT, condition.getType());
+        Assertions.assertFalse(condition.getStatus());
+        Assertions.assertEquals("ReadWriteOnceStorage", condition.getReason());
+    }
+
+    @Test
+    public void readWriteManyStorageScalesOut() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", """
+                storage: {filesystem: {pvcAccessMode: READ_WRITE_MANY}}
+                """);
+
+        TrustifyStatusCondition condition = ServerStoragePersistentVolumeClaim.getScaleOutCondition(cr, new TestContext(cr));
+        Assertions.assertTrue(condition.getStatus());
+        Assertions.assertEquals("ReadWriteManyStorage", condition.getReason());
+    }
+
+    @Test
+    public void objectStorageScalesOut() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", """
+                storage: {type: S3, s3: {bucket: trustify, region: eu-west-1}}
+                """);
+
+        TrustifyStatusCondition condition = ServerStoragePersistentVolumeClaim.getScaleOutCondition(cr, new TestContext(cr));
+        Assertions.assertTrue(condition.getStatus());
+        Assertions.assertEquals("ObjectStorage", condition.getReason());
+    }
+
+    @Test
+    public void accessModeOfTheExistingPersistentVolumeClaimWins() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", """
+                storage: {filesystem: {pvcAccessMode: READ_WRITE_MANY}}
+                """);
+        TestContext context = new TestContext(cr)
+                .withResource(storagePersistentVolumeClaim(cr, TrustifySpec.PersistentVolumeAccessMode.READ_WRITE_ONCE));
+
+        Assertions.assertFalse(ServerStoragePersistentVolumeClaim.isScaleOutSupported(cr, context));
+        Assertions.assertEquals("ReadWriteOnceStorage", ServerStoragePersistentVolumeClaim.getScaleOutCondition(cr, context).getReason());
+    }
+}
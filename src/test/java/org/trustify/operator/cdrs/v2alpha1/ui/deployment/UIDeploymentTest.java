@@ -0,0 +1,63 @@
+package org.trustify.operator.cdrs.v2alpha1.ui.deployment;
+
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.DeploymentBuilder;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.service.ServerService;
+import org.trustify.operator.cdrs.v2alpha1.ui.hpa.UIHorizontalPodAutoscalerActivationCondition;
+import org.trustify.operator.controllers.setup.TestContext;
+import org.trustify.operator.controllers.setup.TestFixtures;
+
+public class UIDeploymentTest {
+
+    private UIDeployment uiDeployment;
+
+    @BeforeEach
+    public void beforeEach() {
+        UIDeploymentConfigurator configurator = new UIDeploymentConfigurator();
+        configurator.trustifyConfig = TestFixtures.trustifyConfig();
+        configurator.trustifyImagesConfig = TestFixtures.trustifyImagesConfig();
+        configurator.serverService = TestFixtures.inject(new ServerService(), "serverUtils", TestFixtures.serverUtils());
+
+        uiDeployment = new UIDeployment();
+        uiDeployment.uiDeploymentConfigurator = configurator;
+    }
+
+    /**
+     * The live Deployment after applying the desired one and scaling it.
+     */
+    private static Deployment scaledTo(Deployment deployment, int replicas) {
+        return TestFixtures.appliedFrom(new DeploymentBuilder(deployment)
+                .editSpec().withReplicas(replicas).endSpec()
+                .build(), deployment);
+    }
+
+    @Test
+    public void autoscalingOwnsTheReplicas() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", """
+                uiInstances: 3
+                uiAutoscaling: {enabled: true, minReplicas: 2, maxReplicas: 6}
+                """);
+        TestContext context = new TestContext(cr);
+
+        Deployment desired = uiDeployment.desired(cr, context);
+        Assertions.assertNull(desired.getSpec().getReplicas());
+        Assertions.assertTrue(uiDeployment.match(scaledTo(desired, 5), cr, context).matched());
+        Assertions.assertTrue(new UIHorizontalPodAutoscalerActivationCondition().isMet(null, cr, context));
+    }
+
+    @Test
+    public void instancesAreAppliedWithoutAutoscaling() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", "uiInstances: 3");
+        TestContext context = new TestContext(cr);
+
+        Deployment desired = uiDeployment.desired(cr, context);
+        Assertions.assertEquals(3, desired.getSpec().getReplicas());
+        Assertions.assertTrue(uiDeployment.match(scaledTo(desired, 3), cr, context).matched());
+        Assertions.assertFalse(uiDeployment.match(scaledTo(desired, 5), cr, context).matched());
+        Assertions.assertFalse(new UIHorizontalPodAutoscalerActivationCondition().isMet(null, cr, context));
+    }
+}
@@ -10,7 +10,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
-import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeployment;
+import org.trustify.operator.cdrs.v2alpha1.server.db.statefulset.DBStatefulSet;
 import org.trustify.operator.controllers.setup.K3sResource;
 
 import java.io.InputStream;
@@ -62,6 +62,7 @@ public class DatabaseSpecTest extends ReconcilerBaseTest {
                 null,
                 null,
                 null,
+                null,
                 new TrustifySpec.DatabaseSpec(
                         true,
                         new TrustifySpec.ExternalDatabaseSpec(
@@ -74,6 +75,7 @@ public class DatabaseSpecTest extends ReconcilerBaseTest {
                                 null,
                                 null
                         ),
+                        null,
                         null
                 ),
                 null,
@@ -81,6 +83,16 @@ public class DatabaseSpecTest extends ReconcilerBaseTest {
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
         ));
 
@@ -92,12 +104,12 @@ public class DatabaseSpecTest extends ReconcilerBaseTest {
                 .atMost(3, TimeUnit.MINUTES)
                 .untilAsserted(() -> {
                     // Database should not be created
-                    final var dbDeployment = client.apps()
-                            .deployments()
+                    final var dbStatefulSet = client.apps()
+                            .statefulSets()
                             .inNamespace(getNamespaceName())
-                            .withName(DBDeployment.getDeploymentName(trustify))
+                            .withName(DBStatefulSet.getStatefulSetName(trustify))
                             .get();
-                    Assertions.assertNull(dbDeployment, "DB should not be created as an external one is used");
+                    Assertions.assertNull(dbStatefulSet, "DB should not be created as an external one is used");
 
                     verifyTrustify(trustify);
                     verifyUI(trustify);
@@ -120,9 +132,11 @@ public class DatabaseSpecTest extends ReconcilerBaseTest {
                 null,
                 null,
                 null,
+                null,
                 new TrustifySpec.DatabaseSpec(
                         false,
                         null,
+                        null,
                         null
                 ),
                 null,
@@ -130,6 +144,16 @@ public class DatabaseSpecTest extends ReconcilerBaseTest {
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
         ));
 
@@ -0,0 +1,90 @@
+package org.trustify.operator.controllers;
+
+import io.fabric8.kubernetes.api.model.Service;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.Dependent;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.DependentResource;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.ReconcileResult;
+import io.javaoperatorsdk.operator.processing.dependent.Matcher;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.decorator.Decorator;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.spi.Bean;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.server.service.ServerService;
+import org.trustify.operator.controllers.setup.TestContext;
+import org.trustify.operator.controllers.setup.TestFixtures;
+import org.trustify.operator.services.MetricsService;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+public class DependentMetricsTest {
+
+    @Test
+    public void everyDependentIsDecorated() {
+        Assertions.assertTrue(DependentReconcileTimer.class.isAnnotationPresent(Decorator.class));
+
+        Dependent[] dependents = TrustifyReconciler.class.getAnnotation(ControllerConfiguration.class).dependents();
+        Assertions.assertTrue(dependents.length > 0);
+
+        for (Dependent dependent : dependents) {
+            Class<?> type = dependent.type();
+
+            // The decorator applies to the beans of type DependentResource
+            Assertions.assertTrue(DependentResource.class.isAssignableFrom(type), type.getSimpleName());
+            Assertions.assertTrue(type.isAnnotationPresent(ApplicationScoped.class), type.getSimpleName());
+
+            // match() calls desired(), timing both would count the desired state twice
+            Arrays.stream(type.getDeclaredMethods())
+                    .filter(method -> method.getName().equals("match") && Matcher.Result.class.isAssignableFrom(method.getReturnType()))
+                    .forEach(method -> Assertions.assertNull(method.getAnnotation(Timed.class), type.getSimpleName()));
+        }
+    }
+
+    @Test
+    public void reconciliationIsTimedPerDependent() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MetricsService metricsService = new MetricsService();
+        TestFixtures.inject(metricsService, "meterRegistry", meterRegistry);
+
+        DependentReconcileTimer<Service> timer = new DependentReconcileTimer<>() {
+            @Override
+            public Class<Service> resourceType() {
+                return Service.class;
+            }
+        };
+        timer.metricsService = metricsService;
+        timer.delegate = new DependentResource<>() {
+            @Override
+            public ReconcileResult<Service> reconcile(Trustify cr, Context<Trustify> context) {
+                return ReconcileResult.noOperation(null);
+            }
+
+            @Override
+            public Class<Service> resourceType() {
+                return Service.class;
+            }
+        };
+        timer.decorated = (Bean<DependentResource<Service, Trustify>>) Proxy.newProxyInstance(
+                getClass().getClassLoader(),
+                new Class[]{Bean.class},
+                (proxy, method, args) -> method.getName().equals("getBeanClass") ? ServerService.class : null
+        );
+
+        Trustify cr = TestFixtures.trustify("metrics", "ns");
+        timer.reconcile(cr, new TestContext(cr));
+        timer.reconcile(cr, new TestContext(cr));
+
+        Timer reconcileTimer = meterRegistry.find(MetricsService.DEPENDENT_RECONCILE_DURATION)
+                .tag("class", ServerService.class.getName())
+                .timer();
+        Assertions.assertNotNull(reconcileTimer);
+        Assertions.assertEquals(2, reconcileTimer.count());
+    }
+}
@@ -34,6 +34,7 @@ public class HostnameSpecTest extends ReconcilerBaseTest {
                 null,
                 null,
                 null,
+                null,
                 new TrustifySpec.HostnameSpec(
                         host
                 ),
@@ -41,6 +42,16 @@ public class HostnameSpecTest extends ReconcilerBaseTest {
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
         ));
 
@@ -0,0 +1,164 @@
+package org.trustify.operator.controllers;
+
+import io.javaoperatorsdk.operator.api.reconciler.ErrorStatusUpdateControl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.controllers.setup.TestContext;
+import org.trustify.operator.controllers.setup.TestFixtures;
+import org.trustify.operator.services.MetricsService;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class NamespaceReconcileLimiterTest {
+
+    private static final int LIMIT = 2;
+
+    private TrustifyReconciler reconciler;
+
+    @BeforeEach
+    public void beforeEach() {
+        reconciler = new TrustifyReconciler();
+        reconciler.metricsService = new MetricsService() {
+            @Override
+            public void recordFirstReconcile() {
+            }
+        };
+        reconciler.namespaceReconcileLimiter = new NamespaceReconcileLimiter(LIMIT);
+    }
+
+    @Test
+    public void busyNamespaceDoesNotStarveOtherNamespaces() {
+        NamespaceReconcileLimiter limiter = new NamespaceReconcileLimiter(LIMIT);
+
+        List<NamespaceReconcileLimiter.Permit> busyPermits = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("busy").ifPresent(busyPermits::add);
+        }
+        Assertions.assertEquals(LIMIT, busyPermits.size());
+        Assertions.assertEquals(LIMIT, limiter.getInFlight("busy"));
+
+        Assertions.assertTrue(limiter.tryAcquire("quiet-1").isPresent());
+        Assertions.assertTrue(limiter.tryAcquire("quiet-2").isPresent());
+
+        busyPermits.getFirst().release();
+        busyPermits.getFirst().release();
+        Assertions.assertEquals(LIMIT - 1, limiter.getInFlight("busy"));
+        Assertions.assertTrue(limiter.tryAcquire("busy").isPresent());
+    }
+
+    @Test
+    public void concurrentReconciliationsAcrossNamespaces() throws Exception {
+        NamespaceReconcileLimiter limiter = new NamespaceReconcileLimiter(LIMIT);
+        List<String> namespaces = List.of("ns-a", "ns-b", "ns-c", "ns-d");
+        int instancesPerNamespace = 10;
+
+        Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+        Map<String, AtomicInteger> maxInFlight = new ConcurrentHashMap<>();
+        AtomicInteger reconciled = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String namespace : namespaces) {
+                inFlight.put(namespace, new AtomicInteger());
+                maxInFlight.put(namespace, new AtomicInteger());
+                for (int i = 0; i < instancesPerNamespace; i++) {
+                    futures.add(executor.submit(() -> {
+                        // A rejected reconciliation is rescheduled until it gets a permit
+                        Optional<NamespaceReconcileLimiter.Permit> permit;
+                        while ((permit = limiter.tryAcquire(namespace)).isEmpty()) {
+                            Thread.sleep(1);
+                        }
+                        try {
+                            int current = inFlight.get(namespace).incrementAndGet();
+                            maxInFlight.get(namespace).accumulateAndGet(current, Math::max);
+                            Thread.sleep(5);
+                            inFlight.get(namespace).decrementAndGet();
+                            reconciled.incrementAndGet();
+                        } finally {
+                            permit.get().release();
+                        }
+                        return null;
+                    }));
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(namespaces.size() * instancesPerNamespace, reconciled.get());
+        namespaces.forEach(namespace -> {
+            Assertions.assertTrue(maxInFlight.get(namespace).get() <= LIMIT, namespace);
+            Assertions.assertEquals(0, limiter.getInFlight(namespace), namespace);
+        });
+    }
+
+    @Test
+    public void saturatedNamespaceIsRescheduledWithoutRetry() {
+        for (int i = 0; i < LIMIT; i++) {
+            Trustify cr = TestFixtures.trustify("instance-" + i, "busy");
+            reconciler.initContext(cr, new TestContext(cr));
+        }
+
+        Trustify cr = TestFixtures.trustify("instance-" + LIMIT, "busy");
+        TestContext context = new TestContext(cr);
+        NamespaceReconcileLimiter.NamespaceSaturatedException e = Assertions.assertThrows(
+                NamespaceReconcileLimiter.NamespaceSaturatedException.class,
+                () -> reconciler.initContext(cr, context)
+        );
+
+        ErrorStatusUpdateControl<Trustify> control = reconciler.updateErrorStatus(cr, context, e);
+        Assertions.assertTrue(control.isNoRetry());
+        Assertions.assertTrue(control.getScheduleDelay().isPresent());
+        Assertions.assertTrue(control.getResource().isEmpty());
+        Assertions.assertEquals(LIMIT, reconciler.namespaceReconcileLimiter.getInFlight("busy"));
+
+        Trustify otherCr = TestFixtures.trustify("instance", "other");
+        Assertions.assertDoesNotThrow(() -> reconciler.initContext(otherCr, new TestContext(otherCr)));
+    }
+
+    @Test
+    public void permitIsReleasedOnEveryPath() {
+        Trustify cr = TestFixtures.trustify("instance", "ns");
+
+        // Workflow failed, JOSDK calls the error handler instead of reconcile
+        TestContext failedWorkflowContext = new TestContext(cr);
+        reconciler.initContext(cr, failedWorkflowContext);
+        Assertions.assertEquals(1, reconciler.namespaceReconcileLimiter.getInFlight("ns"));
+        ErrorStatusUpdateControl<Trustify> control = reconciler.updateErrorStatus(cr, failedWorkflowContext, new RuntimeException());
+        Assertions.assertFalse(control.isNoRetry());
+        Assertions.assertEquals(0, reconciler.namespaceReconcileLimiter.getInFlight("ns"));
+
+        // reconcile() throws, here because no workflow result was set
+        TestContext failedReconcileContext = new TestContext(cr);
+        reconciler.initContext(cr, failedReconcileContext);
+        Assertions.assertThrows(RuntimeException.class, () -> reconciler.reconcile(cr, failedReconcileContext));
+        Assertions.assertEquals(0, reconciler.namespaceReconcileLimiter.getInFlight("ns"));
+    }
+
+    @Test
+    public void deletionIsNeverHeldBack() {
+        for (int i = 0; i < LIMIT; i++) {
+            Trustify cr = TestFixtures.trustify("instance-" + i, "busy");
+            reconciler.initContext(cr, new TestContext(cr));
+        }
+
+        Trustify cr = TestFixtures.trustify("deleted", "busy");
+        cr.getMetadata().setDeletionTimestamp(Instant.now().toString());
+        TestContext context = new TestContext(cr);
+        Assertions.assertDoesNotThrow(() -> reconciler.initContext(cr, context));
+        Assertions.assertTrue(context.managedDependentResourceContext().get(Constants.CONTEXT_NAMESPACE_PERMIT_KEY, Object.class).isEmpty());
+    }
+}
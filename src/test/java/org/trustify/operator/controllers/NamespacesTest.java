@@ -0,0 +1,61 @@
+package org.trustify.operator.controllers;
+
+import io.fabric8.kubernetes.api.model.Namespace;
+import io.fabric8.kubernetes.api.model.NamespaceBuilder;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.quarkus.test.common.QuarkusTestResource;
+import io.quarkus.test.junit.QuarkusTest;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.controllers.setup.K3sResource;
+
+import java.util.concurrent.TimeUnit;
+
+@QuarkusTestResource(K3sResource.class)
+@QuarkusTest
+public class NamespacesTest extends ReconcilerBaseTest {
+
+    @Test
+    public void reconcileTwoNamespaces() throws InterruptedException {
+        // A namespace other than the one of the operator
+        Namespace otherNamespace = new NamespaceBuilder()
+                .withNewMetadata()
+                .withName(getNamespaceName() + "-other")
+                .endMetadata()
+                .build();
+        if (client.resource(otherNamespace).get() == null) {
+            client.resource(otherNamespace).create();
+        }
+
+        try {
+            final Trustify trustify = generateTrustify("namespaces");
+            createTrustify(trustify);
+
+            Trustify otherTrustify = new Trustify();
+            otherTrustify.setMetadata(new ObjectMetaBuilder()
+                    .withName("namespaces")
+                    .withNamespace(otherNamespace.getMetadata().getName())
+                    .build()
+            );
+            client.resource(otherTrustify).create();
+
+            // Both instances, with the same name, are reconciled
+            Awaitility.await()
+                    .ignoreException(NullPointerException.class)
+                    .atMost(5, TimeUnit.MINUTES)
+                    .untilAsserted(() -> {
+                        verifyDatabase(trustify);
+                        verifyTrustify(trustify);
+                        verifyUI(trustify);
+
+                        verifyDatabase(otherTrustify);
+                        verifyTrustify(otherTrustify);
+                        verifyUI(otherTrustify);
+                    });
+        } finally {
+            client.resource(otherNamespace).delete();
+        }
+    }
+
+}
@@ -39,6 +39,7 @@ public class OidcSpecTest extends ReconcilerBaseTest {
                 null,
                 null,
                 null,
+                null,
                 new TrustifySpec.OidcSpec(
                         false,
                         false,
@@ -48,6 +49,16 @@ public class OidcSpecTest extends ReconcilerBaseTest {
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
         ));
 
@@ -143,6 +154,7 @@ public class OidcSpecTest extends ReconcilerBaseTest {
                 null,
                 null,
                 null,
+                null,
                 new TrustifySpec.OidcSpec(
                         true,
                         true,
@@ -156,6 +168,16 @@ public class OidcSpecTest extends ReconcilerBaseTest {
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
         ));
 
@@ -227,6 +249,7 @@ public class OidcSpecTest extends ReconcilerBaseTest {
                 null,
                 null,
                 null,
+                null,
                 new TrustifySpec.OidcSpec(
                         true,
                         false,
@@ -236,6 +259,16 @@ public class OidcSpecTest extends ReconcilerBaseTest {
                 null,
                 null,
                 null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
                 null
         ));
 
@@ -26,7 +26,7 @@ import org.openqa.selenium.devtools.v85.network.Network;
 import org.trustify.operator.cdrs.v2alpha1.Trustify;
 import org.trustify.operator.cdrs.v2alpha1.importer.statefulset.ImporterStatefulSet;
 import org.trustify.operator.cdrs.v2alpha1.ingress.AppIngress;
-import org.trustify.operator.cdrs.v2alpha1.server.db.deployment.DBDeployment;
+import org.trustify.operator.cdrs.v2alpha1.server.db.statefulset.DBStatefulSet;
 import org.trustify.operator.cdrs.v2alpha1.server.db.service.DBService;
 import org.trustify.operator.cdrs.v2alpha1.server.deployment.ServerDeployment;
 import org.trustify.operator.cdrs.v2alpha1.server.service.ServerService;
@@ -182,12 +182,12 @@ public abstract class ReconcilerBaseTest {
 
     protected void verifyDatabase(Trustify cr) {
         // Database
-        final var dbDeployment = client.apps()
-                .deployments()
+        final var dbStatefulSet = client.apps()
+                .statefulSets()
                 .inNamespace(cr.getMetadata().getNamespace())
-                .withName(DBDeployment.getDeploymentName(cr))
+                .withName(DBStatefulSet.getStatefulSetName(cr))
                 .get();
-        final var dbContainer = dbDeployment.getSpec()
+        final var dbContainer = dbStatefulSet.getSpec()
                 .getTemplate()
                 .getSpec()
                 .getContainers()
@@ -196,7 +196,7 @@ public abstract class ReconcilerBaseTest {
         MatcherAssert.assertThat("DB container not found", dbContainer.isPresent(), Matchers.is(true));
         MatcherAssert.assertThat("DB container image not valid", dbContainer.get().getImage(), Matchers.is(dbImage));
 
-        Assertions.assertEquals(1, dbDeployment.getStatus().getReadyReplicas(), "Expected DB deployment number of replicas doesn't match");
+        Assertions.assertEquals(1, dbStatefulSet.getStatus().getReadyReplicas(), "Expected DB stateful set number of replicas doesn't match");
 
         // Database service
         final var dbService = client.services()
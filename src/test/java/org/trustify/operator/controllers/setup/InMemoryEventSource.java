@@ -0,0 +1,73 @@
+package org.trustify.operator.controllers.setup;
+
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.javaoperatorsdk.operator.api.config.informer.InformerConfiguration;
+import io.javaoperatorsdk.operator.processing.event.ResourceID;
+import io.javaoperatorsdk.operator.processing.event.source.informer.InformerEventSource;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Informer event source whose cache is filled by the test instead of a watch, so discriminators and
+ * conditions reading the informer caches can run without a cluster. The informer itself is never started.
+ */
+public class InMemoryEventSource<R extends HasMetadata> extends InformerEventSource<R, Trustify> {
+
+    private static final KubernetesClient NO_CLIENT = (KubernetesClient) Proxy.newProxyInstance(
+            InMemoryEventSource.class.getClassLoader(),
+            new Class[]{KubernetesClient.class},
+            (proxy, method, args) -> null
+    );
+
+    private final Map<ResourceID, R> resources = new ConcurrentHashMap<>();
+
+    public InMemoryEventSource(Class<R> resourceType) {
+        super(InformerConfiguration.from(resourceType).build(), NO_CLIENT);
+    }
+
+    public InMemoryEventSource<R> add(R resource) {
+        resources.put(ResourceID.fromResource(resource), resource);
+        return this;
+    }
+
+    public void remove(R resource) {
+        resources.remove(ResourceID.fromResource(resource));
+    }
+
+    @Override
+    public Optional<R> get(ResourceID resourceID) {
+        return Optional.ofNullable(resources.get(resourceID));
+    }
+
+    @Override
+    public Stream<ResourceID> keys() {
+        return resources.keySet().stream();
+    }
+
+    @Override
+    public Stream<R> list(Predicate<R> predicate) {
+        return resources.values().stream().filter(predicate);
+    }
+
+    @Override
+    public Stream<R> list(String namespace, Predicate<R> predicate) {
+        return list(predicate).filter(resource -> Objects.equals(resource.getMetadata().getNamespace(), namespace));
+    }
+
+    @Override
+    public Set<R> getSecondaryResources(Trustify cr) {
+        return list(cr.getMetadata().getNamespace(), resource -> resource.getMetadata().getOwnerReferences().stream()
+                .anyMatch(ownerReference -> Objects.equals(ownerReference.getUid(), cr.getMetadata().getUid()))
+        ).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,199 @@
+package org.trustify.operator.controllers.setup;
+
+import io.fabric8.kubernetes.api.model.ConfigMap;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.PersistentVolumeClaim;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.Service;
+import io.fabric8.kubernetes.api.model.apps.Deployment;
+import io.fabric8.kubernetes.api.model.apps.StatefulSet;
+import io.fabric8.kubernetes.api.model.autoscaling.v2.HorizontalPodAutoscaler;
+import io.fabric8.kubernetes.api.model.batch.v1.Job;
+import io.fabric8.kubernetes.api.model.networking.v1.Ingress;
+import io.fabric8.kubernetes.api.model.policy.v1.PodDisruptionBudget;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.javaoperatorsdk.operator.api.config.ConfigurationService;
+import io.javaoperatorsdk.operator.api.config.ControllerConfiguration;
+import io.javaoperatorsdk.operator.api.reconciler.Context;
+import io.javaoperatorsdk.operator.api.reconciler.EventSourceContext;
+import io.javaoperatorsdk.operator.api.reconciler.IndexedResourceCache;
+import io.javaoperatorsdk.operator.api.reconciler.ResourceDiscriminator;
+import io.javaoperatorsdk.operator.api.reconciler.RetryInfo;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.managed.DefaultManagedDependentResourceContext;
+import io.javaoperatorsdk.operator.api.reconciler.dependent.managed.ManagedDependentResourceContext;
+import io.javaoperatorsdk.operator.processing.event.EventSourceRetriever;
+import io.javaoperatorsdk.operator.processing.event.source.EventSource;
+import io.javaoperatorsdk.operator.processing.event.source.ResourceEventSource;
+import org.trustify.operator.Constants;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.controllers.DesiredStateCache;
+import org.trustify.operator.controllers.TrustifyReconciler;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
+/**
+ * Reconciliation context of a single Trustify CR backed by in-memory event sources registered under the same
+ * names as in {@link TrustifyReconciler#prepareEventSources}. No Kubernetes client is available, code paths
+ * writing to the cluster are exercised by the K3s tests.
+ */
+public class TestContext implements Context<Trustify> {
+
+    private static final KubernetesSerialization KUBERNETES_SERIALIZATION = new KubernetesSerialization();
+
+    private final Trustify cr;
+    private final ManagedDependentResourceContext managedDependentResourceContext = new DefaultManagedDependentResourceContext();
+    private final Map<String, InMemoryEventSource<?>> eventSources = new LinkedHashMap<>();
+
+    public TestContext(Trustify cr) {
+        this.cr = cr;
+        managedDependentResourceContext.put(Constants.CONTEXT_DESIRED_STATE_CACHE_KEY, DesiredStateCache.newCache());
+
+        eventSources.put(TrustifyReconciler.CONFIG_MAP_EVENT_SOURCE, new InMemoryEventSource<>(ConfigMap.class));
+        eventSources.put(TrustifyReconciler.PVC_EVENT_SOURCE, new InMemoryEventSource<>(PersistentVolumeClaim.class));
+        eventSources.put(TrustifyReconciler.SECRET_EVENT_SOURCE, new InMemoryEventSource<>(Secret.class));
+        eventSources.put(TrustifyReconciler.DEPLOYMENT_EVENT_SOURCE, new InMemoryEventSource<>(Deployment.class));
+        eventSources.put(TrustifyReconciler.SERVICE_EVENT_SOURCE, new InMemoryEventSource<>(Service.class));
+        eventSources.put(TrustifyReconciler.STATEFUL_SET_EVENT_SOURCE, new InMemoryEventSource<>(StatefulSet.class));
+        eventSources.put(TrustifyReconciler.HORIZONTAL_POD_AUTOSCALER_EVENT_SOURCE, new InMemoryEventSource<>(HorizontalPodAutoscaler.class));
+        eventSources.put(TrustifyReconciler.POD_DISRUPTION_BUDGET_EVENT_SOURCE, new InMemoryEventSource<>(PodDisruptionBudget.class));
+        eventSources.put(TrustifyReconciler.JOB_EVENT_SOURCE, new InMemoryEventSource<>(Job.class));
+        eventSources.put(TrustifyReconciler.INGRESS_EVENT_SOURCE, new InMemoryEventSource<>(Ingress.class));
+        eventSources.put(TrustifyReconciler.DB_POD_EVENT_SOURCE, new InMemoryEventSource<>(Pod.class));
+        // Registered by the reconciler once an instance enables the adaptive startup
+        eventSources.put(TrustifyReconciler.SERVER_POD_EVENT_SOURCE, new InMemoryEventSource<>(Pod.class));
+    }
+
+    /**
+     * Adds a resource to the caches of the event sources watching its type, as if the informers had received it.
+     */
+    public TestContext withResource(HasMetadata resource) {
+        List<InMemoryEventSource> matching = eventSources.values().stream()
+                .filter(item -> item.resourceType().equals(resource.getClass()))
+                .map(item -> (InMemoryEventSource) item)
+                .collect(Collectors.toList());
+        if (matching.isEmpty()) {
+            throw new IllegalArgumentException("No event source for " + resource.getKind());
+        }
+        matching.forEach(eventSource -> eventSource.add(resource));
+        return this;
+    }
+
+    private <R> List<ResourceEventSource<R, Trustify>> eventSourcesFor(Class<R> resourceType) {
+        return eventSources.values().stream()
+                .filter(eventSource -> eventSource.resourceType().equals(resourceType))
+                .map(eventSource -> (ResourceEventSource<R, Trustify>) (ResourceEventSource) eventSource)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<RetryInfo> getRetryInfo() {
+        return Optional.empty();
+    }
+
+    @Override
+    public <R> Set<R> getSecondaryResources(Class<R> expectedType) {
+        return eventSourcesFor(expectedType).stream()
+                .flatMap(eventSource -> eventSource.getSecondaryResources(cr).stream())
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public <R> Optional<R> getSecondaryResource(Class<R> expectedType, String eventSourceName) {
+        return eventSourceRetriever().getResourceEventSourceFor(expectedType, eventSourceName).getSecondaryResource(cr);
+    }
+
+    @Override
+    public <R> Optional<R> getSecondaryResource(Class<R> expectedType, ResourceDiscriminator<R, Trustify> discriminator) {
+        return discriminator.distinguish(expectedType, cr, this);
+    }
+
+    /**
+     * Only the field manager is available, as read by the server-side apply matcher.
+     */
+    @Override
+    public ControllerConfiguration<Trustify> getControllerConfiguration() {
+        return new ControllerConfiguration<>() {
+            @Override
+            public String fieldManager() {
+                return TrustifyReconciler.FIELD_MANAGER;
+            }
+
+            @Override
+            public String getAssociatedReconcilerClassName() {
+                return TrustifyReconciler.class.getName();
+            }
+
+            @Override
+            public ConfigurationService getConfigurationService() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    @Override
+    public ManagedDependentResourceContext managedDependentResourceContext() {
+        return managedDependentResourceContext;
+    }
+
+    @Override
+    public EventSourceRetriever<Trustify> eventSourceRetriever() {
+        return new EventSourceRetriever<>() {
+            @Override
+            public <R> ResourceEventSource<R, Trustify> getResourceEventSourceFor(Class<R> dependentType, String name) {
+                return Optional.ofNullable(eventSources.get(name))
+                        .filter(eventSource -> eventSource.resourceType().equals(dependentType))
+                        .map(eventSource -> (ResourceEventSource<R, Trustify>) (ResourceEventSource) eventSource)
+                        .orElseThrow(() -> new IllegalArgumentException("No event source named " + name + " for " + dependentType));
+            }
+
+            @Override
+            public <R> List<ResourceEventSource<R, Trustify>> getResourceEventSourcesFor(Class<R> dependentType) {
+                return eventSourcesFor(dependentType);
+            }
+
+            @Override
+            public EventSource dynamicallyRegisterEventSource(String name, EventSource eventSource) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public Optional<EventSource> dynamicallyDeRegisterEventSource(String name) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public EventSourceContext<Trustify> eventSourceContextForDynamicRegistration() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    /**
+     * Only the serialization is available, as read by the server-side apply matcher, code paths calling the API
+     * server fail.
+     */
+    @Override
+    public KubernetesClient getClient() {
+        return (KubernetesClient) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{KubernetesClient.class}, (proxy, method, args) -> {
+            if (method.getName().equals("getKubernetesSerialization")) {
+                return KUBERNETES_SERIALIZATION;
+            }
+            throw new UnsupportedOperationException("No Kubernetes client in unit tests");
+        });
+    }
+
+    @Override
+    public ExecutorService getWorkflowExecutorService() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public IndexedResourceCache<Trustify> getPrimaryCache() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -0,0 +1,223 @@
+package org.trustify.operator.controllers.setup;
+
+import io.fabric8.kubernetes.api.model.FieldsV1;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.utils.KubernetesSerialization;
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.trustify.operator.TrustifyConfig;
+import org.trustify.operator.TrustifyImagesConfig;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifySpec;
+import org.trustify.operator.cdrs.v2alpha1.server.utils.ServerUtils;
+import org.trustify.operator.controllers.TrustifyReconciler;
+import org.trustify.operator.utils.CRDUtils;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Synthetic CRs and hand-wired beans for the unit tests, no CDI container is started.
+ */
+public class TestFixtures {
+
+    public static Trustify trustify(String name, String namespace) {
+        return trustify(name, namespace, new TrustifySpec());
+    }
+
+    /**
+     * @param specYaml the spec as it would be written in the CR, e.g. {@code "serverReplicas: 2"}
+     */
+    public static Trustify trustify(String name, String namespace, String specYaml) {
+        return trustify(name, namespace, Serialization.unmarshal(specYaml, TrustifySpec.class));
+    }
+
+    public static Trustify trustify(String name, String namespace, TrustifySpec spec) {
+        Trustify cr = new Trustify();
+        cr.setMetadata(new ObjectMetaBuilder()
+                .withName(name)
+                .withNamespace(namespace)
+                .withUid(UUID.randomUUID().toString())
+                .withGeneration(1L)
+                .build()
+        );
+        cr.setSpec(spec);
+        return cr;
+    }
+
+    /**
+     * Only user provided TLS secrets, the OpenShift generated one would need a call to the cluster.
+     */
+    public static ServerUtils serverUtils() {
+        return new ServerUtils() {
+            @Override
+            public Optional<String> tlsSecretName(Trustify cr) {
+                return CRDUtils.getValueFromSubSpec(cr.getSpec().httpSpec(), TrustifySpec.HttpSpec::tlsSecret);
+            }
+        };
+    }
+
+    public static TrustifyConfig trustifyConfig() {
+        return new TrustifyConfig() {
+            @Override
+            public String defaultPvcSize() {
+                return "10G";
+            }
+
+            @Override
+            public String defaultRequestedCpu() {
+                return "50m";
+            }
+
+            @Override
+            public String defaultRequestedMemory() {
+                return "64Mi";
+            }
+
+            @Override
+            public String defaultLimitCpu() {
+                return "1";
+            }
+
+            @Override
+            public String defaultLimitMemory() {
+                return "512Mi";
+            }
+
+            @Override
+            public int maxConcurrentReconciliationsPerNamespace() {
+                return 10;
+            }
+
+            @Override
+            public boolean informersTrimMetadata() {
+                return true;
+            }
+
+            @Override
+            public int maxServerStartupSeconds() {
+                return 1800;
+            }
+
+            @Override
+            public Optional<KeycloakSubscriptionConfig> keycloakSubscriptionConfig() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Optional<KeycloakResources> keycloakResources() {
+                return Optional.empty();
+            }
+        };
+    }
+
+    public static TrustifyImagesConfig trustifyImagesConfig() {
+        return new TrustifyImagesConfig() {
+            @Override
+            public String uiImage() {
+                return "ghcr.io/trustification/trustify-ui:latest";
+            }
+
+            @Override
+            public String serverImage() {
+                return "ghcr.io/trustification/trustd:latest";
+            }
+
+            @Override
+            public String dbImage() {
+                return "quay.io/sclorg/postgresql-16-c9s:latest";
+            }
+
+            @Override
+            public String keycloak() {
+                return "ghcr.io/trustification/trustify-keycloak:latest";
+            }
+
+            @Override
+            public String pgbouncerImage() {
+                return "docker.io/bitnami/pgbouncer:1.23.1";
+            }
+
+            @Override
+            public String imagePullPolicy() {
+                return "Always";
+            }
+        };
+    }
+
+    /**
+     * Sets a field normally populated by CDI, looking it up in the class hierarchy of the target.
+     */
+    public static <T> T inject(T target, String fieldName, Object value) {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(fieldName);
+                field.setAccessible(true);
+                field.set(target, value);
+                return target;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException("No field " + fieldName + " in " + target.getClass());
+    }
+
+    /**
+     * Marks a live resource as created by the operator applying {@code applied}: the fields of {@code applied} are
+     * owned by the field manager of the operator, as in the managedFields returned by the API server.
+     */
+    public static <T extends HasMetadata> T appliedFrom(T actual, HasMetadata applied) {
+        Map<String, Object> appliedFields = new LinkedHashMap<>(new KubernetesSerialization().convertValue(applied, Map.class));
+        appliedFields.remove("apiVersion");
+        appliedFields.remove("kind");
+        appliedFields.remove("status");
+        Map<String, Object> metadata = (Map<String, Object>) appliedFields.get("metadata");
+        appliedFields.put("metadata", metadata.entrySet().stream()
+                .filter(entry -> Set.of("labels", "annotations", "ownerReferences").contains(entry.getKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue))
+        );
+
+        FieldsV1 fieldsV1 = new FieldsV1();
+        managedFields(appliedFields).forEach(fieldsV1::setAdditionalProperty);
+
+        ObjectMeta actualMetadata = actual.getMetadata();
+        actualMetadata.setUid(Optional.ofNullable(actualMetadata.getUid()).orElse(UUID.randomUUID().toString()));
+        actualMetadata.setGeneration(Optional.ofNullable(actualMetadata.getGeneration()).orElse(1L));
+        actualMetadata.setManagedFields(List.of(new ManagedFieldsEntryBuilder()
+                .withManager(TrustifyReconciler.FIELD_MANAGER)
+                .withOperation("Apply")
+                .withApiVersion(applied.getApiVersion())
+                .withFieldsType("FieldsV1")
+                .withFieldsV1(fieldsV1)
+                .build()
+        ));
+        return actual;
+    }
+
+    private static Map<String, Object> managedFields(Map<String, Object> fields) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        fields.forEach((key, value) -> {
+            if (value instanceof Map<?, ?> map) {
+                result.put("f:" + key, managedFields((Map<String, Object>) map));
+            } else if (value instanceof List<?> list && !list.isEmpty() && list.stream().allMatch(item -> item instanceof Map<?, ?> map && map.containsKey("name"))) {
+                // Lists merged by name, e.g. containers, env and volumes
+                Map<String, Object> items = new LinkedHashMap<>();
+                list.forEach(item -> {
+                    Map<String, Object> itemFields = managedFields((Map<String, Object>) item);
+                    itemFields.put(".", Map.of());
+                    items.put("k:{\"name\":\"" + ((Map<?, ?>) item).get("name") + "\"}", itemFields);
+                });
+                result.put("f:" + key, items);
+            } else {
+                result.put("f:" + key, Map.of());
+            }
+        });
+        return result;
+    }
+}
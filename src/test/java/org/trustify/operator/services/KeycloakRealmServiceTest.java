@@ -0,0 +1,88 @@
+package org.trustify.operator.services;
+
+import io.fabric8.kubernetes.client.utils.Serialization;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.Realm;
+import org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.realm.Clients;
+import org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.realm.ScopeMappings;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.controllers.setup.TestFixtures;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class KeycloakRealmServiceTest {
+
+    private KeycloakRealmService keycloakRealmService;
+
+    @BeforeEach
+    public void beforeEach() {
+        keycloakRealmService = new KeycloakRealmService();
+        keycloakRealmService.objectMapper = Serialization.jsonMapper();
+    }
+
+    private Realm realm(Trustify cr) {
+        return keycloakRealmService.newInstance(cr).getSpec().getRealm();
+    }
+
+    private static List<String> roleNames(Realm realm) {
+        return realm.getRoles().getRealm().stream()
+                .map(org.keycloak.k8s.v2alpha1.keycloakrealmimportspec.realm.roles.Realm::getName)
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, Clients> clients(Realm realm) {
+        return realm.getClients().stream()
+                .collect(Collectors.toMap(Clients::getClientId, client -> client));
+    }
+
+    @Test
+    public void defaultRealm() {
+        Realm realm = realm(TestFixtures.trustify("instance", "ns"));
+
+        Assertions.assertEquals(List.of("user", KeycloakRealmService.ADMIN_ROLE), roleNames(realm));
+        Assertions.assertTrue(realm.getScopeMappings().stream()
+                .anyMatch(mapping -> mapping.getClientScope().equals("read:document") && mapping.getRoles().contains("user")));
+        Assertions.assertEquals(List.of("frontend"), List.copyOf(clients(realm).keySet()));
+    }
+
+    @Test
+    public void customizedRealm() {
+        Trustify cr = TestFixtures.trustify("instance", "ns", """
+                oidc:
+                  enabled: true
+                  embedded:
+                    realm:
+                      roles:
+                        - {name: auditor, description: Reads the documents}
+                      clientScopes:
+                        - {name: "read:document", roles: [auditor]}
+                      clients:
+                        - {clientId: cli, publicClient: true, redirectUris: ["http://localhost/*"]}
+                        - {clientId: ci, publicClient: false, defaultClientScopes: ["read:document"]}
+                """);
+        Realm realm = realm(cr);
+
+        // The admin user needs its role
+        Assertions.assertEquals(List.of("auditor", KeycloakRealmService.ADMIN_ROLE), roleNames(realm));
+
+        Assertions.assertEquals(List.of("read:document"), realm.getScopeMappings().stream()
+                .map(ScopeMappings::getClientScope)
+                .filter(scope -> scope.endsWith(":document"))
+                .collect(Collectors.toList()));
+        Assertions.assertTrue(realm.getScopeMappings().stream()
+                .anyMatch(mapping -> mapping.getClientScope().equals("read:document") && mapping.getRoles().equals(List.of("auditor"))));
+
+        Map<String, Clients> clients = clients(realm);
+        Assertions.assertTrue(clients.containsKey("frontend"));
+        Assertions.assertEquals(List.of("http://localhost/*"), clients.get("cli").getRedirectUris());
+        Assertions.assertTrue(clients.get("cli").getPublicClient());
+        Assertions.assertTrue(clients.get("cli").getDefaultClientScopes().contains("read:document"));
+        Assertions.assertFalse(clients.get("ci").getPublicClient());
+        Assertions.assertEquals(List.of("read:document"), clients.get("ci").getDefaultClientScopes());
+        Assertions.assertEquals(List.of("*"), clients.get("ci").getRedirectUris());
+    }
+}
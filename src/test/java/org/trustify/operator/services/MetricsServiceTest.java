@@ -0,0 +1,77 @@
+package org.trustify.operator.services;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.trustify.operator.cdrs.v2alpha1.Trustify;
+import org.trustify.operator.cdrs.v2alpha1.TrustifyStatusCondition;
+import org.trustify.operator.controllers.setup.TestFixtures;
+
+import java.time.ZonedDateTime;
+
+public class MetricsServiceTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MetricsService metricsService;
+
+    @BeforeEach
+    public void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        metricsService = new MetricsService();
+        metricsService.meterRegistry = meterRegistry;
+        metricsService.init();
+    }
+
+    @Test
+    public void timeToSuccessfulIsRecordedOnce() {
+        Trustify cr = TestFixtures.trustify("metrics", "ns");
+        cr.getMetadata().setCreationTimestamp(ZonedDateTime.now().minusMinutes(5).toString());
+
+        setCondition(cr, TrustifyStatusCondition.PROCESSING);
+        metricsService.recordStatus(cr, false);
+        Assertions.assertEquals(0, getTimeToSuccessfulCount());
+
+        setCondition(cr, TrustifyStatusCondition.SUCCESSFUL);
+        metricsService.recordStatus(cr, false);
+        Assertions.assertEquals(1, getTimeToSuccessfulCount());
+
+        // Degraded or rolling out, then Successful again
+        setCondition(cr, TrustifyStatusCondition.DEGRADED);
+        metricsService.recordStatus(cr, true);
+        setCondition(cr, TrustifyStatusCondition.SUCCESSFUL);
+        metricsService.recordStatus(cr, false);
+        Assertions.assertEquals(1, getTimeToSuccessfulCount());
+    }
+
+    @Test
+    public void alreadySuccessfulInstanceIsNotRecorded() {
+        Trustify cr = TestFixtures.trustify("metrics", "ns");
+        cr.getMetadata().setCreationTimestamp(ZonedDateTime.now().minusDays(5).toString());
+
+        // First reconciliation after an operator restart
+        setCondition(cr, TrustifyStatusCondition.SUCCESSFUL);
+        metricsService.recordStatus(cr, true);
+
+        setCondition(cr, TrustifyStatusCondition.PROCESSING);
+        metricsService.recordStatus(cr, true);
+        setCondition(cr, TrustifyStatusCondition.SUCCESSFUL);
+        metricsService.recordStatus(cr, false);
+
+        Assertions.assertEquals(0, getTimeToSuccessfulCount());
+    }
+
+    private void setCondition(Trustify cr, String type) {
+        cr.getStatus().getConditions().clear();
+        TrustifyStatusCondition condition = new TrustifyStatusCondition();
+        condition.setType(type);
+        condition.setStatus(true);
+        cr.getStatus().setCondition(condition);
+    }
+
+    private long getTimeToSuccessfulCount() {
+        Timer timer = meterRegistry.find(MetricsService.TIME_TO_SUCCESSFUL).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}